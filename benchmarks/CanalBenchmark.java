@@ -0,0 +1,58 @@
+package benchmarks;
+
+import information.Information;
+import information.InformationNonConformeException;
+import org.openjdk.jmh.annotations.*;
+import transmetteurs.TransmetteurAnalogiqueBruite;
+import transmetteurs.TransmetteurAnalogiqueMultiTrajet;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transmetteurs du canal : ajout du bruit gaussien et des trajets multiples
+ * (convolution directe en deçà de 32 coefficients, par FFT au-delà).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CanalBenchmark {
+
+    @Param({"1000", "100000"})
+    public int taille;
+
+    @Param({"10", "30"})
+    public int nbEch;
+
+    @Param({"1", "4", "40"})
+    public int nbTrajets;
+
+    private Information<Float> signal;
+
+    private TransmetteurAnalogiqueBruite bruite;
+
+    private TransmetteurAnalogiqueMultiTrajet multiTrajet;
+
+    @Setup
+    public void preparer() throws InformationNonConformeException {
+        signal = Donnees.signal(taille, "NRZT", nbEch);
+        bruite = new TransmetteurAnalogiqueBruite(5.0, nbEch);
+        bruite.setGerme(Donnees.GERME);
+        bruite.setReutilisationTampon(true);
+        multiTrajet = new TransmetteurAnalogiqueMultiTrajet(Donnees.trajets(nbTrajets));
+    }
+
+    @Benchmark
+    public Information<Float> bruit() throws InformationNonConformeException {
+        bruite.recevoir(signal);
+        return bruite.getInformationEmise();
+    }
+
+    @Benchmark
+    public Information<Float> trajetsMultiples() throws InformationNonConformeException {
+        multiTrajet.recevoir(signal);
+        return multiTrajet.getInformationEmise();
+    }
+}
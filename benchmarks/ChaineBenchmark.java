@@ -0,0 +1,80 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import simulateur.ChaineTransmission;
+import simulateur.ResultatTEB;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chaîne complète (source, [codeur], émetteur, [trajets multiples], bruit, récepteur,
+ * [décodeur], destination) : en plus du nombre de messages par seconde, JMH rapporte
+ * les débits en bits par seconde et en échantillons par seconde (compteurs {@link Debits}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChaineBenchmark {
+
+    @Param({"100000"})
+    public int taille;
+
+    @Param({"NRZ", "NRZT", "RZ"})
+    public String modulation;
+
+    @Param({"10", "30"})
+    public int nbEch;
+
+    @Param({"0", "4"})
+    public int nbTrajets;
+
+    @Param({"false", "true"})
+    public boolean codeur;
+
+    private ChaineTransmission chaine;
+
+    private long germe = Donnees.GERME;
+
+    /**
+     * Les bits et les échantillons traités, rapportés par JMH en débits.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Debits {
+        public long bits;
+        public long echantillons;
+
+        @Setup(Level.Iteration)
+        public void reinitialiser() {
+            bits = 0;
+            echantillons = 0;
+        }
+    }
+
+    @Setup
+    public void preparer() {
+        ChaineTransmission.Constructeur constructeur = new ChaineTransmission.Constructeur()
+                .modulation(modulation)
+                .amplitudes(Donnees.AMIN, Donnees.AMAX)
+                .nbEchantillonsParBit(nbEch)
+                .tailleMessage(taille)
+                .snrParBit(5.0)
+                .codeur(codeur);
+        for (float[] trajet : Donnees.trajets(nbTrajets)) {
+            constructeur.trajetIndirect((int) trajet[0], trajet[1]);
+        }
+        chaine = constructeur.construire();
+    }
+
+    @Benchmark
+    public ResultatTEB executer(Debits debits) throws Exception {
+        chaine.setGerme(germe++);
+        ResultatTEB resultat = chaine.executer();
+        debits.bits += taille;
+        debits.echantillons += (long) taille * (codeur ? 3 : 1) * nbEch;
+        return resultat;
+    }
+}
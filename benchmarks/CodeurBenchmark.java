@@ -0,0 +1,54 @@
+package benchmarks;
+
+import information.BitInformation;
+import information.Information;
+import information.InformationNonConformeException;
+import org.openjdk.jmh.annotations.*;
+import transmetteurs.CodageEmission;
+import transmetteurs.DecodageReception;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Codage et décodage par répétition (1 bit pour 3).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodeurBenchmark {
+
+    @Param({"1000", "100000"})
+    public int taille;
+
+    private BitInformation message;
+
+    private Information<Boolean> code;
+
+    private CodageEmission codeur;
+
+    private DecodageReception decodeur;
+
+    @Setup
+    public void preparer() throws InformationNonConformeException {
+        message = Donnees.message(taille);
+        codeur = new CodageEmission();
+        decodeur = new DecodageReception();
+        codeur.recevoir(message);
+        code = codeur.getInformationEmise();
+    }
+
+    @Benchmark
+    public Information<Boolean> coder() throws InformationNonConformeException {
+        codeur.recevoir(message);
+        return codeur.getInformationEmise();
+    }
+
+    @Benchmark
+    public Information<Boolean> decoder() throws InformationNonConformeException {
+        decodeur.recevoir(code);
+        return decodeur.getInformationEmise();
+    }
+}
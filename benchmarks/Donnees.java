@@ -0,0 +1,61 @@
+package benchmarks;
+
+import information.BitInformation;
+import information.Information;
+import information.InformationNonConformeException;
+import sources.SourceAleatoire;
+import transmetteurs.Emetteur;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Données d'entrée communes aux benchmarks : messages, signaux et trajets,
+ * toujours générés avec le même germe pour que les mesures soient comparables
+ * d'un commit à l'autre.
+ */
+final class Donnees {
+
+    /** Le germe des messages. */
+    static final long GERME = 1;
+
+    /** Les amplitudes des signaux. */
+    static final float AMIN = -1.0f;
+    static final float AMAX = 1.0f;
+
+    private Donnees() {
+    }
+
+    /**
+     * @param taille La taille du message.
+     * @return Un message aléatoire.
+     */
+    static BitInformation message(int taille) {
+        return (BitInformation) new SourceAleatoire(taille, GERME).getInformationGeneree();
+    }
+
+    /**
+     * @param taille La taille du message.
+     * @param modulation La modulation (NRZ, NRZT, RZ).
+     * @param nbEch Le nombre d'échantillons par bit.
+     * @return Le signal émis pour un message aléatoire.
+     * @throws InformationNonConformeException si le message est vide.
+     */
+    static Information<Float> signal(int taille, String modulation, int nbEch) throws InformationNonConformeException {
+        Emetteur emetteur = new Emetteur(AMIN, AMAX, nbEch, modulation);
+        emetteur.recevoir(message(taille));
+        return emetteur.getInformationEmise();
+    }
+
+    /**
+     * @param nbTrajets Le nombre de trajets indirects.
+     * @return Des trajets indirects {dt, ar} de retards et d'atténuations croissants.
+     */
+    static List<float[]> trajets(int nbTrajets) {
+        List<float[]> trajets = new ArrayList<>();
+        for (int k = 1; k <= nbTrajets; k++) {
+            trajets.add(new float[]{7 * k, 0.5f / k});
+        }
+        return trajets;
+    }
+}
@@ -0,0 +1,47 @@
+package benchmarks;
+
+import information.BitInformation;
+import information.Information;
+import information.InformationNonConformeException;
+import org.openjdk.jmh.annotations.*;
+import transmetteurs.Emetteur;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Modulation d'un message par l'émetteur, pour chaque forme d'onde.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmetteurBenchmark {
+
+    @Param({"1000", "100000"})
+    public int taille;
+
+    @Param({"NRZ", "NRZT", "RZ"})
+    public String modulation;
+
+    @Param({"10", "30"})
+    public int nbEch;
+
+    private BitInformation message;
+
+    private Emetteur emetteur;
+
+    @Setup
+    public void preparer() {
+        message = Donnees.message(taille);
+        emetteur = new Emetteur(Donnees.AMIN, Donnees.AMAX, nbEch, modulation);
+        emetteur.setReutilisationTampon(true);
+    }
+
+    @Benchmark
+    public Information<Float> moduler() throws InformationNonConformeException {
+        emetteur.recevoir(message);
+        return emetteur.getInformationEmise();
+    }
+}
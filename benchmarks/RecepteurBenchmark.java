@@ -0,0 +1,45 @@
+package benchmarks;
+
+import information.Information;
+import information.InformationNonConformeException;
+import org.openjdk.jmh.annotations.*;
+import transmetteurs.Recepteur;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Démodulation d'un signal par le récepteur (filtre adapté), pour chaque forme d'onde.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecepteurBenchmark {
+
+    @Param({"1000", "100000"})
+    public int taille;
+
+    @Param({"NRZ", "NRZT", "RZ"})
+    public String modulation;
+
+    @Param({"10", "30"})
+    public int nbEch;
+
+    private Information<Float> signal;
+
+    private Recepteur recepteur;
+
+    @Setup
+    public void preparer() throws InformationNonConformeException {
+        signal = Donnees.signal(taille, modulation, nbEch);
+        recepteur = new Recepteur(Donnees.AMIN, Donnees.AMAX, nbEch, modulation);
+    }
+
+    @Benchmark
+    public Information<Boolean> demoduler() throws InformationNonConformeException {
+        recepteur.recevoir(signal);
+        return recepteur.getInformationEmise();
+    }
+}
@@ -0,0 +1,43 @@
+package benchmarks;
+
+import information.Information;
+import org.openjdk.jmh.annotations.*;
+import sources.SourceAleatoire;
+import sources.SourcePRBS;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Génération des messages par les sources aléatoire et PRBS.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SourceBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    public int taille;
+
+    private SourceAleatoire source;
+
+    private long germe = Donnees.GERME;
+
+    @Setup
+    public void preparer() {
+        source = new SourceAleatoire(0, Donnees.GERME);
+    }
+
+    @Benchmark
+    public Information<Boolean> aleatoire() {
+        source.regenerer(taille, germe++);
+        return source.getInformationGeneree();
+    }
+
+    @Benchmark
+    public Information<Boolean> prbs31() {
+        return new SourcePRBS(31, taille).getInformationGeneree();
+    }
+}
@@ -0,0 +1,31 @@
+import csv
+import json
+import sys
+
+# Compare deux fichiers de résultats JMH (format JSON, produits par ./runBenchmarks)
+# Usage : python3 benchmarks/comparer_benchmarks.py avant.json apres.json > comparaison.csv
+# Une ligne CSV par mesure (benchmark, paramètres, métrique) : scores, erreurs et rapport apres / avant
+
+
+def charger(fichier):
+    mesures = {}
+    with open(fichier) as f:
+        for resultat in json.load(f):
+            parametres = ';'.join(f'{nom}={valeur}' for nom, valeur in sorted(resultat.get('params', {}).items()))
+            metriques = {'': resultat['primaryMetric']}
+            metriques.update(resultat.get('secondaryMetrics', {}))
+            for nom, metrique in metriques.items():
+                mesures[(resultat['benchmark'], parametres, nom)] = (metrique['score'], metrique['scoreError'], metrique['scoreUnit'])
+    return mesures
+
+
+avant = charger(sys.argv[1])
+apres = charger(sys.argv[2])
+
+sortie = csv.writer(sys.stdout)
+sortie.writerow(['Benchmark', 'Parametres', 'Metrique', 'Unite', 'Score avant', 'Erreur avant', 'Score apres', 'Erreur apres', 'Rapport'])
+for cle in sorted(set(avant) | set(apres)):
+    score_avant, erreur_avant, unite = avant.get(cle, ('', '', ''))
+    score_apres, erreur_apres, unite = apres.get(cle, ('', '', unite))
+    rapport = f'{score_apres / score_avant:.3f}' if cle in avant and cle in apres and score_avant else ''
+    sortie.writerow([*cle, unite, score_avant, erreur_avant, score_apres, erreur_apres, rapport])
@@ -1,13 +1,14 @@
 import pandas as pd
 import matplotlib.pyplot as plt
 
-# Charger le fichier TXT
-file_path = 'bruit.txt'  # Remplacez par le chemin de votre fichier
-data = pd.read_csv(file_path, header=None, names=['Values'], dtype=float)  # Charger les données en tant que floats
+# Charger l'histogramme exporté par StatistiquesBruit
+file_path = 'bruit_histogramme.csv'  # Remplacez par le chemin de votre fichier
+data = pd.read_csv(file_path)  # Colonnes : Borne inf, Borne sup, Effectif
 
 # Créer l'histogramme
 plt.figure(figsize=(8, 6))
-plt.hist(data['Values'], bins=100, color='orange', edgecolor='black')
+plt.bar(data['Borne inf'], data['Effectif'], width=data['Borne sup'] - data['Borne inf'],
+        align='edge', color='orange', edgecolor='black')
 plt.title('Histogramme des valeurs continues')
 plt.xlabel('Valeurs du bruit')
 plt.ylabel('Fréquence d\'apparition')
@@ -17,4 +18,3 @@ plt.savefig('histogramme.png', dpi=300)
 
 # Afficher le graphique
 plt.show()
-
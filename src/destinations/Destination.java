@@ -15,12 +15,18 @@ public  abstract class Destination <T> implements DestinationInterface <T> {
      */
     protected Information <T>  informationRecue;
     
+    /** 
+     * l'information en cours de réception lorsqu'elle arrive en flux
+     */
+    protected Information <T>  informationFlux;
+    
     /** 
      * un constructeur factorisant les initialisations communes aux
      * réalisations de la classe abstraite Destination
      */
     public Destination() {
         informationRecue = null;
+        informationFlux = null;
     }
 
     /**
@@ -43,4 +49,34 @@ public  abstract class Destination <T> implements DestinationInterface <T> {
      * @throws InformationNonConformeException si l'Information comporte une anomalie
      */
     public  abstract void recevoir(Information <T> information) throws InformationNonConformeException;  
+
+    /**
+     * reçoit un bloc d'une information émise en flux ; les blocs sont
+     * concaténés jusqu'à la fin du flux
+     * @param bloc  le bloc d'information à recevoir
+     * @throws InformationNonConformeException si le bloc comporte une anomalie
+     */
+    public void recevoirBloc(Information <T> bloc) throws InformationNonConformeException {
+        if (bloc == null) {
+            throw new InformationNonConformeException("Le bloc reçu est nul.");
+        }
+        if (informationFlux == null) {
+            informationFlux = bloc.extraire(0, bloc.nbElements());
+        } else {
+            informationFlux.ajouter(bloc);
+        }
+    }
+
+    /**
+     * termine la réception d'une information émise en flux : l'information
+     * reconstituée est reçue comme si elle avait été émise en une fois
+     * @throws InformationNonConformeException si l'Information comporte une anomalie
+     */
+    public void terminerFlux() throws InformationNonConformeException {
+        Information <T> information = informationFlux;
+        informationFlux = null;
+        if (information != null) {
+            recevoir(information);
+        }
+    }
 }
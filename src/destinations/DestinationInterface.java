@@ -25,4 +25,23 @@ public  interface DestinationInterface <T>  {
      */
     public void recevoir(Information <T> information) throws InformationNonConformeException;
    
+    /**
+     * pour recevoir un bloc d'une information émise en flux par la
+     * source qui nous est connectée (par défaut, chaque bloc est reçu
+     * comme une information)
+     * @param bloc  le bloc d'information à recevoir
+     * @throws InformationNonConformeException si le bloc comporte des anomalies
+     */
+    public default void recevoirBloc(Information <T> bloc) throws InformationNonConformeException {
+        recevoir(bloc);
+    }
+   
+    /**
+     * pour être prévenu de la fin d'une information émise en flux
+     * (par défaut, rien n'est fait)
+     * @throws InformationNonConformeException si l'Information comporte des anomalies
+     */
+    public default void terminerFlux() throws InformationNonConformeException {
+    }
+   
 }
@@ -0,0 +1,174 @@
+package destinations;
+
+import information.BitInformation;
+import information.Information;
+import information.InformationNonConformeException;
+import sources.GenerateurPRBS;
+
+/**
+ * La classe DestinationPRBS mesure les erreurs d'une transmission dont la source
+ * est une séquence PRBS-n ({@code sources.SourcePRBS}) : la séquence de référence
+ * est régénérée au fil de la réception, avec le même ordre et le même germe, et
+ * comparée par mots de 64 bits aux bits reçus.
+ * <p>
+ * Les blocs reçus en flux ne sont pas conservés : le TEB peut être mesuré sur un
+ * flux de longueur quelconque en mémoire constante.  Les messages successifs sont
+ * considérés comme la suite de la même séquence (voir {@link #reinitialiser()}).
+ */
+public class DestinationPRBS extends Destination<Boolean> {
+
+    /** Le générateur de la séquence de référence. */
+    private final GenerateurPRBS reference;
+
+    /** Le nombre de bits comparés. */
+    private long nbBits = 0;
+
+    /** Le nombre de bits erronés. */
+    private long nbErreurs = 0;
+
+    /** Le nombre de rafales (suites maximales de bits erronés consécutifs). */
+    private long nbRafales = 0;
+
+    /** La longueur de la plus longue rafale. */
+    private long longueurMaxRafale = 0;
+
+    /** La longueur de la rafale en cours. */
+    private long rafaleEnCours = 0;
+
+    /** Le rang de la dernière erreur (-2 avant la première). */
+    private long derniereErreur = -2;
+
+    /**
+     * Construit une destination pour une source PRBS-n.
+     * @param ordre L'ordre n de la séquence (7, 15, 23 ou 31).
+     * @param germe Le germe du registre de la source.
+     */
+    public DestinationPRBS(int ordre, long germe) {
+        super();
+        reference = new GenerateurPRBS(ordre, germe);
+    }
+
+    /**
+     * Construit une destination pour une source PRBS-n dont le registre est initialisé à 1.
+     * @param ordre L'ordre n de la séquence (7, 15, 23 ou 31).
+     */
+    public DestinationPRBS(int ordre) {
+        this(ordre, 0);
+    }
+
+    /**
+     * Reçoit un message entier et compare ses bits à la suite de la séquence de référence.
+     * @param information L'information reçue.
+     * @throws InformationNonConformeException si l'information est vide ou nulle.
+     */
+    @Override
+    public void recevoir(Information<Boolean> information) throws InformationNonConformeException {
+        if (information == null || information.nbElements() == 0) {
+            throw new InformationNonConformeException("L'information est vide ou non conforme.");
+        }
+        comparer(information);
+        this.informationRecue = information;
+    }
+
+    /**
+     * Reçoit un bloc d'un flux et le compare à la suite de la séquence de référence,
+     * sans le conserver.
+     * @param bloc Le bloc reçu.
+     * @throws InformationNonConformeException si le bloc est nul.
+     */
+    @Override
+    public void recevoirBloc(Information<Boolean> bloc) throws InformationNonConformeException {
+        if (bloc == null) {
+            throw new InformationNonConformeException("Le bloc reçu est nul.");
+        }
+        comparer(bloc);
+    }
+
+    /**
+     * Termine un flux : les blocs ayant déjà été comparés, il n'y a rien à reconstituer.
+     */
+    @Override
+    public void terminerFlux() {
+        informationFlux = null;
+    }
+
+    /**
+     * Replace la séquence de référence à son début et remet les compteurs à zéro.
+     */
+    public void reinitialiser() {
+        reference.reinitialiser();
+        nbBits = 0;
+        nbErreurs = 0;
+        nbRafales = 0;
+        longueurMaxRafale = 0;
+        rafaleEnCours = 0;
+        derniereErreur = -2;
+        informationRecue = null;
+    }
+
+    /**
+     * Compare des bits reçus à la suite de la séquence de référence.
+     * @param information Les bits reçus.
+     */
+    private void comparer(Information<Boolean> information) {
+        BitInformation bits = BitInformation.depuis(information);
+        long[] mots = bits.getMots();
+        int n = bits.nbElements();
+        for (int k = 0; k < n; k += 64) {
+            int nombre = Math.min(64, n - k);
+            long recus = mots[k >>> 6];
+            if (nombre < 64) {
+                recus &= (1L << nombre) - 1;
+            }
+            long erreurs = recus ^ reference.suivants(nombre);
+            nbErreurs += Long.bitCount(erreurs);
+            for (long e = erreurs; e != 0; e &= e - 1) {
+                long rang = nbBits + k + Long.numberOfTrailingZeros(e);
+                if (rang == derniereErreur + 1) {
+                    rafaleEnCours++;
+                } else {
+                    nbRafales++;
+                    rafaleEnCours = 1;
+                }
+                longueurMaxRafale = Math.max(longueurMaxRafale, rafaleEnCours);
+                derniereErreur = rang;
+            }
+        }
+        nbBits += n;
+    }
+
+    /**
+     * @return Le nombre de bits comparés.
+     */
+    public long getNbBits() {
+        return nbBits;
+    }
+
+    /**
+     * @return Le nombre de bits erronés.
+     */
+    public long getNbErreurs() {
+        return nbErreurs;
+    }
+
+    /**
+     * @return Le nombre de rafales d'erreurs.
+     */
+    public long getNbRafales() {
+        return nbRafales;
+    }
+
+    /**
+     * @return La longueur de la plus longue rafale d'erreurs.
+     */
+    public long getLongueurMaxRafale() {
+        return longueurMaxRafale;
+    }
+
+    /**
+     * @return Le taux d'erreur binaire mesuré (0 si aucun bit n'a été reçu).
+     */
+    public double getTeb() {
+        return nbBits == 0 ? 0.0 : (double) nbErreurs / nbBits;
+    }
+}
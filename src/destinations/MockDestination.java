@@ -9,6 +9,7 @@ import information.Information;
  */
 public class MockDestination<T> implements DestinationInterface<T> {
     private Information<T> receivedInformation;
+    private Information<T> streamedInformation;
 
     /**
      * Constructor for MockDestination.
@@ -26,6 +27,30 @@ public class MockDestination<T> implements DestinationInterface<T> {
         this.receivedInformation = information;
     }
 
+    /**
+     * Receives a block of streamed information, appended to the blocks already received.
+     * @param bloc The block to be received.
+     */
+    @Override
+    public void recevoirBloc(Information<T> bloc) {
+        if (streamedInformation == null) {
+            streamedInformation = bloc.extraire(0, bloc.nbElements());
+        } else {
+            streamedInformation.ajouter(bloc);
+        }
+    }
+
+    /**
+     * Ends the stream: the concatenated blocks become the received information.
+     */
+    @Override
+    public void terminerFlux() {
+        if (streamedInformation != null) {
+            recevoir(streamedInformation);
+            streamedInformation = null;
+        }
+    }
+
     /**
      * Gets the received information.
      * @return The received information.
@@ -0,0 +1,307 @@
+package information;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * La classe BitInformation est une information logique dont les bits sont
+ * rangés par paquets de 64 dans un tableau de {@code long} (bit i dans le
+ * mot i / 64, à la position i % 64).
+ * Elle conserve l'API de {@link Information} mais évite de stocker un
+ * {@code Boolean} par élément.
+ */
+public class BitInformation extends Information<Boolean> {
+
+    /** les mots de 64 bits contenant l'information */
+    private long[] mots;
+
+    /** le nombre de bits valides de l'information */
+    private int nbBits;
+
+    /**
+     * pour construire une information logique vide
+     */
+    public BitInformation() {
+        this(64);
+    }
+
+    /**
+     * pour construire une information logique vide en réservant la place
+     * nécessaire à un nombre de bits donné
+     * @param capacite le nombre de bits prévus
+     */
+    public BitInformation(int capacite) {
+        super();
+        if (capacite < 0) {
+            throw new IllegalArgumentException("La capacité doit être positive ou nulle.");
+        }
+        this.mots = new long[Math.max(1, nbMots(capacite))];
+        this.nbBits = 0;
+    }
+
+    /**
+     * pour construire une information logique à partir d'un tableau de booléens
+     * @param bits le tableau de bits pour initialiser l'information construite
+     */
+    public BitInformation(boolean[] bits) {
+        this(bits.length);
+        for (int i = 0; i < bits.length; i++) {
+            if (bits[i]) {
+                mots[i >>> 6] |= 1L << i;
+            }
+        }
+        this.nbBits = bits.length;
+    }
+
+    /**
+     * pour construire une information logique à partir de mots déjà remplis.
+     * Le tableau n'est pas copié : l'information construite l'utilise directement.
+     * @param mots les mots de 64 bits (bit i dans le mot i / 64, à la position i % 64)
+     * @param nbBits le nombre de bits valides
+     */
+    public BitInformation(long[] mots, int nbBits) {
+        super();
+        if (nbBits < 0 || nbMots(nbBits) > mots.length) {
+            throw new IllegalArgumentException("Le nombre de bits ne correspond pas au tableau de mots.");
+        }
+        this.mots = mots;
+        this.nbBits = nbBits;
+    }
+
+    /**
+     * pour obtenir une BitInformation à partir d'une information logique quelconque.
+     * Si l'information est déjà une BitInformation, elle est renvoyée telle quelle,
+     * sinon ses éléments sont recopiés.
+     * @param information l'information logique à convertir
+     * @return une BitInformation contenant les mêmes bits
+     */
+    public static BitInformation depuis(Information<Boolean> information) {
+        if (information instanceof BitInformation) {
+            return (BitInformation) information;
+        }
+        int n = information.nbElements();
+        BitInformation bits = new BitInformation(n);
+        for (int i = 0; i < n; i++) {
+            bits.addBit(information.iemeElement(i));
+        }
+        return bits;
+    }
+
+    /**
+     * pour calculer le nombre de mots de 64 bits nécessaires à un nombre de bits
+     * @param nbBits le nombre de bits
+     * @return le nombre de mots
+     */
+    public static int nbMots(int nbBits) {
+        return (nbBits + 63) >>> 6;
+    }
+
+    @Override
+    public int nbElements() {
+        return nbBits;
+    }
+
+    @Override
+    public Boolean iemeElement(int i) {
+        return getBit(i);
+    }
+
+    @Override
+    public void setIemeElement(int i, Boolean v) {
+        setBit(i, v);
+    }
+
+    @Override
+    public void add(Boolean valeur) {
+        addBit(valeur);
+    }
+
+    /**
+     * pour renvoyer un bit de l'information
+     * @param i le rang du bit à renvoyer (à partir de 0)
+     * @return le ieme bit de l'information
+     */
+    public boolean getBit(int i) {
+        Objects.checkIndex(i, nbBits);
+        return (mots[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * pour modifier un bit de l'information
+     * @param i le rang du bit à modifier (à partir de 0)
+     * @param bit la nouvelle valeur du bit
+     */
+    public void setBit(int i, boolean bit) {
+        Objects.checkIndex(i, nbBits);
+        if (bit) {
+            mots[i >>> 6] |= 1L << i;
+        } else {
+            mots[i >>> 6] &= ~(1L << i);
+        }
+    }
+
+    /**
+     * pour ajouter un bit à la fin de l'information
+     * @param bit le bit à rajouter
+     */
+    public void addBit(boolean bit) {
+        if (nbMots(nbBits + 1) > mots.length) {
+            mots = Arrays.copyOf(mots, Math.max(2 * mots.length, nbMots(nbBits + 1)));
+        }
+        if (bit) {
+            mots[nbBits >>> 6] |= 1L << nbBits;
+        } else {
+            mots[nbBits >>> 6] &= ~(1L << nbBits);
+        }
+        nbBits++;
+    }
+
+    /**
+     * pour ajouter à la fin de l'information une suite de bits rangés dans des mots de 64 bits
+     * @param source les mots contenant les bits à rajouter
+     * @param debut le rang du premier bit à rajouter dans source
+     * @param nombre le nombre de bits à rajouter
+     */
+    public void ajouterBits(long[] source, int debut, int nombre) {
+        if (nbMots(nbBits + nombre) > mots.length) {
+            mots = Arrays.copyOf(mots, Math.max(2 * mots.length, nbMots(nbBits + nombre)));
+        }
+        for (int k = 0; k < nombre; k += 64) {
+            int n = Math.min(64, nombre - k);
+            long valeur = lireMot(source, debut + k);
+            if (n < 64) {
+                valeur &= (1L << n) - 1;
+            }
+            ecrireBits(nbBits + k, valeur, n);
+        }
+        nbBits += nombre;
+    }
+
+    @Override
+    public void ajouter(Information<Boolean> information) {
+        if (information instanceof BitInformation) {
+            BitInformation bits = (BitInformation) information;
+            ajouterBits(bits.mots, 0, bits.nbBits);
+        } else {
+            super.ajouter(information);
+        }
+    }
+
+    @Override
+    public BitInformation extraire(int debut, int nombre) {
+        Objects.checkFromIndexSize(debut, nombre, nbBits);
+        BitInformation extrait = new BitInformation(nombre);
+        extrait.ajouterBits(mots, debut, nombre);
+        return extrait;
+    }
+
+    /**
+     * pour lire les 64 bits commençant à une position donnée
+     * (les bits au-delà du tableau sont lus à 0)
+     * @param mots les mots de 64 bits
+     * @param position le rang du premier bit à lire
+     * @return le mot lu
+     */
+    private static long lireMot(long[] mots, int position) {
+        int m = position >>> 6;
+        int d = position & 63;
+        long valeur = mots[m] >>> d;
+        if (d != 0 && m + 1 < mots.length) {
+            valeur |= mots[m + 1] << (64 - d);
+        }
+        return valeur;
+    }
+
+    /**
+     * pour écrire n bits (n &lt;= 64) à partir d'une position donnée
+     * @param position le rang du premier bit à écrire
+     * @param valeur les bits à écrire (seuls les n bits de poids faible sont non nuls)
+     * @param n le nombre de bits à écrire
+     */
+    private void ecrireBits(int position, long valeur, int n) {
+        int m = position >>> 6;
+        int d = position & 63;
+        long masque = n == 64 ? -1L : (1L << n) - 1;
+        mots[m] = (mots[m] & ~(masque << d)) | (valeur << d);
+        if (d != 0 && d + n > 64) {
+            mots[m + 1] = (mots[m + 1] & ~(masque >>> (64 - d))) | (valeur >>> (64 - d));
+        }
+    }
+
+    /**
+     * pour accéder directement aux mots de 64 bits de l'information.
+     * Seuls les {@link #nbElements()} premiers bits sont significatifs.
+     * @return le tableau de mots (non copié)
+     */
+    public long[] getMots() {
+        return mots;
+    }
+
+    /**
+     * pour comparer l'information courante avec une autre information
+     * @param o l'information avec laquelle se comparer
+     * @return "true" si les 2 informations contiennent les mêmes
+     * éléments aux mêmes places; "false" dans les autres cas
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof BitInformation)) {
+            return super.equals(o);
+        }
+        BitInformation autre = (BitInformation) o;
+        if (nbBits != autre.nbBits) {
+            return false;
+        }
+        int nbMotsComplets = nbBits >>> 6;
+        for (int m = 0; m < nbMotsComplets; m++) {
+            if (mots[m] != autre.mots[m]) {
+                return false;
+            }
+        }
+        int reste = nbBits & 63;
+        if (reste == 0) {
+            return true;
+        }
+        long masque = (1L << reste) - 1;
+        return ((mots[nbMotsComplets] ^ autre.mots[nbMotsComplets]) & masque) == 0;
+    }
+
+    /**
+     * pour obtenir le code de hachage de l'information, égal à celui de
+     * {@link Information#hashCode()} pour les mêmes bits
+     * @return le code de hachage calculé sur les bits
+     */
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = 0; i < nbBits; i++) {
+            h = 31 * h + Boolean.hashCode(((mots[i >>> 6] >>> i) & 1) != 0);
+        }
+        return h;
+    }
+
+    /**
+     * pour utilisation du "for each"
+     */
+    @Override
+    public Iterator<Boolean> iterator() {
+        return new Iterator<Boolean>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < nbBits;
+            }
+
+            @Override
+            public Boolean next() {
+                if (i >= nbBits) {
+                    throw new NoSuchElementException();
+                }
+                return getBit(i++);
+            }
+        };
+    }
+}
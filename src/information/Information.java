@@ -63,6 +63,30 @@ public  class Information <T>  implements Iterable <T> {
         this.content.add(valeur);
     }
    
+    /**
+     * pour ajouter à la fin de l'information tous les éléments d'une autre information
+     * @param information  l'information dont les éléments sont à rajouter
+     */
+    public void ajouter(Information <T> information) {
+        for (int i = 0; i < information.nbElements(); i++) {
+                this.add(information.iemeElement(i));
+        }
+    }
+   
+    /**
+     * pour extraire une partie de l'information dans une nouvelle information
+     * @param debut  le rang du premier élément à extraire (à partir de 0)
+     * @param nombre  le nombre d'éléments à extraire
+     * @return une nouvelle information contenant les éléments extraits
+     */
+    public Information <T> extraire(int debut, int nombre) {
+        Objects.checkFromIndexSize(debut, nombre, this.nbElements());
+        Information <T> extrait = new Information <T> ();
+        for (int i = 0; i < nombre; i++) {
+                extrait.add(this.iemeElement(debut + i));
+        }
+        return extrait;
+    }
    
     /**
      * pour comparer l'information courante avec une autre information
@@ -83,6 +107,22 @@ public  class Information <T>  implements Iterable <T> {
         }
         return true;
     }
+
+    /**
+     * pour obtenir le code de hachage de l'information, cohérent avec {@link #equals} :
+     * il ne dépend que des éléments et de leur ordre (comme celui d'une liste), si bien
+     * que deux informations égales de classes différentes ont le même code
+     * @return le code de hachage calculé sur les éléments
+     */
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = 0; i < this.nbElements(); i++) {
+            T element = this.iemeElement(i);
+            h = 31 * h + (element == null ? 0 : element.hashCode());
+        }
+        return h;
+    }
    
     /**
      * pour afficher une information
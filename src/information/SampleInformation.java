@@ -0,0 +1,218 @@
+package information;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * La classe SampleInformation est une information analogique dont les
+ * échantillons sont rangés dans un tableau de {@code float}.
+ * Elle conserve l'API de {@link Information} mais évite de stocker un
+ * {@code Float} par échantillon.
+ */
+public class SampleInformation extends Information<Float> {
+
+    /** les échantillons de l'information */
+    private float[] echantillons;
+
+    /** le nombre d'échantillons valides de l'information */
+    private int nbEchantillons;
+
+    /**
+     * pour construire une information analogique vide
+     */
+    public SampleInformation() {
+        this(16);
+    }
+
+    /**
+     * pour construire une information analogique vide en réservant la place
+     * nécessaire à un nombre d'échantillons donné
+     * @param capacite le nombre d'échantillons prévus
+     */
+    public SampleInformation(int capacite) {
+        super();
+        if (capacite < 0) {
+            throw new IllegalArgumentException("La capacité doit être positive ou nulle.");
+        }
+        this.echantillons = new float[Math.max(1, capacite)];
+        this.nbEchantillons = 0;
+    }
+
+    /**
+     * pour construire une information analogique à partir d'échantillons déjà calculés.
+     * Le tableau n'est pas copié : l'information construite l'utilise directement.
+     * @param echantillons le tableau d'échantillons
+     * @param nbEchantillons le nombre d'échantillons valides
+     */
+    public SampleInformation(float[] echantillons, int nbEchantillons) {
+        super();
+        if (nbEchantillons < 0 || nbEchantillons > echantillons.length) {
+            throw new IllegalArgumentException("Le nombre d'échantillons ne correspond pas au tableau.");
+        }
+        this.echantillons = echantillons;
+        this.nbEchantillons = nbEchantillons;
+    }
+
+    /**
+     * pour obtenir une SampleInformation à partir d'une information analogique quelconque.
+     * Si l'information est déjà une SampleInformation, elle est renvoyée telle quelle,
+     * sinon ses éléments sont recopiés.
+     * @param information l'information analogique à convertir
+     * @return une SampleInformation contenant les mêmes échantillons
+     */
+    public static SampleInformation depuis(Information<Float> information) {
+        if (information instanceof SampleInformation) {
+            return (SampleInformation) information;
+        }
+        int n = information.nbElements();
+        float[] tableau = new float[n];
+        for (int i = 0; i < n; i++) {
+            tableau[i] = information.iemeElement(i);
+        }
+        return new SampleInformation(tableau, n);
+    }
+
+    @Override
+    public int nbElements() {
+        return nbEchantillons;
+    }
+
+    @Override
+    public Float iemeElement(int i) {
+        return getEchantillon(i);
+    }
+
+    @Override
+    public void setIemeElement(int i, Float v) {
+        setEchantillon(i, v);
+    }
+
+    @Override
+    public void add(Float valeur) {
+        addEchantillon(valeur);
+    }
+
+    /**
+     * pour renvoyer un échantillon de l'information
+     * @param i le rang de l'échantillon à renvoyer (à partir de 0)
+     * @return le ieme échantillon de l'information
+     */
+    public float getEchantillon(int i) {
+        Objects.checkIndex(i, nbEchantillons);
+        return echantillons[i];
+    }
+
+    /**
+     * pour modifier un échantillon de l'information
+     * @param i le rang de l'échantillon à modifier (à partir de 0)
+     * @param v la nouvelle valeur de l'échantillon
+     */
+    public void setEchantillon(int i, float v) {
+        Objects.checkIndex(i, nbEchantillons);
+        echantillons[i] = v;
+    }
+
+    /**
+     * pour ajouter un échantillon à la fin de l'information
+     * @param v l'échantillon à rajouter
+     */
+    public void addEchantillon(float v) {
+        if (nbEchantillons == echantillons.length) {
+            echantillons = Arrays.copyOf(echantillons, 2 * echantillons.length);
+        }
+        echantillons[nbEchantillons++] = v;
+    }
+
+    /**
+     * pour ajouter à la fin de l'information une partie d'un tableau d'échantillons
+     * @param source le tableau contenant les échantillons à rajouter
+     * @param debut le rang du premier échantillon à rajouter dans source
+     * @param nombre le nombre d'échantillons à rajouter
+     */
+    public void ajouterEchantillons(float[] source, int debut, int nombre) {
+        if (nbEchantillons + nombre > echantillons.length) {
+            echantillons = Arrays.copyOf(echantillons, Math.max(2 * echantillons.length, nbEchantillons + nombre));
+        }
+        System.arraycopy(source, debut, echantillons, nbEchantillons, nombre);
+        nbEchantillons += nombre;
+    }
+
+    @Override
+    public void ajouter(Information<Float> information) {
+        if (information instanceof SampleInformation) {
+            SampleInformation autre = (SampleInformation) information;
+            ajouterEchantillons(autre.echantillons, 0, autre.nbEchantillons);
+        } else {
+            super.ajouter(information);
+        }
+    }
+
+    @Override
+    public SampleInformation extraire(int debut, int nombre) {
+        Objects.checkFromIndexSize(debut, nombre, nbEchantillons);
+        return new SampleInformation(Arrays.copyOfRange(echantillons, debut, debut + nombre), nombre);
+    }
+
+    /**
+     * pour accéder directement au tableau d'échantillons de l'information.
+     * Seuls les {@link #nbElements()} premiers échantillons sont significatifs.
+     * @return le tableau d'échantillons (non copié)
+     */
+    public float[] getEchantillons() {
+        return echantillons;
+    }
+
+    /**
+     * pour comparer l'information courante avec une autre information
+     * @param o l'information avec laquelle se comparer
+     * @return "true" si les 2 informations contiennent les mêmes
+     * éléments aux mêmes places; "false" dans les autres cas
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof SampleInformation)) {
+            return super.equals(o);
+        }
+        SampleInformation autre = (SampleInformation) o;
+        return Arrays.equals(echantillons, 0, nbEchantillons, autre.echantillons, 0, autre.nbEchantillons);
+    }
+
+    /**
+     * pour obtenir le code de hachage de l'information, égal à celui de
+     * {@link Information#hashCode()} pour les mêmes échantillons
+     * @return le code de hachage calculé sur les échantillons
+     */
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = 0; i < nbEchantillons; i++) {
+            h = 31 * h + Float.hashCode(echantillons[i]);
+        }
+        return h;
+    }
+
+    /**
+     * pour utilisation du "for each"
+     */
+    @Override
+    public Iterator<Float> iterator() {
+        return new Iterator<Float>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < nbEchantillons;
+            }
+
+            @Override
+            public Float next() {
+                if (i >= nbEchantillons) {
+                    throw new NoSuchElementException();
+                }
+                return echantillons[i++];
+            }
+        };
+    }
+}
@@ -0,0 +1,643 @@
+package simulateur;
+
+import destinations.DestinationFinale;
+import destinations.DestinationInterface;
+import information.BitInformation;
+import information.Information;
+import sources.SourceAleatoire;
+import transmetteurs.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * La classe ChaineTransmission est une chaîne de transmission analogique construite
+ * une seule fois, à l'aide d'un {@link Constructeur}, puis exécutée autant de fois
+ * que nécessaire.  Le SNR, le germe, le nombre d'échantillons par bit et la taille
+ * du message peuvent être modifiés entre deux exécutions sans reconstruire la source
+ * ni les transmetteurs, et les tableaux d'échantillons sont réutilisés d'une exécution
+ * à l'autre.  Avec les mêmes paramètres, une exécution donne le même résultat qu'un
+ * {@link Simulateur} construit avec les options correspondantes.
+ * <p>
+ * Une chaîne n'est pas partagée entre threads : chaque thread utilise la sienne.
+ * Plusieurs chaînes peuvent en revanche cumuler leurs mesures dans la même
+ * {@link Instrumentation} ({@link Constructeur#instrumentation}).
+ * <p>
+ * En échantillonnage d'importance ({@link Constructeur#echantillonnageImportance}),
+ * {@link #executerPondere()} pondère chaque erreur par le rapport de vraisemblance
+ * du bruit de son bit, pour estimer les TEB trop faibles pour être observés directement.
+ * <p>
+ * En NRZ et RZ sans trajets multiples, la chaîne peut remplacer l'émetteur, le canal
+ * bruité et le récepteur par leur modèle binaire équivalent
+ * ({@link Constructeur#modeleBinaire}) : un tirage gaussien par bit au lieu d'un par
+ * échantillon, pour des résultats de même loi.  Les autres chaînes peuvent être
+ * fusionnées ({@link Constructeur#fusion}) : l'émetteur, le canal et le récepteur
+ * traitent alors le message bloc par bloc en une seule boucle, pour les mêmes résultats.
+ */
+public class ChaineTransmission {
+
+    /** Le type de modulation (NRZ, NRZT, RZ). */
+    private final String typeModulation;
+
+    /** L'amplitude du signal analogique pour représenter un bit '0'. */
+    private final float Amin;
+
+    /** L'amplitude du signal analogique pour représenter un bit '1'. */
+    private final float Amax;
+
+    /** Le nombre d'échantillons par bit. */
+    private int nbEchantillonsParBit;
+
+    /** Le nombre de bits du message aléatoire. */
+    private int tailleMessage;
+
+    /** Le germe de la transmission, dont sont dérivés ceux de la source et du bruit (null : non reproductibles). */
+    private Long germe;
+
+    /** Le SNR par bit en dB (null si le canal n'est pas bruité). */
+    private Double snrParBit;
+
+    /** Le décalage du bruit vers le seuil en échantillonnage d'importance (null : désactivé). */
+    private final Double decalageImportance;
+
+    /** La source du message aléatoire. */
+    private final SourceAleatoire source;
+
+    /** Le codeur (null si la chaîne n'utilise pas de codeur). */
+    private final CodageEmission codeur;
+
+    /** Le décodeur (null si la chaîne n'utilise pas de codeur). */
+    private final DecodageReception decodeur;
+
+    /** Le premier transmetteur analogique du canal. */
+    private final Transmetteur<Float, Float> entreeCanal;
+
+    /** Le dernier transmetteur analogique du canal. */
+    private final Transmetteur<Float, Float> sortieCanal;
+
+    /** Le transmetteur bruité du canal (null si le canal n'est pas bruité). */
+    private final TransmetteurAnalogiqueBruite transmetteurBruite;
+
+    /** La destination finale. */
+    private final DestinationFinale destination;
+
+    /** L'émetteur, reconstruit lorsque le nombre d'échantillons par bit change. */
+    private Emetteur emetteur;
+
+    /** Le récepteur, reconstruit lorsque le nombre d'échantillons par bit change. */
+    private Recepteur recepteur;
+
+    /** L'instrumentation des étages de la chaîne (null : pas de mesure). */
+    private final Instrumentation instrumentation;
+
+    /** true si l'émetteur, le canal bruité et le récepteur sont remplacés par leur modèle binaire équivalent. */
+    private final boolean modeleBinaire;
+
+    /** Le modèle binaire équivalent, reconstruit lorsque le nombre d'échantillons par bit change (null sans modèle binaire). */
+    private TransmetteurBinaireEquivalent transmetteurBinaire;
+
+    /** La réponse impulsionnelle du canal fusionné et de la grille de SNR (null sans trajets multiples). */
+    private final ReponseImpulsionnelle reponseImpulsionnelle;
+
+    /** true si l'émetteur, le canal et le récepteur sont fusionnés en un seul transmetteur. */
+    private final boolean fusion;
+
+    /** La chaîne fusionnée, reconstruite lorsque le nombre d'échantillons par bit change (null sans fusion). */
+    private TransmetteurFusionne transmetteurFusionne;
+
+    /** La chaîne fusionnée de la grille de SNR, construite à la première exécution sur une grille. */
+    private TransmetteurFusionne transmetteurGrille;
+
+    /** La destination connectée devant l'émetteur (l'émetteur, le modèle binaire, la chaîne fusionnée ou son étage mesuré). */
+    private DestinationInterface<Boolean> entreeEmetteur;
+
+    /** La destination connectée devant le récepteur (le récepteur ou son étage mesuré). */
+    private DestinationInterface<Float> entreeRecepteur;
+
+    private ChaineTransmission(Constructeur constructeur) {
+        this.typeModulation = constructeur.typeModulation;
+        this.Amin = constructeur.Amin;
+        this.Amax = constructeur.Amax;
+        this.nbEchantillonsParBit = constructeur.nbEchantillonsParBit;
+        this.tailleMessage = constructeur.tailleMessage;
+        this.germe = constructeur.germe;
+        this.snrParBit = constructeur.snrParBit;
+        this.decalageImportance = constructeur.decalageImportance;
+        this.instrumentation = constructeur.instrumentation;
+        this.modeleBinaire = constructeur.modeleBinaire && snrParBit != null && decalageImportance == null
+                && constructeur.trajetsIndirects.isEmpty() && !"NRZT".equals(typeModulation);
+        this.fusion = constructeur.fusion && !modeleBinaire && decalageImportance == null;
+
+        source = new SourceAleatoire(0, null);
+        destination = new DestinationFinale();
+        if (constructeur.codeur) {
+            codeur = new CodageEmission();
+            decodeur = new DecodageReception();
+            source.connecter(etage("Codeur", codeur));
+            decodeur.connecter(etage("Destination", destination));
+        } else {
+            codeur = null;
+            decodeur = null;
+        }
+
+        // Canal : trajets multiples puis bruit, ou transmetteur parfait s'il n'y a ni l'un ni l'autre
+        TransmetteurAnalogiqueMultiTrajet multiTrajet = constructeur.trajetsIndirects.isEmpty()
+                ? null : new TransmetteurAnalogiqueMultiTrajet(constructeur.trajetsIndirects);
+        if (decalageImportance != null && snrParBit == null) {
+            throw new IllegalArgumentException("L'échantillonnage d'importance nécessite un canal bruité.");
+        }
+        if (snrParBit != null) {
+            transmetteurBruite = new TransmetteurAnalogiqueBruite(snr(), nbEchantillonsParBit);
+            transmetteurBruite.setReutilisationTampon(true);
+        } else {
+            transmetteurBruite = null;
+        }
+        if (multiTrajet != null) {
+            entreeCanal = multiTrajet;
+            sortieCanal = transmetteurBruite != null ? transmetteurBruite : multiTrajet;
+            if (transmetteurBruite != null) {
+                multiTrajet.connecter(etage("Bruit", transmetteurBruite));
+            }
+        } else if (transmetteurBruite != null) {
+            entreeCanal = transmetteurBruite;
+            sortieCanal = transmetteurBruite;
+        } else {
+            entreeCanal = new TransmetteurAnalogiqueParfait();
+            sortieCanal = entreeCanal;
+        }
+        reponseImpulsionnelle = multiTrajet != null ? ReponseImpulsionnelle.depuisTrajets(constructeur.trajetsIndirects) : null;
+
+        construireModulation();
+    }
+
+    /**
+     * Construit l'émetteur et le récepteur (ou le modèle binaire équivalent) pour le nombre
+     * d'échantillons par bit courant et les insère dans la chaîne à la place des précédents.
+     */
+    private void construireModulation() {
+        transmetteurGrille = null;
+        if (entreeEmetteur != null) {
+            if (codeur != null) {
+                codeur.deconnecter(entreeEmetteur);
+            } else {
+                source.deconnecter(entreeEmetteur);
+            }
+            if (entreeRecepteur != null) {
+                sortieCanal.deconnecter(entreeRecepteur);
+            }
+        }
+        if (modeleBinaire) {
+            transmetteurBinaire = new TransmetteurBinaireEquivalent(Amin, Amax, nbEchantillonsParBit, typeModulation, snr());
+            connecterBinaire("Canal binaire", transmetteurBinaire);
+            return;
+        }
+        if (fusion) {
+            transmetteurFusionne = new TransmetteurFusionne(Amin, Amax, nbEchantillonsParBit, typeModulation,
+                    reponseImpulsionnelle, snrParBit != null ? snr() : null);
+            connecterBinaire("Chaine fusionnee", transmetteurFusionne);
+            return;
+        }
+        emetteur = new Emetteur(Amin, Amax, nbEchantillonsParBit, typeModulation);
+        emetteur.setReutilisationTampon(true);
+        recepteur = new Recepteur(Amin, Amax, nbEchantillonsParBit, typeModulation);
+        entreeEmetteur = etage("Emetteur", emetteur);
+        entreeRecepteur = etage("Recepteur", recepteur);
+        if (codeur != null) {
+            codeur.connecter(entreeEmetteur);
+            recepteur.connecter(etage("Decodeur", decodeur));
+        } else {
+            source.connecter(entreeEmetteur);
+            recepteur.connecter(etage("Destination", destination));
+        }
+        emetteur.connecter(etage(nomEtage(entreeCanal), entreeCanal));
+        sortieCanal.connecter(entreeRecepteur);
+        if (decalageImportance != null) {
+            transmetteurBruite.setEchantillonnageImportance(
+                    FiltreAdapte.pour(Amin, Amax, nbEchantillonsParBit, typeModulation), decalageImportance);
+        }
+    }
+
+    /**
+     * Insère entre la source (ou le codeur) et la destination (ou le décodeur) un
+     * transmetteur remplaçant l'émetteur, le canal et le récepteur.
+     * @param nom Le nom de son étage.
+     * @param transmetteur Le transmetteur.
+     */
+    private void connecterBinaire(String nom, Transmetteur<Boolean, Boolean> transmetteur) {
+        entreeEmetteur = etage(nom, transmetteur);
+        if (codeur != null) {
+            codeur.connecter(entreeEmetteur);
+            transmetteur.connecter(etage("Decodeur", decodeur));
+        } else {
+            source.connecter(entreeEmetteur);
+            transmetteur.connecter(etage("Destination", destination));
+        }
+    }
+
+    /**
+     * Insère un étage mesuré devant une destination si la chaîne est instrumentée.
+     * @param nom Le nom de l'étage.
+     * @param destination La destination.
+     * @param <T> Le type des éléments reçus.
+     * @return La destination à connecter.
+     */
+    private <T> DestinationInterface<T> etage(String nom, DestinationInterface<T> destination) {
+        return instrumentation != null ? instrumentation.instrumenter(nom, destination) : destination;
+    }
+
+    /**
+     * @param transmetteur Un transmetteur du canal.
+     * @return Le nom de son étage.
+     */
+    private String nomEtage(Transmetteur<Float, Float> transmetteur) {
+        if (transmetteur instanceof TransmetteurAnalogiqueMultiTrajet) {
+            return "Trajets multiples";
+        }
+        return transmetteur == transmetteurBruite ? "Bruit" : "Canal parfait";
+    }
+
+    /**
+     * @return Le SNR (en dB) correspondant au SNR par bit et au nombre d'échantillons par bit.
+     */
+    private double snr() {
+        return snr(snrParBit);
+    }
+
+    /**
+     * @param snrParBit Un SNR par bit (en dB).
+     * @return Le SNR (en dB) correspondant à ce SNR par bit et au nombre d'échantillons par bit.
+     */
+    private double snr(double snrParBit) {
+        return snrParBit - 10 * Math.log10(nbEchantillonsParBit / 2.0); // Convert Eb/N0 to SNR
+    }
+
+    /**
+     * Transmet un nouveau message aléatoire et compare les bits reçus aux bits émis.
+     * @return Les statistiques d'erreurs de la transmission.
+     * @throws Exception si un problème survient lors de la transmission.
+     */
+    public ResultatTEB executer() throws Exception {
+        Information<Boolean> informationRecue = transmettre();
+        return ResultatTEB.comparer(source.getInformationEmise(), informationRecue, false);
+    }
+
+    /**
+     * Transmet un nouveau message aléatoire à plusieurs SNR par bit à la fois : le message
+     * est modulé et filtré par les trajets multiples une seule fois, avec une seule
+     * réalisation de bruit de variance unité mise à l'échelle de chaque SNR (nombres
+     * aléatoires communs, voir {@link CorrelationsCanal}).  Les courbes sont plus régulières
+     * que celles de transmissions indépendantes, et le germe du bruit est celui d'une
+     * exécution simple, mais les bits reçus ne sont pas exactement les mêmes.
+     * @param snrsParBit Les SNR par bit (en dB).
+     * @return Les statistiques d'erreurs de la transmission à chaque SNR.
+     * @throws IllegalStateException si la chaîne a été construite sans canal bruité ou en échantillonnage d'importance.
+     * @throws Exception si un problème survient lors de la transmission.
+     */
+    public ResultatTEB[] executerGrille(double[] snrsParBit) throws Exception {
+        if (transmetteurBruite == null) {
+            throw new IllegalStateException("La chaîne a été construite sans canal bruité.");
+        }
+        if (decalageImportance != null) {
+            throw new IllegalStateException("La grille de SNR n'est pas disponible en échantillonnage d'importance.");
+        }
+        if (transmetteurGrille == null) {
+            transmetteurGrille = new TransmetteurFusionne(Amin, Amax, nbEchantillonsParBit, typeModulation,
+                    reponseImpulsionnelle, null);
+        }
+        Instrumentation.Mesure mesure = instrumentation != null ? instrumentation.debuter("Source") : null;
+        source.regenerer(tailleMessage, germe != null ? Germes.deriver(germe, Germes.SOURCE) : null);
+        BitInformation bits = BitInformation.depuis(source.getInformationGeneree());
+        if (mesure != null) {
+            mesure.terminer(tailleMessage);
+        }
+        BitInformation bitsCanal = codeur != null ? CodecRepetition.coder(bits) : bits;
+        transmetteurGrille.setGerme(germe != null ? Germes.deriver(germe, Germes.BRUIT) : null);
+        mesure = instrumentation != null ? instrumentation.debuter("Grille SNR") : null;
+        CorrelationsCanal correlations = transmetteurGrille.correler(bitsCanal);
+        ResultatTEB[] resultats = new ResultatTEB[snrsParBit.length];
+        for (int i = 0; i < snrsParBit.length; i++) {
+            BitInformation recus = correlations.decider(snr(snrsParBit[i]));
+            if (codeur != null) {
+                recus = CodecRepetition.decoder(recus, bitsCanal.nbElements());
+            }
+            resultats[i] = ResultatTEB.comparer(bits, recus, false);
+        }
+        if (mesure != null) {
+            mesure.terminer(bitsCanal.nbElements());
+        }
+        return resultats;
+    }
+
+    /**
+     * Transmet un nouveau message aléatoire en échantillonnage d'importance et pondère
+     * chaque bit erroné par le rapport de vraisemblance de son bruit.  Avec le codeur,
+     * le poids d'un bit décodé est le produit des poids de ses 3 bits codés.
+     * @return Les statistiques d'erreurs pondérées de la transmission.
+     * @throws IllegalStateException si la chaîne a été construite sans échantillonnage d'importance.
+     * @throws Exception si un problème survient lors de la transmission.
+     */
+    public ResultatTEBPondere executerPondere() throws Exception {
+        if (decalageImportance == null) {
+            throw new IllegalStateException("La chaîne a été construite sans échantillonnage d'importance.");
+        }
+        Information<Boolean> informationRecue = transmettre();
+        ResultatTEB resultat = ResultatTEB.comparer(source.getInformationEmise(), informationRecue, true);
+        double[] poidsCanal = transmetteurBruite.getPoids();
+        double[] poids = poidsCanal;
+        if (codeur != null) {
+            poids = new double[tailleMessage];
+            for (int i = 0; i < tailleMessage; i++) {
+                poids[i] = poidsCanal[3 * i] * poidsCanal[3 * i + 1] * poidsCanal[3 * i + 2];
+            }
+        }
+        return ResultatTEBPondere.ponderer(resultat, poids);
+    }
+
+    /**
+     * Transmet un nouveau message aléatoire.
+     * @return Le message reçu par la destination.
+     * @throws Exception si un problème survient lors de la transmission.
+     */
+    private Information<Boolean> transmettre() throws Exception {
+        Instrumentation.Mesure mesure = instrumentation != null ? instrumentation.debuter("Source") : null;
+        source.regenerer(tailleMessage, germe != null ? Germes.deriver(germe, Germes.SOURCE) : null);
+        if (mesure != null) {
+            mesure.terminer(tailleMessage);
+        }
+        if (transmetteurBinaire != null) {
+            transmetteurBinaire.setSnr(snr());
+            transmetteurBinaire.setGerme(germe != null ? Germes.deriver(germe, Germes.BRUIT) : null);
+        } else if (transmetteurFusionne != null) {
+            transmetteurFusionne.setSnr(snrParBit != null ? snr() : null);
+            transmetteurFusionne.setGerme(germe != null ? Germes.deriver(germe, Germes.BRUIT) : null);
+        } else if (transmetteurBruite != null) {
+            transmetteurBruite.setSnr(snr());
+            transmetteurBruite.setGerme(germe != null ? Germes.deriver(germe, Germes.BRUIT) : null);
+        }
+        source.emettre();
+        Information<Boolean> informationRecue = destination.getInformationRecue();
+        if (informationRecue == null) {
+            throw new Exception("Aucune information reçue");
+        }
+        return informationRecue;
+    }
+
+    /**
+     * Modifie le SNR par bit des prochaines exécutions.
+     * @param snrParBit Le SNR par bit en dB.
+     * @throws IllegalStateException si la chaîne a été construite sans canal bruité.
+     */
+    public void setSnrParBit(double snrParBit) {
+        if (transmetteurBruite == null) {
+            throw new IllegalStateException("La chaîne a été construite sans canal bruité.");
+        }
+        this.snrParBit = snrParBit;
+    }
+
+    /**
+     * Modifie le germe des prochaines exécutions.
+     * @param germe Le germe du message et du bruit (null : non reproductibles).
+     */
+    public void setGerme(Long germe) {
+        this.germe = germe;
+    }
+
+    /**
+     * Modifie le nombre d'échantillons par bit des prochaines exécutions
+     * (seuls l'émetteur et le récepteur sont alors reconstruits).
+     * @param nbEchantillonsParBit Le nombre d'échantillons par bit.
+     */
+    public void setNbEchantillonsParBit(int nbEchantillonsParBit) {
+        if (nbEchantillonsParBit < 1) {
+            throw new IllegalArgumentException("Le nombre d'échantillons par bit doit être strictement positif.");
+        }
+        if (nbEchantillonsParBit != this.nbEchantillonsParBit) {
+            this.nbEchantillonsParBit = nbEchantillonsParBit;
+            if (transmetteurBruite != null) {
+                transmetteurBruite.setNbEchantillonsParBit(nbEchantillonsParBit);
+            }
+            construireModulation();
+        }
+    }
+
+    /**
+     * Modifie la taille du message des prochaines exécutions.
+     * @param tailleMessage Le nombre de bits du message aléatoire.
+     */
+    public void setTailleMessage(int tailleMessage) {
+        if (tailleMessage < 1) {
+            throw new IllegalArgumentException("La taille du message doit être strictement positive.");
+        }
+        this.tailleMessage = tailleMessage;
+    }
+
+    /**
+     * @return Le nombre d'échantillons par bit.
+     */
+    public int getNbEchantillonsParBit() {
+        return nbEchantillonsParBit;
+    }
+
+    /**
+     * @return Le SNR par bit en dB (null si le canal n'est pas bruité).
+     */
+    public Double getSnrParBit() {
+        return snrParBit;
+    }
+
+    /**
+     * @return true si la chaîne utilise le modèle binaire équivalent de l'émetteur, du canal et du récepteur.
+     */
+    public boolean utiliseModeleBinaire() {
+        return modeleBinaire;
+    }
+
+    /**
+     * @return true si l'émetteur, le canal et le récepteur sont fusionnés en un seul transmetteur.
+     */
+    public boolean utiliseFusion() {
+        return fusion;
+    }
+
+    /**
+     * @return Le décalage du bruit en échantillonnage d'importance (null : désactivé).
+     */
+    public Double getDecalageImportance() {
+        return decalageImportance;
+    }
+
+    /**
+     * @return Le germe de la transmission.
+     */
+    public Long getGerme() {
+        return germe;
+    }
+
+    /**
+     * La classe Constructeur réunit les paramètres d'une chaîne de transmission,
+     * avec les mêmes valeurs par défaut que le {@link Simulateur} en mode analogique.
+     */
+    public static class Constructeur {
+
+        private String typeModulation = "RZ";
+        private float Amin = 0.0f;
+        private float Amax = 1.0f;
+        private int nbEchantillonsParBit = 30;
+        private int tailleMessage = 100;
+        private Long germe = null;
+        private Double snrParBit = null;
+        private Double decalageImportance = null;
+        private boolean modeleBinaire = false;
+        private boolean fusion = false;
+        private boolean codeur = false;
+        private final List<float[]> trajetsIndirects = new ArrayList<>();
+        private Instrumentation instrumentation = null;
+
+        /**
+         * @param typeModulation Le type de modulation (NRZ, NRZT, RZ).
+         * @return Ce constructeur.
+         */
+        public Constructeur modulation(String typeModulation) {
+            if (typeModulation == null || !typeModulation.matches("NRZ|NRZT|RZ")) {
+                throw new IllegalArgumentException("Type de modulation inconnu : " + typeModulation);
+            }
+            this.typeModulation = typeModulation;
+            return this;
+        }
+
+        /**
+         * @param Amin L'amplitude pour un bit '0'.
+         * @param Amax L'amplitude pour un bit '1'.
+         * @return Ce constructeur.
+         */
+        public Constructeur amplitudes(float Amin, float Amax) {
+            if (Amin >= Amax) {
+                throw new IllegalArgumentException("Amin doit être inférieur à Amax.");
+            }
+            this.Amin = Amin;
+            this.Amax = Amax;
+            return this;
+        }
+
+        /**
+         * @param nbEchantillonsParBit Le nombre d'échantillons par bit.
+         * @return Ce constructeur.
+         */
+        public Constructeur nbEchantillonsParBit(int nbEchantillonsParBit) {
+            if (nbEchantillonsParBit < 1) {
+                throw new IllegalArgumentException("Le nombre d'échantillons par bit doit être strictement positif.");
+            }
+            this.nbEchantillonsParBit = nbEchantillonsParBit;
+            return this;
+        }
+
+        /**
+         * @param tailleMessage Le nombre de bits du message aléatoire.
+         * @return Ce constructeur.
+         */
+        public Constructeur tailleMessage(int tailleMessage) {
+            if (tailleMessage < 1) {
+                throw new IllegalArgumentException("La taille du message doit être strictement positive.");
+            }
+            this.tailleMessage = tailleMessage;
+            return this;
+        }
+
+        /**
+         * @param germe Le germe du message et du bruit (null : non reproductibles).
+         * @return Ce constructeur.
+         */
+        public Constructeur germe(Long germe) {
+            this.germe = germe;
+            return this;
+        }
+
+        /**
+         * Ajoute un canal bruité à la chaîne.
+         * @param snrParBit Le SNR par bit en dB.
+         * @return Ce constructeur.
+         */
+        public Constructeur snrParBit(double snrParBit) {
+            this.snrParBit = snrParBit;
+            return this;
+        }
+
+        /**
+         * Active l'échantillonnage d'importance du canal bruité (voir
+         * {@link TransmetteurAnalogiqueBruite#setEchantillonnageImportance}),
+         * les transmissions étant alors exécutées par {@link ChaineTransmission#executerPondere()}.
+         * @param decalage La fraction de la distance au seuil dont le bruit de chaque bit est translaté.
+         * @return Ce constructeur.
+         */
+        public Constructeur echantillonnageImportance(double decalage) {
+            if (decalage < 0) {
+                throw new IllegalArgumentException("Le décalage doit être positif ou nul.");
+            }
+            this.decalageImportance = decalage;
+            return this;
+        }
+
+        /**
+         * Remplace l'émetteur, le canal bruité et le récepteur par leur modèle binaire équivalent
+         * ({@link TransmetteurBinaireEquivalent}) si la chaîne s'y prête : modulation NRZ ou RZ,
+         * canal bruité sans trajets multiples ni échantillonnage d'importance.  Sinon la chaîne
+         * reste échantillonnée (voir {@link ChaineTransmission#utiliseModeleBinaire()}).
+         * @param modeleBinaire true pour utiliser le modèle binaire lorsque c'est possible.
+         * @return Ce constructeur.
+         */
+        public Constructeur modeleBinaire(boolean modeleBinaire) {
+            this.modeleBinaire = modeleBinaire;
+            return this;
+        }
+
+        /**
+         * Fusionne l'émetteur, le canal et le récepteur en un seul transmetteur
+         * ({@link TransmetteurFusionne}) qui traite le message bloc par bloc sans construire
+         * le signal complet, pour les mêmes bits reçus.  Sans effet en échantillonnage
+         * d'importance ou lorsque le modèle binaire est utilisé.
+         * @param fusion true pour fusionner la chaîne lorsque c'est possible.
+         * @return Ce constructeur.
+         */
+        public Constructeur fusion(boolean fusion) {
+            this.fusion = fusion;
+            return this;
+        }
+
+        /**
+         * @param codeur true pour utiliser le codeur et le décodeur.
+         * @return Ce constructeur.
+         */
+        public Constructeur codeur(boolean codeur) {
+            this.codeur = codeur;
+            return this;
+        }
+
+        /**
+         * Ajoute un trajet indirect au canal.
+         * @param dt Le retard du trajet (en échantillons).
+         * @param ar L'atténuation du trajet (entre 0 et 1).
+         * @return Ce constructeur.
+         */
+        public Constructeur trajetIndirect(int dt, float ar) {
+            trajetsIndirects.add(new float[]{dt, ar});
+            return this;
+        }
+
+        /**
+         * Mesure les étages de la chaîne (source, codeur, émetteur, canal, récepteur...).
+         * @param instrumentation L'instrumentation qui cumule les mesures (null : pas de mesure).
+         * @return Ce constructeur.
+         */
+        public Constructeur instrumentation(Instrumentation instrumentation) {
+            this.instrumentation = instrumentation;
+            return this;
+        }
+
+        /**
+         * @return Une nouvelle chaîne de transmission avec ces paramètres.
+         */
+        public ChaineTransmission construire() {
+            return new ChaineTransmission(this);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package simulateur;
+
+import information.BitInformation;
+import information.InformationNonConformeException;
+import information.SampleInformation;
+import transmetteurs.CodecRepetition;
+import transmetteurs.Emetteur;
+import transmetteurs.FiltreAdapte;
+import transmetteurs.ReponseImpulsionnelle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * La classe EvaluateurTEB calcule le TEB d'une chaîne de transmission analogique sans
+ * la simuler : pour un canal à bruit blanc gaussien, avec ou sans trajets multiples,
+ * le récepteur à filtre adapté se trompe sur un bit avec une probabilité
+ * Q(d / (sigma ||s1 - s0||)), d étant la distance de la corrélation du bit sans bruit
+ * au seuil de décision.
+ * <p>
+ * Les interférences entre symboles (formes d'onde NRZT et trajets indirects) sont prises
+ * en compte en énumérant tous les motifs des bits voisins dont dépend un bit : chaque
+ * motif est modulé par l'{@link Emetteur}, filtré par la {@link ReponseImpulsionnelle}
+ * du canal et corrélé par le {@link FiltreAdapte} du récepteur, comme dans la chaîne
+ * simulée.  Le TEB est la moyenne des probabilités d'erreur sur les motifs (bits
+ * équiprobables), et l'écart-type du bruit est réglé comme par le
+ * {@code TransmetteurAnalogiqueBruite}, à partir de la puissance moyenne du signal reçu.
+ * Avec le codeur, les erreurs des 3 bits codés d'un bit, indépendantes pour un motif
+ * donné, sont combinées selon la table du décodeur.
+ * <p>
+ * Le TEB calculé est celui d'un message long : les bits du début du message, qui
+ * ne subissent pas toutes les interférences, sont négligés.
+ */
+public class EvaluateurTEB {
+
+    /** Le nombre maximal de bits d'un motif (2^NB_BITS_MAX motifs sont énumérés). */
+    static final int NB_BITS_MAX = 16;
+
+    /** Le bit décodé de chaque paquet de 3 bits reçus (bit 0 du paquet en poids faible). */
+    private static final boolean[] DECODAGE = new boolean[8];
+
+    static {
+        for (int paquet = 0; paquet < 8; paquet++) {
+            DECODAGE[paquet] = CodecRepetition.decoder(new BitInformation(new long[]{paquet}, 3), 3).getBit(0);
+        }
+    }
+
+    /** Le nombre d'échantillons par bit. */
+    private final int nbEchantillonsParBit;
+
+    /** Le nombre de bits codés par bit du message (3 avec le codeur, 1 sinon). */
+    private final int nbBitsCodes;
+
+    /** Le bit du message de chaque motif. */
+    private final boolean[] bits;
+
+    /** Les bits codés de chaque motif. */
+    private final boolean[][] bitsCodes;
+
+    /** L'écart au seuil de la corrélation sans bruit de chaque bit codé de chaque motif. */
+    private final double[][] ecarts;
+
+    /** La puissance moyenne du signal reçu, par échantillon. */
+    private final double puissanceSignal;
+
+    /** La norme de la forme d'onde de référence du filtre adapté. */
+    private final double normeReference;
+
+    /**
+     * Construit l'évaluateur d'une chaîne de transmission analogique.
+     * @param typeModulation Le type de modulation (NRZ, NRZT, RZ).
+     * @param Amin L'amplitude pour un bit '0'.
+     * @param Amax L'amplitude pour un bit '1'.
+     * @param nbEchantillonsParBit Le nombre d'échantillons par bit.
+     * @param trajetsIndirects Les trajets indirects du canal, couples {dt, ar} (liste vide sans trajets multiples).
+     * @param codeur true si la chaîne utilise le codeur.
+     * @throws IllegalArgumentException si le type de modulation est inconnu ou si les trajets
+     * indirects portent sur trop de bits pour énumérer les motifs.
+     */
+    public EvaluateurTEB(String typeModulation, float Amin, float Amax, int nbEchantillonsParBit,
+                         List<float[]> trajetsIndirects, boolean codeur) {
+        FiltreAdapte filtre = FiltreAdapte.pour(Amin, Amax, nbEchantillonsParBit, typeModulation);
+        if (filtre == null) {
+            throw new IllegalArgumentException("Type de modulation inconnu : " + typeModulation);
+        }
+        this.nbEchantillonsParBit = nbEchantillonsParBit;
+        this.nbBitsCodes = codeur ? 3 : 1;
+        ReponseImpulsionnelle reponse = ReponseImpulsionnelle.depuisTrajets(trajetsIndirects);
+        Emetteur emetteur = new Emetteur(Amin, Amax, nbEchantillonsParBit, typeModulation);
+
+        // Bits codés précédents dont dépend un bit codé : ceux qu'atteignent les trajets
+        // indirects, plus leur précédent en NRZT ; le bit codé suivant en NRZT
+        boolean nrzt = "NRZT".equals(typeModulation);
+        int nbCodesPrecedents = (reponse.getRetardMax() + nbEchantillonsParBit - 1) / nbEchantillonsParBit + (nrzt ? 1 : 0);
+        int nbPrecedents = (nbCodesPrecedents + nbBitsCodes - 1) / nbBitsCodes;
+        int nbSuivants = nrzt ? 1 : 0;
+        int nbBitsMotif = nbPrecedents + 1 + nbSuivants;
+        if (nbBitsMotif > NB_BITS_MAX) {
+            throw new IllegalArgumentException("Les trajets indirects portent sur trop de bits (" + nbBitsMotif
+                    + ") pour énumérer les motifs.");
+        }
+
+        float seuil = filtre.getSeuil();
+        double sommeReference = 0.0;
+        for (float r : filtre.getReference()) {
+            sommeReference += r * r;
+        }
+        this.normeReference = Math.sqrt(sommeReference);
+
+        int nbMotifs = 1 << nbBitsMotif;
+        bits = new boolean[nbMotifs];
+        bitsCodes = new boolean[nbMotifs][nbBitsCodes];
+        ecarts = new double[nbMotifs][nbBitsCodes];
+        double sommePuissance = 0.0;
+        for (int motif = 0; motif < nbMotifs; motif++) {
+            BitInformation message = new BitInformation(new long[]{motif}, nbBitsMotif);
+            BitInformation canal = codeur ? CodecRepetition.coder(message) : message;
+            float[] signal = moduler(emetteur, canal);
+            bits[motif] = message.getBit(nbPrecedents);
+            for (int c = 0; c < nbBitsCodes; c++) {
+                int rang = nbPrecedents * nbBitsCodes + c;
+                float[] fenetre = reponse.convoluerDirect(signal, rang * nbEchantillonsParBit, nbEchantillonsParBit);
+                bitsCodes[motif][c] = canal.getBit(rang);
+                ecarts[motif][c] = filtre.correler(fenetre, 0) - seuil;
+                for (float echantillon : fenetre) {
+                    sommePuissance += echantillon * echantillon;
+                }
+            }
+        }
+        this.puissanceSignal = sommePuissance / ((double) nbMotifs * nbBitsCodes * nbEchantillonsParBit);
+    }
+
+    /**
+     * Construit l'évaluateur d'une chaîne sans trajets multiples.
+     * @param typeModulation Le type de modulation (NRZ, NRZT, RZ).
+     * @param Amin L'amplitude pour un bit '0'.
+     * @param Amax L'amplitude pour un bit '1'.
+     * @param nbEchantillonsParBit Le nombre d'échantillons par bit.
+     * @param codeur true si la chaîne utilise le codeur.
+     */
+    public EvaluateurTEB(String typeModulation, float Amin, float Amax, int nbEchantillonsParBit, boolean codeur) {
+        this(typeModulation, Amin, Amax, nbEchantillonsParBit, new ArrayList<>(), codeur);
+    }
+
+    /**
+     * Module les bits d'un motif avec l'émetteur de la chaîne.
+     * @param emetteur L'émetteur.
+     * @param bits Les bits à moduler.
+     * @return Les échantillons émis.
+     */
+    private static float[] moduler(Emetteur emetteur, BitInformation bits) {
+        try {
+            emetteur.recevoir(bits);
+        } catch (InformationNonConformeException e) {
+            throw new IllegalStateException(e);
+        }
+        return SampleInformation.depuis(emetteur.getInformationEmise()).getEchantillons();
+    }
+
+    /**
+     * Calcule le TEB pour un SNR par bit donné, converti en SNR comme par le {@link Simulateur}.
+     * @param snrParBit Le SNR par bit (Eb/N0) en dB.
+     * @return Le TEB.
+     */
+    public double teb(double snrParBit) {
+        return tebSnr(snrParBit - 10 * Math.log10(nbEchantillonsParBit / 2.0));
+    }
+
+    /**
+     * Calcule le TEB pour un SNR donné (rapport de la puissance du signal reçu à celle du bruit).
+     * @param snr Le SNR en dB, ou null pour un canal sans bruit (seules les interférences causent des erreurs).
+     * @return Le TEB.
+     */
+    public double tebSnr(Double snr) {
+        double ecartType = snr == null ? 0.0 : Math.sqrt(puissanceSignal / Math.pow(10, snr / 10)) * normeReference;
+        double somme = 0.0;
+        for (int motif = 0; motif < bits.length; motif++) {
+            // Probabilité d'erreur de chaque bit codé : décision à 1 si la corrélation atteint le seuil
+            double[] p = new double[nbBitsCodes];
+            for (int c = 0; c < nbBitsCodes; c++) {
+                double distance = bitsCodes[motif][c] ? ecarts[motif][c] : -ecarts[motif][c];
+                if (ecartType > 0) {
+                    p[c] = q(distance / ecartType);
+                } else {
+                    p[c] = distance < 0 || (distance == 0 && !bitsCodes[motif][c]) ? 1.0 : 0.0;
+                }
+            }
+            if (nbBitsCodes == 1) {
+                somme += p[0];
+                continue;
+            }
+            // Combinaisons d'erreurs des bits codés qui faussent le bit décodé
+            int paquet = 0;
+            for (int c = 0; c < nbBitsCodes; c++) {
+                paquet |= (bitsCodes[motif][c] ? 1 : 0) << c;
+            }
+            for (int erreurs = 1; erreurs < 8; erreurs++) {
+                if (DECODAGE[paquet ^ erreurs] == bits[motif]) {
+                    continue;
+                }
+                double probabilite = 1.0;
+                for (int c = 0; c < nbBitsCodes; c++) {
+                    probabilite *= (erreurs >>> c & 1) == 1 ? p[c] : 1 - p[c];
+                }
+                somme += probabilite;
+            }
+        }
+        return somme / bits.length;
+    }
+
+    /**
+     * @return La puissance moyenne du signal reçu par le canal bruité (par échantillon).
+     */
+    public double getPuissanceSignal() {
+        return puissanceSignal;
+    }
+
+    /**
+     * @return Le nombre de motifs de bits énumérés.
+     */
+    public int getNbMotifs() {
+        return bits.length;
+    }
+
+    /**
+     * Calcule la fonction Q, probabilité qu'une variable gaussienne centrée réduite dépasse x.
+     * @param x Le seuil.
+     * @return Q(x) = erfc(x / sqrt(2)) / 2.
+     */
+    public static double q(double x) {
+        return 0.5 * erfc(x / Math.sqrt(2));
+    }
+
+    /** Les coefficients du développement de Tchebychev de erfc (précision relative de l'ordre de 1e-16). */
+    private static final double[] COEFFICIENTS_ERFC = {-1.3026537197817094, 6.4196979235649026e-1,
+            1.9476473204185836e-2, -9.561514786808631e-3, -9.46595344482036e-4, 3.66839497852761e-4,
+            4.2523324806907e-5, -2.0278578112534e-5, -1.624290004647e-6, 1.303655835580e-6, 1.5626441722e-8,
+            -8.5238095915e-8, 6.529054439e-9, 5.059343495e-9, -9.91364156e-10, -2.27365122e-10, 9.6467911e-11,
+            2.394038e-12, -6.886027e-12, 8.94487e-13, 3.13092e-13, -1.12708e-13, 3.81e-16, 7.106e-15,
+            -1.523e-15, -9.4e-17, 1.21e-16, -2.8e-17};
+
+    /**
+     * Calcule la fonction d'erreur complémentaire.
+     * @param x La valeur.
+     * @return erfc(x).
+     */
+    static double erfc(double x) {
+        if (x < 0) {
+            return 2 - erfc(-x);
+        }
+        double t = 2 / (2 + x);
+        double ty = 4 * t - 2;
+        double d = 0.0;
+        double dd = 0.0;
+        for (int j = COEFFICIENTS_ERFC.length - 1; j > 0; j--) {
+            double tmp = d;
+            d = ty * d - dd + COEFFICIENTS_ERFC[j];
+            dd = tmp;
+        }
+        return t * Math.exp(-x * x + 0.5 * (COEFFICIENTS_ERFC[0] + ty * d) - dd);
+    }
+}
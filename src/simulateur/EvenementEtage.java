@@ -0,0 +1,34 @@
+package simulateur;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Événement JFR d'un traitement mesuré par l'{@link Instrumentation} : sa durée
+ * inclut les étages suivants, la durée propre et les allocations les excluent.
+ */
+@Name("sit213.Etage")
+@Label("Étage de la chaîne de transmission")
+@Category("SIT213")
+@Description("Traitement d'une information par un étage de la chaîne de transmission")
+class EvenementEtage extends Event {
+
+    @Label("Étage")
+    String etage;
+
+    @Label("Éléments")
+    long elements;
+
+    @Label("Durée propre")
+    @Timespan(Timespan.NANOSECONDS)
+    long dureePropre;
+
+    @Label("Octets alloués")
+    @DataAmount
+    long octetsAlloues;
+}
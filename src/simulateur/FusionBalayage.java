@@ -0,0 +1,103 @@
+package simulateur;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * La classe FusionBalayage combine les journaux ({@link JournalBalayage}) des parties
+ * d'un balayage de TEB réparti entre plusieurs processus, éventuellement sur plusieurs
+ * machines partageant un système de fichiers (voir {@link SimulateurTEB#setPartie}).
+ * <p>
+ * Pour chaque modulation, les simulations d'un même point (SNR, codeur) sont cumulées :
+ * les erreurs et les bits sont additionnés, et la courbe est écrite dans
+ * resultats_&lt;modulation&gt;.csv avec l'intervalle de confiance et le nombre de bits de chaque point.
+ * Une simulation présente dans plusieurs journaux (même germe et même taille) n'est comptée qu'une fois.
+ * Les journaux d'une modulation doivent tous avoir été produits avec le même modèle de chaîne
+ * (modèle binaire équivalent ou chaîne échantillonnée), dont les bits diffèrent pour un germe donné.
+ */
+public class FusionBalayage {
+
+    private FusionBalayage() {
+    }
+
+    /**
+     * Fusionne des journaux et écrit la courbe de chaque modulation.
+     * @param journaux Les noms des fichiers journaux.
+     * @param repertoire Le répertoire dans lequel écrire les courbes.
+     * @return Les noms des fichiers écrits.
+     * @throws IOException Si un journal ne peut pas être lu ou une courbe écrite, ou si les
+     * simulations d'une modulation mélangent les deux modèles de chaîne.
+     */
+    public static List<String> fusionner(List<String> journaux, String repertoire) throws IOException {
+        // Modulation -> SNR -> {sans codeur, avec codeur}
+        Map<String, TreeMap<Double, ResultatTEB[]>> courbes = new TreeMap<>();
+        Map<String, Boolean> modeles = new HashMap<>();
+        Set<String> simulationsVues = new HashSet<>();
+        for (String journal : journaux) {
+            for (JournalBalayage.Simulation simulation : JournalBalayage.lire(journal)) {
+                if (!simulationsVues.add(simulation.cle())) {
+                    continue;
+                }
+                Boolean modele = modeles.putIfAbsent(simulation.getModulation(), simulation.isModeleBinaire());
+                if (modele != null && modele != simulation.isModeleBinaire()) {
+                    throw new IOException("Les journaux mélangent le modèle binaire et la chaîne échantillonnée pour la modulation "
+                            + simulation.getModulation() + " (" + journal + ")");
+                }
+                ResultatTEB[] point = courbes.computeIfAbsent(simulation.getModulation(), m -> new TreeMap<>())
+                        .computeIfAbsent(simulation.getSnr(), snr -> new ResultatTEB[2]);
+                int indice = simulation.isCodeur() ? 1 : 0;
+                point[indice] = point[indice] == null ? simulation.getResultat() : point[indice].cumuler(simulation.getResultat());
+            }
+        }
+
+        List<String> fichiers = new ArrayList<>();
+        ResultatTEB aucun = new ResultatTEB(0, 0, 0, 0, null); // point absent des journaux
+        for (Map.Entry<String, TreeMap<Double, ResultatTEB[]>> courbe : courbes.entrySet()) {
+            int nbPoints = courbe.getValue().size();
+            double[] snrs = new double[nbPoints];
+            ResultatTEB[] sansCodeur = new ResultatTEB[nbPoints];
+            ResultatTEB[] avecCodeur = new ResultatTEB[nbPoints];
+            int i = 0;
+            for (Map.Entry<Double, ResultatTEB[]> point : courbe.getValue().entrySet()) {
+                snrs[i] = point.getKey();
+                sansCodeur[i] = point.getValue()[0] != null ? point.getValue()[0] : aucun;
+                avecCodeur[i] = point.getValue()[1] != null ? point.getValue()[1] : aucun;
+                i++;
+            }
+            String fichier = repertoire + "/resultats_" + courbe.getKey() + ".csv";
+            SimulateurTEB.ecrireCourbeCumulee(courbe.getKey(), snrs, sansCodeur, avecCodeur, fichier);
+            fichiers.add(fichier);
+        }
+        return fichiers;
+    }
+
+    /**
+     * Fusionne les journaux donnés en arguments dans le répertoire resultats
+     * (ou celui donné par l'option -dir r).
+     * @param args Les noms des fichiers journaux.
+     */
+    public static void main(String[] args) {
+        try {
+            String repertoire = "resultats";
+            List<String> journaux = new ArrayList<>();
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("-dir") && i + 1 < args.length) {
+                    repertoire = args[++i];
+                } else {
+                    journaux.add(args[i]);
+                }
+            }
+            for (String fichier : fusionner(journaux, repertoire)) {
+                System.out.println("Courbe écrite : " + fichier);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
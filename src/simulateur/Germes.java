@@ -0,0 +1,63 @@
+package simulateur;
+
+/**
+ * La classe Germes dérive, à partir d'un germe maître, les germes indépendants
+ * des générateurs aléatoires de chaque composant, de chaque point d'un balayage
+ * et de chaque bloc.  Un germe dérivé ne dépend que du germe maître et du chemin
+ * d'indices qui y mène (par exemple point, simulation, composant), et non de
+ * l'ordre dans lequel les germes sont demandés : les résultats sont donc les
+ * mêmes quel que soit le nombre de threads ou de processus.
+ * <p>
+ * La dérivation enchaîne la fonction de mélange de SplitMix64 (celle de
+ * {@link java.util.SplittableRandom}), si bien que deux chemins différents
+ * donnent des germes sans corrélation exploitable.
+ */
+public final class Germes {
+
+    /** Le composant source (message aléatoire). */
+    public static final long SOURCE = 1;
+
+    /** Le composant transmetteur bruité (bruit gaussien). */
+    public static final long BRUIT = 2;
+
+    /** L'incrément de SplitMix64 (partie fractionnaire du nombre d'or). */
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    private Germes() {
+    }
+
+    /**
+     * Dérive un germe d'un germe maître et d'un chemin d'indices.
+     * @param germe Le germe maître.
+     * @param chemin Les indices successifs (composant, point, bloc...).
+     * @return Le germe dérivé.
+     */
+    public static long deriver(long germe, long... chemin) {
+        long z = melanger(germe + GAMMA);
+        for (long indice : chemin) {
+            z = melanger(z + GAMMA + melanger(indice));
+        }
+        return z;
+    }
+
+    /**
+     * Dérive le germe d'un point de balayage repéré par la valeur d'un paramètre réel
+     * (le SNR par exemple), ce qui conserve les germes d'un point lorsque la grille change.
+     * @param germe Le germe maître.
+     * @param valeur La valeur du paramètre du point.
+     * @param chemin Les indices suivants (codeur, simulation, bloc...).
+     * @return Le germe dérivé.
+     */
+    public static long deriverPoint(long germe, double valeur, long... chemin) {
+        return deriver(deriver(germe, Double.doubleToLongBits(valeur)), chemin);
+    }
+
+    /**
+     * La fonction de mélange de SplitMix64 (variante 13 de Stafford).
+     */
+    private static long melanger(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
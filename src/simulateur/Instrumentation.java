@@ -0,0 +1,312 @@
+package simulateur;
+
+import destinations.DestinationInterface;
+import information.Information;
+import information.InformationNonConformeException;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * La classe Instrumentation mesure, étage par étage, le traitement d'une chaîne de
+ * transmission : nombre d'appels, d'éléments reçus (bits ou échantillons), temps
+ * écoulé, octets alloués (par le {@link ThreadMXBean} de la JVM) et débit.
+ * <p>
+ * Les étages sont insérés dans les connexions de la chaîne par {@link #instrumenter} :
+ * chaque réception par le composant destination est mesurée.  Les appels étant
+ * imbriqués (un composant émet vers le suivant pendant sa propre réception), le
+ * temps et les allocations des étages suivants sont retranchés pour obtenir le
+ * temps propre de chaque étage, le temps total les incluant.
+ * <p>
+ * Les mesures sont cumulées d'une exécution à l'autre et entre les threads d'un
+ * balayage ; elles sont exportées dans un rapport CSV ({@link #ecrireRapport}) et,
+ * lorsqu'un enregistrement JFR est actif, sous forme d'événements {@code sit213.Etage}.
+ */
+public class Instrumentation {
+
+    /** Le ThreadMXBean de la JVM, s'il mesure les allocations de chaque thread. */
+    private static final com.sun.management.ThreadMXBean ALLOCATIONS = allocations();
+
+    /** Les étages, dans l'ordre de leur création. */
+    private final Map<String, Etage> etages = new LinkedHashMap<>();
+
+    /** La mesure en cours de chaque thread (la plus imbriquée). */
+    private final ThreadLocal<Mesure> courante = new ThreadLocal<>();
+
+    /**
+     * Insère un étage mesuré devant une destination : la destination renvoyée
+     * transmet les informations à celle donnée en mesurant leur traitement.
+     * @param nom Le nom de l'étage (plusieurs connexions peuvent partager un étage).
+     * @param destination La destination à mesurer.
+     * @param <T> Le type des éléments reçus.
+     * @return La destination à connecter à la place de celle donnée.
+     */
+    public <T> DestinationInterface<T> instrumenter(String nom, DestinationInterface<T> destination) {
+        return new EtageInstrumente<>(etage(nom), destination);
+    }
+
+    /**
+     * Commence la mesure d'un traitement du thread courant (la génération d'un
+     * message par exemple), à terminer par {@link Mesure#terminer}.
+     * @param nom Le nom de l'étage.
+     * @return La mesure en cours.
+     */
+    public Mesure debuter(String nom) {
+        return debuter(etage(nom));
+    }
+
+    private Mesure debuter(Etage etage) {
+        Mesure mesure = new Mesure(etage, courante.get());
+        courante.set(mesure);
+        return mesure;
+    }
+
+    private Etage etage(String nom) {
+        synchronized (etages) {
+            return etages.computeIfAbsent(nom, Etage::new);
+        }
+    }
+
+    /**
+     * @return Les étages mesurés, dans l'ordre de leur création.
+     */
+    public List<Etage> getEtages() {
+        synchronized (etages) {
+            return new ArrayList<>(etages.values());
+        }
+    }
+
+    /**
+     * @return true si les octets alloués sont mesurés par cette JVM.
+     */
+    public static boolean mesureAllocations() {
+        return ALLOCATIONS != null;
+    }
+
+    /**
+     * Écrit le rapport des mesures dans un fichier CSV (une ligne par étage).
+     * @param nomFichier Le nom du fichier CSV.
+     * @throws IOException Si une erreur survient lors de l'écriture du fichier.
+     */
+    public void ecrireRapport(String nomFichier) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(nomFichier, false))) {
+            writer.write("Etage,Appels,Elements,Temps propre (ms),Temps total (ms),Octets alloues,Debit (elements/s)");
+            writer.newLine();
+            for (Etage etage : getEtages()) {
+                writer.write(String.format(Locale.ROOT, "%s,%d,%d,%.3f,%.3f,%d,%.1f", etage.getNom(), etage.getNbAppels(),
+                        etage.getNbElements(), etage.getNanosPropres() / 1e6, etage.getNanosTotaux() / 1e6,
+                        etage.getOctetsAlloues(), etage.getDebit()));
+                writer.newLine();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder rapport = new StringBuilder(String.format(Locale.ROOT, "%-20s %10s %14s %14s %14s %16s %16s%n",
+                "Etage", "Appels", "Elements", "Propre (ms)", "Total (ms)", "Octets alloues", "Debit (elem/s)"));
+        for (Etage etage : getEtages()) {
+            rapport.append(String.format(Locale.ROOT, "%-20s %10d %14d %14.1f %14.1f %16d %16.3e%n", etage.getNom(),
+                    etage.getNbAppels(), etage.getNbElements(), etage.getNanosPropres() / 1e6,
+                    etage.getNanosTotaux() / 1e6, etage.getOctetsAlloues(), etage.getDebit()));
+        }
+        return rapport.toString();
+    }
+
+    /**
+     * @return Le ThreadMXBean de la JVM s'il mesure les allocations de chaque thread, null sinon.
+     */
+    private static com.sun.management.ThreadMXBean allocations() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) bean;
+            if (allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled()) {
+                return allocations;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Les octets alloués jusqu'ici par le thread courant (0 s'ils ne sont pas mesurés).
+     */
+    private static long octetsAlloues() {
+        return ALLOCATIONS != null ? ALLOCATIONS.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    /**
+     * Les mesures cumulées d'un étage.
+     */
+    public static class Etage {
+
+        private final String nom;
+        private final LongAdder nbAppels = new LongAdder();
+        private final LongAdder nbElements = new LongAdder();
+        private final LongAdder nanosPropres = new LongAdder();
+        private final LongAdder nanosTotaux = new LongAdder();
+        private final LongAdder octetsAlloues = new LongAdder();
+
+        Etage(String nom) {
+            this.nom = nom;
+        }
+
+        /**
+         * @return Le nom de l'étage.
+         */
+        public String getNom() {
+            return nom;
+        }
+
+        /**
+         * @return Le nombre de traitements mesurés.
+         */
+        public long getNbAppels() {
+            return nbAppels.sum();
+        }
+
+        /**
+         * @return Le nombre d'éléments (bits ou échantillons) reçus.
+         */
+        public long getNbElements() {
+            return nbElements.sum();
+        }
+
+        /**
+         * @return Le temps passé dans l'étage lui-même (en ns).
+         */
+        public long getNanosPropres() {
+            return nanosPropres.sum();
+        }
+
+        /**
+         * @return Le temps passé dans l'étage et les étages suivants (en ns).
+         */
+        public long getNanosTotaux() {
+            return nanosTotaux.sum();
+        }
+
+        /**
+         * @return Les octets alloués par l'étage lui-même.
+         */
+        public long getOctetsAlloues() {
+            return octetsAlloues.sum();
+        }
+
+        /**
+         * @return Le débit de l'étage (éléments reçus par seconde de temps propre).
+         */
+        public double getDebit() {
+            long nanos = getNanosPropres();
+            return nanos == 0 ? 0.0 : getNbElements() * 1e9 / nanos;
+        }
+    }
+
+    /**
+     * La mesure d'un traitement en cours.
+     */
+    public class Mesure {
+
+        private final Etage etage;
+        private final Mesure parent;
+        private final EvenementEtage evenement = new EvenementEtage();
+        private final long debutNanos;
+        private final long debutOctets;
+        private long nanosEnfants = 0;
+        private long octetsEnfants = 0;
+
+        private Mesure(Etage etage, Mesure parent) {
+            this.etage = etage;
+            this.parent = parent;
+            evenement.begin();
+            this.debutOctets = octetsAlloues();
+            this.debutNanos = System.nanoTime();
+        }
+
+        /**
+         * Termine la mesure et la cumule à celles de l'étage.
+         * @param nbElements Le nombre d'éléments traités.
+         */
+        public void terminer(long nbElements) {
+            long nanos = System.nanoTime() - debutNanos;
+            long octets = octetsAlloues() - debutOctets;
+            etage.nbAppels.increment();
+            etage.nbElements.add(nbElements);
+            etage.nanosTotaux.add(nanos);
+            etage.nanosPropres.add(nanos - nanosEnfants);
+            etage.octetsAlloues.add(octets - octetsEnfants);
+            if (parent != null) {
+                parent.nanosEnfants += nanos;
+                parent.octetsEnfants += octets;
+            }
+            courante.set(parent);
+
+            evenement.end();
+            if (evenement.shouldCommit()) {
+                evenement.etage = etage.getNom();
+                evenement.elements = nbElements;
+                evenement.dureePropre = nanos - nanosEnfants;
+                evenement.octetsAlloues = octets - octetsEnfants;
+                evenement.commit();
+            }
+        }
+    }
+
+    /**
+     * Destination insérée dans une connexion : chaque réception est mesurée puis
+     * transmise à la destination d'origine.
+     */
+    private class EtageInstrumente<T> implements DestinationInterface<T> {
+
+        private final Etage etage;
+        private final DestinationInterface<T> destination;
+
+        EtageInstrumente(Etage etage, DestinationInterface<T> destination) {
+            this.etage = etage;
+            this.destination = destination;
+        }
+
+        @Override
+        public Information<T> getInformationRecue() {
+            return destination.getInformationRecue();
+        }
+
+        @Override
+        public void recevoir(Information<T> information) throws InformationNonConformeException {
+            Mesure mesure = debuter(etage);
+            try {
+                destination.recevoir(information);
+            } finally {
+                mesure.terminer(information == null ? 0 : information.nbElements());
+            }
+        }
+
+        @Override
+        public void recevoirBloc(Information<T> bloc) throws InformationNonConformeException {
+            Mesure mesure = debuter(etage);
+            try {
+                destination.recevoirBloc(bloc);
+            } finally {
+                mesure.terminer(bloc == null ? 0 : bloc.nbElements());
+            }
+        }
+
+        @Override
+        public void terminerFlux() throws InformationNonConformeException {
+            Mesure mesure = debuter(etage);
+            try {
+                destination.terminerFlux();
+            } finally {
+                mesure.terminer(0);
+            }
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package simulateur;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * La classe JournalBalayage tient le journal d'un balayage de TEB : un fichier CSV
+ * auquel chaque simulation terminée (modulation, SNR, codeur, modèle de chaîne, germe,
+ * nombre de bits) est ajoutée avec ses comptes d'erreurs, et qui est vidé sur disque à
+ * chaque ajout.  Le modèle binaire équivalent et la chaîne échantillonnée ne donnant pas
+ * les mêmes bits pour un germe donné, le modèle fait partie de la clé d'une simulation.
+ * <p>
+ * À l'ouverture, les simulations déjà journalisées sont relues : un balayage relancé
+ * après une interruption les reprend au lieu de les recalculer, et un balayage
+ * prolongé (plus de simulations, ou plus de blocs en mode adaptatif) ne calcule
+ * que les nouvelles.  Une dernière ligne incomplète (arrêt brutal pendant l'écriture)
+ * est ignorée.
+ */
+public class JournalBalayage implements Closeable {
+
+    /** L'en-tête du fichier. */
+    private static final String EN_TETE = "Modulation,SNR(dB),Codeur,Modele binaire,Germe,Bits,Erreurs,Rafales,Rafale max";
+
+    /** Les simulations journalisées, par clé (voir {@link #cle}). */
+    private final Map<String, ResultatTEB> resultats = new HashMap<>();
+
+    /** Le nombre de lignes illisibles ignorées à l'ouverture. */
+    private int nbLignesIgnorees = 0;
+
+    /** Le fichier ouvert en ajout. */
+    private final BufferedWriter writer;
+
+    /**
+     * Ouvre un journal, en relisant les simulations qu'il contient déjà.
+     * @param nomFichier Le nom du fichier (créé s'il n'existe pas).
+     * @throws IOException Si le fichier ne peut pas être lu ou ouvert en écriture, ou s'il n'a
+     * pas l'en-tête attendu (journal d'un format antérieur, sans le modèle de chaîne).
+     */
+    public JournalBalayage(String nomFichier) throws IOException {
+        File fichier = new File(nomFichier);
+        boolean existe = fichier.exists() && fichier.length() > 0;
+        boolean finDeLigne = true;
+        if (existe) {
+            finDeLigne = finitParFinDeLigne(fichier);
+            List<Simulation> simulations = new ArrayList<>();
+            nbLignesIgnorees = lireFichier(fichier, finDeLigne, simulations);
+            for (Simulation simulation : simulations) {
+                resultats.putIfAbsent(simulation.cle(), simulation.resultat);
+            }
+        }
+        writer = new BufferedWriter(new FileWriter(fichier, true));
+        if (!existe) {
+            writer.write(EN_TETE);
+            writer.newLine();
+        } else if (!finDeLigne) {
+            // La ligne incomplète est terminée par un champ non numérique, pour rester ignorée aux prochaines ouvertures
+            writer.write(",incomplet");
+            writer.newLine();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Relit les simulations d'un journal sans l'ouvrir en écriture (par exemple pour
+     * fusionner les journaux de plusieurs processus, voir {@link FusionBalayage}).
+     * @param nomFichier Le nom du fichier.
+     * @return Les simulations du journal, dans l'ordre du fichier.
+     * @throws IOException Si le fichier ne peut pas être lu ou n'a pas l'en-tête attendu.
+     */
+    public static List<Simulation> lire(String nomFichier) throws IOException {
+        File fichier = new File(nomFichier);
+        List<Simulation> simulations = new ArrayList<>();
+        if (fichier.length() > 0) {
+            lireFichier(fichier, finitParFinDeLigne(fichier), simulations);
+        }
+        return simulations;
+    }
+
+    /**
+     * @param fichier Un fichier non vide.
+     * @return true si le fichier se termine par une fin de ligne.
+     * @throws IOException Si le fichier ne peut pas être lu.
+     */
+    private static boolean finitParFinDeLigne(File fichier) throws IOException {
+        try (RandomAccessFile acces = new RandomAccessFile(fichier, "r")) {
+            acces.seek(acces.length() - 1);
+            return acces.read() == '\n';
+        }
+    }
+
+    /**
+     * Relit les lignes d'un journal ; les lignes incomplètes ou illisibles sont ignorées.
+     * @param fichier Le fichier.
+     * @param finDeLigne true si le fichier se termine par une fin de ligne.
+     * @param simulations La liste à compléter avec les simulations lues.
+     * @return Le nombre de lignes ignorées.
+     * @throws IOException Si le fichier ne peut pas être lu ou n'a pas l'en-tête attendu.
+     */
+    private static int lireFichier(File fichier, boolean finDeLigne, List<Simulation> simulations) throws IOException {
+        int nbIgnorees = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(fichier))) {
+            if (!EN_TETE.equals(reader.readLine())) {
+                throw new IOException("En-tête inattendu dans le journal " + fichier
+                        + " (journal d'un format antérieur, sans le modèle de chaîne ?)");
+            }
+            String ligne = reader.readLine();
+            while (ligne != null) {
+                String suivante = reader.readLine();
+                // Une dernière ligne sans fin de ligne a pu être tronquée au milieu d'un nombre
+                Simulation simulation = suivante != null || finDeLigne ? lireLigne(ligne) : null;
+                if (simulation != null) {
+                    simulations.add(simulation);
+                } else {
+                    nbIgnorees++;
+                }
+                ligne = suivante;
+            }
+        }
+        return nbIgnorees;
+    }
+
+    /**
+     * Relit une ligne du journal.
+     * @param ligne La ligne lue.
+     * @return La simulation, ou null si la ligne est incomplète ou illisible.
+     */
+    private static Simulation lireLigne(String ligne) {
+        String[] champs = ligne.split(",");
+        if (champs.length != 9) {
+            return null;
+        }
+        try {
+            ResultatTEB resultat = new ResultatTEB(Long.parseLong(champs[5]), Long.parseLong(champs[6]),
+                    Long.parseLong(champs[7]), Long.parseLong(champs[8]), null);
+            return new Simulation(champs[0], Double.parseDouble(champs[1]), Boolean.parseBoolean(champs[2]),
+                    Boolean.parseBoolean(champs[3]), Long.parseLong(champs[4]), resultat);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Construit la clé d'une simulation.
+     */
+    private static String cle(String modulation, double snr, boolean codeur, boolean modeleBinaire, long germe, long nbBits) {
+        return modulation + "," + snr + "," + codeur + "," + modeleBinaire + "," + germe + "," + nbBits;
+    }
+
+    /**
+     * Cherche une simulation dans le journal.
+     * @param modulation Le type de modulation.
+     * @param snr Le SNR par bit (en dB).
+     * @param codeur true si la simulation utilise le codeur.
+     * @param modeleBinaire true si la simulation utilise le modèle binaire équivalent.
+     * @param germe Le germe de la simulation.
+     * @param nbBits La taille du message simulé.
+     * @return Les comptes d'erreurs journalisés (sans les positions), ou null si la simulation n'a pas été journalisée.
+     */
+    public synchronized ResultatTEB getResultat(String modulation, double snr, boolean codeur, boolean modeleBinaire,
+                                                long germe, long nbBits) {
+        return resultats.get(cle(modulation, snr, codeur, modeleBinaire, germe, nbBits));
+    }
+
+    /**
+     * Ajoute une simulation terminée au journal et vide le journal sur disque.
+     * @param modulation Le type de modulation.
+     * @param snr Le SNR par bit (en dB).
+     * @param codeur true si la simulation utilise le codeur.
+     * @param modeleBinaire true si la simulation utilise le modèle binaire équivalent.
+     * @param germe Le germe de la simulation.
+     * @param resultat Les statistiques d'erreurs de la simulation.
+     * @throws IOException Si l'écriture échoue.
+     */
+    public synchronized void enregistrer(String modulation, double snr, boolean codeur, boolean modeleBinaire, long germe,
+                                         ResultatTEB resultat) throws IOException {
+        String cle = cle(modulation, snr, codeur, modeleBinaire, germe, resultat.getNbBits());
+        if (resultats.putIfAbsent(cle, resultat) != null) {
+            return;
+        }
+        writer.write(cle + "," + resultat.getNbErreurs() + "," + resultat.getNbRafales() + "," + resultat.getLongueurMaxRafale());
+        writer.newLine();
+        writer.flush();
+    }
+
+    /**
+     * @return Le nombre de simulations journalisées.
+     */
+    public synchronized int getNbSimulations() {
+        return resultats.size();
+    }
+
+    /**
+     * @return Le nombre de lignes illisibles ignorées à l'ouverture.
+     */
+    public int getNbLignesIgnorees() {
+        return nbLignesIgnorees;
+    }
+
+    /**
+     * Une simulation journalisée.
+     */
+    public static class Simulation {
+        private final String modulation;
+        private final double snr;
+        private final boolean codeur;
+        private final boolean modeleBinaire;
+        private final long germe;
+        private final ResultatTEB resultat;
+
+        Simulation(String modulation, double snr, boolean codeur, boolean modeleBinaire, long germe, ResultatTEB resultat) {
+            this.modulation = modulation;
+            this.snr = snr;
+            this.codeur = codeur;
+            this.modeleBinaire = modeleBinaire;
+            this.germe = germe;
+            this.resultat = resultat;
+        }
+
+        String cle() {
+            return JournalBalayage.cle(modulation, snr, codeur, modeleBinaire, germe, resultat.getNbBits());
+        }
+
+        /**
+         * @return Le type de modulation.
+         */
+        public String getModulation() {
+            return modulation;
+        }
+
+        /**
+         * @return Le SNR par bit (en dB).
+         */
+        public double getSnr() {
+            return snr;
+        }
+
+        /**
+         * @return true si la simulation utilise le codeur.
+         */
+        public boolean isCodeur() {
+            return codeur;
+        }
+
+        /**
+         * @return true si la simulation utilise le modèle binaire équivalent.
+         */
+        public boolean isModeleBinaire() {
+            return modeleBinaire;
+        }
+
+        /**
+         * @return Le germe de la simulation.
+         */
+        public long getGerme() {
+            return germe;
+        }
+
+        /**
+         * @return Les comptes d'erreurs de la simulation.
+         */
+        public ResultatTEB getResultat() {
+            return resultat;
+        }
+    }
+
+    /**
+     * Ferme le journal.
+     * @throws IOException Si la fermeture échoue.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
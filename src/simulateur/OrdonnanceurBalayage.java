@@ -0,0 +1,136 @@
+package simulateur;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * La classe OrdonnanceurBalayage exécute les tâches indexées d'un balayage
+ * (une simulation par point de la courbe) sur un {@link ForkJoinPool}, dont les
+ * threads inactifs volent le travail des autres, et transmet leurs résultats
+ * dans l'ordre des indices dès que possible.
+ * <p>
+ * Le nombre de tâches soumises dont le résultat n'a pas encore été transmis
+ * (en cours ou terminées en avance sur l'ordre) est borné : une nouvelle tâche
+ * n'est soumise qu'une fois un résultat transmis.  La mémoire occupée ne dépend
+ * donc pas du nombre de points du balayage.
+ *
+ * @param <R> le type des résultats des tâches
+ */
+public class OrdonnanceurBalayage<R> {
+
+    /**
+     * Une tâche du balayage.
+     * @param <R> le type du résultat
+     */
+    @FunctionalInterface
+    public interface Tache<R> {
+        /**
+         * @param indice L'indice de la tâche dans le balayage.
+         * @return Le résultat de la tâche.
+         * @throws Exception Si une erreur survient pendant la tâche.
+         */
+        R executer(int indice) throws Exception;
+    }
+
+    /**
+     * Le destinataire des résultats, appelé dans l'ordre des indices par le thread
+     * qui a lancé le balayage.
+     * @param <R> le type des résultats
+     */
+    @FunctionalInterface
+    public interface Consommateur<R> {
+        /**
+         * @param indice L'indice de la tâche.
+         * @param resultat Le résultat de la tâche.
+         * @throws Exception Si une erreur survient lors du traitement du résultat.
+         */
+        void accepter(int indice, R resultat) throws Exception;
+    }
+
+    /** Le nombre de threads. */
+    private final int nbThreads;
+
+    /** Le nombre maximal de tâches soumises dont le résultat n'a pas été transmis. */
+    private final int maxEnCours;
+
+    /**
+     * Construit un ordonnanceur.
+     * @param nbThreads Le nombre de threads.
+     * @param maxEnCours Le nombre maximal de tâches soumises dont le résultat n'a pas encore été transmis.
+     */
+    public OrdonnanceurBalayage(int nbThreads, int maxEnCours) {
+        if (nbThreads < 1 || maxEnCours < 1) {
+            throw new IllegalArgumentException("Il faut au moins un thread et une tâche en cours.");
+        }
+        this.nbThreads = nbThreads;
+        this.maxEnCours = maxEnCours;
+    }
+
+    /**
+     * Construit un ordonnanceur utilisant tous les processeurs, avec deux tâches en cours par thread.
+     */
+    public OrdonnanceurBalayage() {
+        this(Runtime.getRuntime().availableProcessors(), 2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Exécute les tâches d'indices 0 à nbTaches - 1 et transmet leurs résultats dans l'ordre.
+     * @param nbTaches Le nombre de tâches.
+     * @param tache La tâche à exécuter pour chaque indice.
+     * @param consommateur Le destinataire des résultats.
+     * @throws Exception La première erreur survenue dans une tâche ou dans le consommateur.
+     */
+    public void executer(int nbTaches, Tache<R> tache, Consommateur<R> consommateur) throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(nbThreads);
+        CompletionService<Resultat<R>> completionService = new ExecutorCompletionService<>(pool);
+        // Résultats terminés en avance sur le prochain indice à transmettre
+        Map<Integer, R> enAttente = new HashMap<>();
+        int prochainSoumis = 0;
+        int prochainTransmis = 0;
+        try {
+            while (prochainTransmis < nbTaches) {
+                // Soumettre tant que la fenêtre n'est pas pleine
+                while (prochainSoumis < nbTaches && prochainSoumis - prochainTransmis < maxEnCours) {
+                    final int indice = prochainSoumis++;
+                    completionService.submit(() -> {
+                        // L'erreur est transmise telle quelle, sans être enveloppée par le pool
+                        try {
+                            return new Resultat<>(indice, tache.executer(indice), null);
+                        } catch (Exception e) {
+                            return new Resultat<>(indice, null, e);
+                        }
+                    });
+                }
+                Resultat<R> resultat = completionService.take().get();
+                if (resultat.erreur != null) {
+                    throw resultat.erreur;
+                }
+                enAttente.put(resultat.indice, resultat.valeur);
+                while (enAttente.containsKey(prochainTransmis)) {
+                    consommateur.accepter(prochainTransmis, enAttente.remove(prochainTransmis));
+                    prochainTransmis++;
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+            pool.awaitTermination(1, TimeUnit.HOURS);
+        }
+    }
+
+    // Résultat d'une tâche avec son indice, ou l'erreur survenue
+    private static class Resultat<R> {
+        final int indice;
+        final R valeur;
+        final Exception erreur;
+
+        Resultat(int indice, R valeur, Exception erreur) {
+            this.indice = indice;
+            this.valeur = valeur;
+            this.erreur = erreur;
+        }
+    }
+}
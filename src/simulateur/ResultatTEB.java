@@ -0,0 +1,225 @@
+package simulateur;
+
+import information.BitInformation;
+import information.Information;
+
+import java.util.Arrays;
+
+/**
+ * La classe ResultatTEB compare un message émis et un message reçu
+ * par mots de 64 bits (ou exclusif puis {@link Long#bitCount}) et regroupe
+ * les statistiques d'erreurs : nombre d'erreurs, taux d'erreur binaire,
+ * rafales d'erreurs consécutives, intervalle de confiance du TEB et,
+ * sur demande, les positions des erreurs.
+ */
+public class ResultatTEB {
+
+    /** Le quantile de la loi normale pour un intervalle de confiance à 95 %. */
+    public static final double Z_95 = 1.959963984540054;
+
+    /** Le nombre de bits comparés. */
+    private final long nbBits;
+
+    /** Le nombre de bits erronés. */
+    private final long nbErreurs;
+
+    /** Le nombre de rafales (suites maximales de bits erronés consécutifs). */
+    private final long nbRafales;
+
+    /** La longueur de la plus longue rafale. */
+    private final long longueurMaxRafale;
+
+    /** Les positions des erreurs, ou null si elles n'ont pas été demandées. */
+    private final int[] positions;
+
+    ResultatTEB(long nbBits, long nbErreurs, long nbRafales, long longueurMaxRafale, int[] positions) {
+        this.nbBits = nbBits;
+        this.nbErreurs = nbErreurs;
+        this.nbRafales = nbRafales;
+        this.longueurMaxRafale = longueurMaxRafale;
+        this.positions = positions;
+    }
+
+    /**
+     * Compare un message émis et un message reçu.  Les bits émis absents du
+     * message reçu (message reçu plus court) sont comptés comme erronés.
+     * @param emis Le message émis.
+     * @param recu Le message reçu.
+     * @param avecPositions true pour relever les positions des erreurs.
+     * @return Les statistiques d'erreurs.
+     */
+    public static ResultatTEB comparer(Information<Boolean> emis, Information<Boolean> recu, boolean avecPositions) {
+        BitInformation bitsEmis = BitInformation.depuis(emis);
+        BitInformation bitsRecus = BitInformation.depuis(recu);
+        long[] motsEmis = bitsEmis.getMots();
+        long[] motsRecus = bitsRecus.getMots();
+        int nbBits = bitsEmis.nbElements();
+        int nbBitsRecus = Math.min(nbBits, bitsRecus.nbElements());
+
+        long nbErreurs = 0;
+        long nbRafales = 0;
+        long longueurMaxRafale = 0;
+        long rafaleEnCours = 0; // longueur de la rafale qui se poursuit au mot suivant
+        int[] positions = avecPositions ? new int[16] : null;
+        int nbPositions = 0;
+
+        for (int m = 0; m < BitInformation.nbMots(nbBits); m++) {
+            int debut = m << 6;
+            long erreurs;
+            if (debut + 64 <= nbBitsRecus) {
+                erreurs = motsEmis[m] ^ motsRecus[m];
+            } else {
+                // Dernier mot : bits reçus puis bits manquants, au-delà de nbBits rien
+                int nbValides = Math.min(64, nbBits - debut);
+                int nbCompares = Math.max(0, nbBitsRecus - debut);
+                long masqueValides = nbValides == 64 ? -1L : (1L << nbValides) - 1;
+                long masqueCompares = nbCompares == 64 ? -1L : (1L << nbCompares) - 1;
+                long recus = nbCompares > 0 ? motsRecus[m] : 0L;
+                erreurs = (((motsEmis[m] ^ recus) & masqueCompares) | ~masqueCompares) & masqueValides;
+            }
+            if (erreurs == 0) {
+                longueurMaxRafale = Math.max(longueurMaxRafale, rafaleEnCours);
+                rafaleEnCours = 0;
+                continue;
+            }
+            nbErreurs += Long.bitCount(erreurs);
+
+            if (avecPositions) {
+                for (long e = erreurs; e != 0; e &= e - 1) {
+                    if (nbPositions == positions.length) {
+                        positions = Arrays.copyOf(positions, 2 * positions.length);
+                    }
+                    positions[nbPositions++] = debut + Long.numberOfTrailingZeros(e);
+                }
+            }
+
+            // Rafales : parcours des suites de 1 du mot
+            int i = 0;
+            while (i < 64) {
+                long reste = erreurs >>> i;
+                if (reste == 0) {
+                    longueurMaxRafale = Math.max(longueurMaxRafale, rafaleEnCours);
+                    rafaleEnCours = 0;
+                    break;
+                }
+                int zeros = Long.numberOfTrailingZeros(reste);
+                if (zeros > 0) {
+                    longueurMaxRafale = Math.max(longueurMaxRafale, rafaleEnCours);
+                    rafaleEnCours = 0;
+                    i += zeros;
+                }
+                int uns = Long.numberOfTrailingZeros(~(erreurs >>> i));
+                if (uns > 64 - i) {
+                    uns = 64 - i;
+                }
+                if (rafaleEnCours == 0) {
+                    nbRafales++;
+                }
+                rafaleEnCours += uns;
+                i += uns;
+            }
+        }
+        longueurMaxRafale = Math.max(longueurMaxRafale, rafaleEnCours);
+
+        return new ResultatTEB(nbBits, nbErreurs, nbRafales, longueurMaxRafale,
+                avecPositions ? Arrays.copyOf(positions, nbPositions) : null);
+    }
+
+    /**
+     * Cumule ce résultat avec celui d'une autre comparaison (message suivant).
+     * Les rafales ne sont pas raccordées d'un message à l'autre et les positions
+     * des erreurs ne sont pas conservées.
+     * @param autre Le résultat à cumuler.
+     * @return Le résultat cumulé.
+     */
+    public ResultatTEB cumuler(ResultatTEB autre) {
+        return new ResultatTEB(nbBits + autre.nbBits, nbErreurs + autre.nbErreurs, nbRafales + autre.nbRafales,
+                Math.max(longueurMaxRafale, autre.longueurMaxRafale), null);
+    }
+
+    /**
+     * @return Le nombre de bits comparés.
+     */
+    public long getNbBits() {
+        return nbBits;
+    }
+
+    /**
+     * @return Le nombre de bits erronés.
+     */
+    public long getNbErreurs() {
+        return nbErreurs;
+    }
+
+    /**
+     * @return Le taux d'erreur binaire.
+     */
+    public double getTeb() {
+        return nbBits == 0 ? 0.0 : (double) nbErreurs / nbBits;
+    }
+
+    /**
+     * @return Le nombre de rafales d'erreurs (suites maximales de bits erronés consécutifs).
+     */
+    public long getNbRafales() {
+        return nbRafales;
+    }
+
+    /**
+     * @return La longueur de la plus longue rafale d'erreurs.
+     */
+    public long getLongueurMaxRafale() {
+        return longueurMaxRafale;
+    }
+
+    /**
+     * @return La longueur moyenne des rafales d'erreurs (0 sans erreur).
+     */
+    public double getLongueurMoyenneRafale() {
+        return nbRafales == 0 ? 0.0 : (double) nbErreurs / nbRafales;
+    }
+
+    /**
+     * @return Les positions des erreurs dans l'ordre croissant, ou null si elles n'ont pas été demandées.
+     */
+    public int[] getPositions() {
+        return positions == null ? null : positions.clone();
+    }
+
+    /**
+     * Calcule l'intervalle de confiance du TEB par la méthode de Wilson,
+     * qui reste valable pour un nombre d'erreurs faible ou nul.
+     * @param z Le quantile de la loi normale (par exemple {@link #Z_95}).
+     * @return Les bornes inférieure et supérieure de l'intervalle.
+     */
+    public double[] intervalleConfiance(double z) {
+        if (nbBits == 0) {
+            return new double[]{0.0, 1.0};
+        }
+        double p = getTeb();
+        double z2n = z * z / nbBits;
+        double centre = (p + z2n / 2) / (1 + z2n);
+        double demiLargeur = z * Math.sqrt(p * (1 - p) / nbBits + z2n / (4 * nbBits)) / (1 + z2n);
+        return new double[]{Math.max(0.0, centre - demiLargeur), Math.min(1.0, centre + demiLargeur)};
+    }
+
+    /**
+     * Indique si le TEB est estimé avec une précision relative donnée, au niveau de confiance de 95 %.
+     * @param precisionRelative La demi-largeur maximale de l'intervalle, relative au TEB (par exemple 0.1).
+     * @return true si l'estimation a convergé (jamais sans erreur observée).
+     */
+    public boolean aConverge(double precisionRelative) {
+        if (nbErreurs == 0) {
+            return false;
+        }
+        double[] intervalle = intervalleConfiance(Z_95);
+        return (intervalle[1] - intervalle[0]) / 2 <= precisionRelative * getTeb();
+    }
+
+    @Override
+    public String toString() {
+        double[] intervalle = intervalleConfiance(Z_95);
+        return "TEB : " + getTeb() + " (" + nbErreurs + " erreurs sur " + nbBits + " bits, IC 95 % ["
+                + intervalle[0] + ", " + intervalle[1] + "], " + nbRafales + " rafales, max " + longueurMaxRafale + ")";
+    }
+}
@@ -0,0 +1,111 @@
+package simulateur;
+
+/**
+ * La classe ResultatTEBPondere regroupe les statistiques d'erreurs d'une transmission
+ * en échantillonnage d'importance : chaque bit erroné compte pour le rapport de
+ * vraisemblance de son bruit (voir
+ * {@link transmetteurs.TransmetteurAnalogiqueBruite#setEchantillonnageImportance}).
+ * <p>
+ * Le TEB est estimé par la somme des poids des erreurs divisée par le nombre de bits,
+ * et son intervalle de confiance par l'approximation normale à partir de la somme des
+ * carrés des poids.  Le nombre d'erreurs et les rafales sont ceux de la transmission
+ * biaisée, sans pondération.
+ */
+public class ResultatTEBPondere extends ResultatTEB {
+
+    /** La somme des poids des bits erronés. */
+    private final double sommePoids;
+
+    /** La somme des carrés des poids des bits erronés. */
+    private final double sommeCarresPoids;
+
+    ResultatTEBPondere(long nbBits, long nbErreurs, long nbRafales, long longueurMaxRafale,
+                       double sommePoids, double sommeCarresPoids) {
+        super(nbBits, nbErreurs, nbRafales, longueurMaxRafale, null);
+        this.sommePoids = sommePoids;
+        this.sommeCarresPoids = sommeCarresPoids;
+    }
+
+    /**
+     * Pondère les erreurs d'une comparaison par les poids des bits.
+     * @param resultat La comparaison, avec les positions des erreurs.
+     * @param poids Le poids de chaque bit du message émis.
+     * @return Les statistiques d'erreurs pondérées.
+     * @throws IllegalArgumentException si les positions des erreurs n'ont pas été relevées.
+     */
+    public static ResultatTEBPondere ponderer(ResultatTEB resultat, double[] poids) {
+        int[] positions = resultat.getPositions();
+        if (positions == null) {
+            throw new IllegalArgumentException("Les positions des erreurs sont nécessaires pour les pondérer.");
+        }
+        double sommePoids = 0.0;
+        double sommeCarresPoids = 0.0;
+        for (int position : positions) {
+            double p = poids[position];
+            sommePoids += p;
+            sommeCarresPoids += p * p;
+        }
+        return new ResultatTEBPondere(resultat.getNbBits(), resultat.getNbErreurs(), resultat.getNbRafales(),
+                resultat.getLongueurMaxRafale(), sommePoids, sommeCarresPoids);
+    }
+
+    /**
+     * Cumule ce résultat avec celui d'une autre transmission.  Les erreurs d'un
+     * résultat non pondéré comptent chacune pour un poids de 1.
+     * @param autre Le résultat à cumuler.
+     * @return Le résultat cumulé.
+     */
+    @Override
+    public ResultatTEBPondere cumuler(ResultatTEB autre) {
+        double autreSomme = autre.getNbErreurs();
+        double autreSommeCarres = autre.getNbErreurs();
+        if (autre instanceof ResultatTEBPondere) {
+            autreSomme = ((ResultatTEBPondere) autre).sommePoids;
+            autreSommeCarres = ((ResultatTEBPondere) autre).sommeCarresPoids;
+        }
+        return new ResultatTEBPondere(getNbBits() + autre.getNbBits(), getNbErreurs() + autre.getNbErreurs(),
+                getNbRafales() + autre.getNbRafales(), Math.max(getLongueurMaxRafale(), autre.getLongueurMaxRafale()),
+                sommePoids + autreSomme, sommeCarresPoids + autreSommeCarres);
+    }
+
+    /**
+     * @return La somme des poids des bits erronés.
+     */
+    public double getSommePoids() {
+        return sommePoids;
+    }
+
+    /**
+     * @return Le TEB estimé : somme des poids des erreurs divisée par le nombre de bits.
+     */
+    @Override
+    public double getTeb() {
+        return getNbBits() == 0 ? 0.0 : sommePoids / getNbBits();
+    }
+
+    /**
+     * Calcule l'intervalle de confiance du TEB par l'approximation normale, à partir de la
+     * variance empirique des poids.  Sans erreur observée, la variance n'est pas estimable
+     * et l'intervalle est [0, 1].
+     * @param z Le quantile de la loi normale (par exemple {@link #Z_95}).
+     * @return Les bornes inférieure et supérieure de l'intervalle.
+     */
+    @Override
+    public double[] intervalleConfiance(double z) {
+        if (getNbErreurs() == 0) {
+            return new double[]{0.0, 1.0};
+        }
+        long n = getNbBits();
+        double p = getTeb();
+        double variance = Math.max(0.0, sommeCarresPoids / n - p * p) / n;
+        double demiLargeur = z * Math.sqrt(variance);
+        return new double[]{Math.max(0.0, p - demiLargeur), Math.min(1.0, p + demiLargeur)};
+    }
+
+    @Override
+    public String toString() {
+        double[] intervalle = intervalleConfiance(Z_95);
+        return "TEB pondéré : " + getTeb() + " (" + getNbErreurs() + " erreurs biaisées sur " + getNbBits()
+                + " bits, IC 95 % [" + intervalle[0] + ", " + intervalle[1] + "])";
+    }
+}
@@ -2,7 +2,6 @@ package simulateur;
 
 import destinations.*;
 import information.*;
-import java.util.Objects;
 import sources.*;
 import transmetteurs.*;
 import visualisations.*;
@@ -90,6 +89,12 @@ public class Simulateur {
     /** Le décodeur utilisé */
     private DecodageReception decodeur = null;
 
+    /** la taille des blocs émis en flux par la source (null : message émis en une fois) */
+    private Integer tailleBloc = null;
+
+    /** l'ordre de la séquence PRBS émise par la source (null : message aléatoire ou imposé) */
+    private Integer ordrePRBS = null;
+
     /** Le constructeur de Simulateur construit une chaîne de
      * transmission composée d'une Source &lt;Boolean&gt;, d'une Destination
      * &lt;Boolean&gt; et de Transmetteur(s) [voir la méthode
@@ -105,12 +110,15 @@ public class Simulateur {
         // analyser et récupérer les arguments   	
         analyseArguments(args);
         // Générer la source
-        if (messageAleatoire) {
-            if (aleatoireAvecGerme) {
-                source = new SourceAleatoire(nbBitsMess, seed);
-            } else {
-                source = new SourceAleatoire(nbBitsMess);
-            }
+        if (ordrePRBS != null) {
+            source = new SourcePRBS(ordrePRBS, nbBitsMess, germePRBS());
+        } else if (messageAleatoire) {
+            SourceAleatoire sourceAleatoire = aleatoireAvecGerme
+                    ? new SourceAleatoire(nbBitsMess, Germes.deriver(seed, Germes.SOURCE))
+                    : new SourceAleatoire(nbBitsMess);
+            // En flux, les blocs sont générés à la demande
+            sourceAleatoire.setGenerationParesseuse(tailleBloc != null);
+            source = sourceAleatoire;
         } else {
             source = new SourceFixe(messageString);
         }
@@ -141,7 +149,7 @@ public class Simulateur {
     
     private void simulateurLogiqueParfait() {
         transmetteurLogique = new TransmetteurParfait();
-        destination = new DestinationFinale();
+        destination = nouvelleDestination();
         if (utiliserCodeur) {
             source.connecter(codeur);
             codeur.connecter(transmetteurLogique);
@@ -173,7 +181,7 @@ public class Simulateur {
 		emetteur.connecter(transmetteurAnalogique);
 		recepteur = new Recepteur(Amin, Amax, nbEchantillonsParBit, typeModulation);
 		transmetteurAnalogique.connecter(recepteur);
-		destination = new DestinationFinale();
+		destination = nouvelleDestination();
         if (utiliserCodeur) {
             recepteur.connecter(decodeur);
             decodeur.connecter(destination);
@@ -205,10 +213,11 @@ public class Simulateur {
 	        source.connecter(emetteur);
         }
 	    transmetteurAnalogiqueBruite = new TransmetteurAnalogiqueBruite(snr, nbEchantillonsParBit);
+	    transmetteurAnalogiqueBruite.setGerme(germeBruit());
 	    emetteur.connecter(transmetteurAnalogiqueBruite);
 	    recepteur = new Recepteur(Amin, Amax, nbEchantillonsParBit, typeModulation);
 	    transmetteurAnalogiqueBruite.connecter(recepteur);
-	    destination = new DestinationFinale();
+	    destination = nouvelleDestination();
         if (utiliserCodeur) {
             recepteur.connecter(decodeur);
             decodeur.connecter(destination);
@@ -245,6 +254,7 @@ public class Simulateur {
             }
             //System.out.println("SNR utilisé dans la simulation : " + snr);
             TransmetteurAnalogiqueBruite transmetteurAnalogiqueBruite = new TransmetteurAnalogiqueBruite(snr, nbEchantillonsParBit);
+            transmetteurAnalogiqueBruite.setGerme(germeBruit());
             //System.out.println("Transmetteur bruité" + transmetteurAnalogiqueBruite.toString());
             transmetteurAnalogiqueMultiTrajet.connecter(transmetteurAnalogiqueBruite);
             recepteur = new Recepteur(Amin, Amax, nbEchantillonsParBit, typeModulation);
@@ -257,7 +267,7 @@ public class Simulateur {
             recepteur = new Recepteur(Amin, Amax, nbEchantillonsParBit, typeModulation);
             transmetteurAnalogiqueMultiTrajet.connecter(recepteur);
         }
-        destination = new DestinationFinale();
+        destination = nouvelleDestination();
         if (utiliserCodeur) {
             recepteur.connecter(decodeur);
             decodeur.connecter(destination);
@@ -276,6 +286,31 @@ public class Simulateur {
         }
     }
 
+    /**
+     * Crée la destination de la chaîne : une destination qui régénère la séquence
+     * de référence si la source est une séquence PRBS, une destination finale sinon.
+     * @return la destination.
+     */
+    private Destination<Boolean> nouvelleDestination() {
+        return ordrePRBS != null ? new DestinationPRBS(ordrePRBS, germePRBS()) : new DestinationFinale();
+    }
+
+    /**
+     * Renvoie le germe du registre de la séquence PRBS, dérivé du germe de la simulation.
+     * @return le germe du registre, ou 0 (registre initialisé à 1) si la simulation n'utilise pas de germe.
+     */
+    private long germePRBS() {
+        return aleatoireAvecGerme ? Germes.deriver(seed, Germes.SOURCE) : 0;
+    }
+
+    /**
+     * Renvoie le germe du bruit, dérivé du germe de la simulation (indépendant de celui de la source).
+     * @return le germe du bruit, ou null si la simulation n'utilise pas de germe.
+     */
+    private Long germeBruit() {
+        return aleatoireAvecGerme ? Germes.deriver(seed, Germes.BRUIT) : null;
+    }
+
     /** La méthode analyseArguments extrait d'un tableau de chaînes de
      * caractères les différentes options de la simulation.  <br>Elle met
      * à jour les attributs correspondants du Simulateur.
@@ -288,7 +323,7 @@ public class Simulateur {
      * <dt> -mess m  </dt><dd> m (String) constitué de 7 ou plus digits à 0 | 1, le message à transmettre</dd>
      * <dt> -mess m  </dt><dd> m (int) constitué de 1 à 6 digits, le nombre de bits du message "aléatoire" à transmettre</dd> 
      * <dt> -s </dt><dd> pour demander l'utilisation des sondes d'affichage</dd>
-     * <dt> -seed v </dt><dd> v (int) d'initialisation pour les générateurs aléatoires</dd> 
+     * <dt> -seed v </dt><dd> v (int) d'initialisation pour les générateurs aléatoires (source et bruit, chacun avec un germe dérivé de v)</dd> 
      * <dt> -form f </dt><dd> f (String) NRZ, NRZT, RZ, le format de modulation pour le signal analogique</dd>
      * <dt> -nbEch n </dt><dd> n (int) le nombre d'échantillons par bit</dd>
      * <dt> -ampl min max </dt><dd> min, max (float) les amplitudes min et max pour la représentation d'un bit</dd>
@@ -296,6 +331,9 @@ public class Simulateur {
      * <dt> -snr v </dt><dd> v (float) le SNR en dB</dd>
      * <dt> -ti d1 a1 ... dn an </dt><dd> d1, a1, ..., dn, an (int, float) les délais et atténuations des trajets indirects</dd>
      * <dt> -codeur </dt><dd> pour activer le codeur</dd>
+     * <dt> -bloc t </dt><dd> t (int) pour émettre le message en flux, par blocs de t bits</dd>
+     * <dt> -prbs n </dt><dd> n (int) 7, 15, 23 ou 31, pour émettre une séquence PRBS-n (de la taille donnée par -mess),
+     * que la destination régénère pour mesurer le TEB sans conserver le message</dd>
      * </dl>
      *
      * @throws ArgumentsException si un des arguments est incorrect.
@@ -307,6 +345,26 @@ public class Simulateur {
                 affichage = true;
             } else if (args[i].matches("-codeur")) {
                 utiliserCodeur = true;
+            } else if (args[i].matches("-bloc")) {
+                i++;
+                try {
+                    tailleBloc = Integer.valueOf(args[i]);
+                } catch (Exception e) {
+                    throw new ArgumentsException("Valeur du paramètre -bloc invalide : " + args[i]);
+                }
+                if (tailleBloc < 1) {
+                    throw new ArgumentsException("Valeur du paramètre -bloc invalide : " + tailleBloc);
+                }
+            } else if (args[i].matches("-prbs")) {
+                i++;
+                try {
+                    ordrePRBS = Integer.valueOf(args[i]);
+                } catch (Exception e) {
+                    throw new ArgumentsException("Valeur du paramètre -prbs invalide : " + args[i]);
+                }
+                if (!GenerateurPRBS.estOrdreValide(ordrePRBS)) {
+                    throw new ArgumentsException("Valeur du paramètre -prbs invalide : " + ordrePRBS);
+                }
             }else if (args[i].matches("-seed")) {
                 aleatoireAvecGerme = true;
                 i++;
@@ -396,20 +454,25 @@ public class Simulateur {
                     i++;
                 }
                 i--; // Step back to not skip next argument
-                if (trajetsIndirects.size() > 5) {
-                    throw new ArgumentsException("Vous ne pouvez spécifier que jusqu'à 5 trajets indirects.");
-                }
             } else {
                 throw new ArgumentsException("Option invalide : " + args[i]);
             }
         }
+        if (ordrePRBS != null && !messageAleatoire) {
+            throw new ArgumentsException("Vous ne pouvez pas spécifier à la fois -prbs et un message imposé.");
+        }
     }    
     /** La méthode execute effectue un envoi de message par la source
-     * de la chaîne de transmission du Simulateur.
+     * de la chaîne de transmission du Simulateur, en une fois ou en flux
+     * par blocs si l'option -bloc a été donnée.
      * @throws Exception si un problème survient lors de l'exécution
      */
     public void execute() throws Exception {      
-        source.emettre();
+        if (tailleBloc != null) {
+            source.emettreParBlocs(tailleBloc);
+        } else {
+            source.emettre();
+        }
     }
    
     /** La méthode qui calcule le taux d'erreur binaire en comparant
@@ -418,20 +481,52 @@ public class Simulateur {
      * @throws Exception si un problème survient lors du calcul.
      */   	   
     public float calculTauxErreurBinaire() throws Exception{
+        ResultatTEB resultat = calculResultatTEB(false);
+        return (float) resultat.getNbErreurs() / resultat.getNbBits();
+    }
+
+    /** La méthode qui compare, par mots de 64 bits, les bits du message émis
+     * avec ceux du message reçu et renvoie les statistiques d'erreurs.
+     * @param avecPositions true pour relever les positions des erreurs (sans effet avec -prbs,
+     *                      la destination ne conservant pas le message).
+     * @return Les statistiques d'erreurs (nombre, TEB, rafales, intervalle de confiance).
+     * @throws Exception si aucune information n'a été reçue.
+     */
+    public ResultatTEB calculResultatTEB(boolean avecPositions) throws Exception {
+        if (destination instanceof DestinationPRBS) {
+            // La destination a déjà comparé les bits reçus à la séquence régénérée
+            DestinationPRBS destinationPRBS = (DestinationPRBS) destination;
+            if (destinationPRBS.getNbBits() == 0) {
+                throw new Exception("Aucune information reçue");
+            }
+            return new ResultatTEB(destinationPRBS.getNbBits(), destinationPRBS.getNbErreurs(),
+                    destinationPRBS.getNbRafales(), destinationPRBS.getLongueurMaxRafale(), null);
+        }
         Information<Boolean> informationEmise = source.getInformationEmise();
         Information<Boolean> informationRecue = destination.getInformationRecue();
         if (informationRecue == null) {
         	throw new Exception("Aucune information reçue");
         }
-        int nbErreurs = 0;
-        for (int i = 0; i < informationEmise.nbElements(); i++) {
-            if (!Objects.equals(informationEmise.iemeElement(i), informationRecue.iemeElement(i))) {
-                nbErreurs++;
-            }
-        }
-        return (float) nbErreurs / informationEmise.nbElements();
+        return ResultatTEB.comparer(informationEmise, informationRecue, avecPositions);
     }
     
+    /** La méthode qui calcule le TEB attendu de la chaîne de transmission sans la simuler
+     * (voir {@link EvaluateurTEB}) : avec les mêmes paramètres, le TEB mesuré par
+     * {@link #calculTauxErreurBinaire()} sur un long message aléatoire doit s'en approcher.
+     * @return Le TEB attendu (0 pour le simulateur logique parfait).
+     */
+    public double calculTEBAnalytique() {
+        if (defautLogique) {
+            return 0.0;
+        }
+        EvaluateurTEB evaluateur = new EvaluateurTEB(typeModulation, Amin, Amax, nbEchantillonsParBit,
+                trajetsIndirects, utiliserCodeur);
+        if (snr == null && snrParBit != null) {
+            return evaluateur.teb(snrParBit);
+        }
+        return evaluateur.tebSnr(snr);
+    }
+
     /**
      * Renvoie true si le message est aléatoire.
      * @return true si le message est aléatoire.
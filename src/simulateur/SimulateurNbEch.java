@@ -1,9 +1,7 @@
 package simulateur;
 
+import java.io.BufferedWriter;
 import java.io.FileWriter;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -16,7 +14,18 @@ public class SimulateurNbEch {
     private int nbSimulations;
     private Double snrpb; // SNR par bit
     private static final Boolean affichage = false;
+    private static final long GERME_MAITRE = 0; // Germe maître dont sont dérivés les germes de chaque simulation
     private AtomicInteger completedSimulations = new AtomicInteger(0);
+    // Chaîne de transmission de chaque thread, réutilisée d'une simulation à l'autre
+    private final ThreadLocal<ChaineTransmission> chaines = ThreadLocal.withInitial(() ->
+            new ChaineTransmission.Constructeur()
+                    .tailleMessage(1000)
+                    .modulation(typeModulation)
+                    .snrParBit(snrpb)
+                    //.codeur(true)
+                    //.amplitudes(-1.0f, 1.0f)
+                    .trajetIndirect(100, 0.5f) // Multi-trajets : décalage de 100 échantillons, amplitude 0.5
+                    .construire());
 
     /**
      * Constructeur de la classe SimulateurNbEch.
@@ -41,76 +50,43 @@ public class SimulateurNbEch {
      * @throws Exception Si une erreur survient pendant la simulation.
      */
     public void genererCourbeTEB(int nbEchMin, int nbEchMax, int pasNbEch, String fichierCSV) throws Exception {
-        List<Float> tebValues = new ArrayList<>();
-        List<Integer> nbEchValues = new ArrayList<>();
-
-        // Thread pool
-        int availableThreads = Runtime.getRuntime().availableProcessors();
-        ExecutorService executorService = Executors.newFixedThreadPool(availableThreads);
-
         // Calcul du nombre total de simulations
-        int totalSimulations = nbSimulations * (((nbEchMax - nbEchMin) / pasNbEch) + 1);
+        int nbValeurs = ((nbEchMax - nbEchMin) / pasNbEch) + 1;
+        int totalSimulations = nbSimulations * nbValeurs;
         completedSimulations.set(0);
 
         // Ouverture du fichier CSV pour écrire les résultats
-        try (FileWriter writer = new FileWriter(fichierCSV)) {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(fichierCSV))) {
             writer.write("Modulation,NbEch,TEB\n"); // En-tête du fichier CSV
 
-            // Boucle sur les valeurs de nombre d'échantillons
-            List<Future<SimulationResult>> futures = new ArrayList<>();
-            for (int nbEch = nbEchMin; nbEch <= nbEchMax; nbEch += pasNbEch) {
-
-                // Pour chaque nombre d'échantillons, on soumet les simulations au thread pool
-                for (int simulation = 0; simulation < nbSimulations; simulation++) {
-                    final int simIndex = simulation;
-                    final int currentNbEch = nbEch;
-
-                    Future<SimulationResult> future = executorService.submit(() -> {
-                        Simulateur simulateur = new Simulateur(new String[]{
-                                "-mess", "1000",
-                                "-form", typeModulation,
-                                "-seed", String.valueOf(simIndex + 1),
-                                "-nbEch", String.valueOf(currentNbEch),
-                                "-snrpb", String.valueOf(snrpb),
-                                //"-codeur",
-                                //"-ampl", "-1.0", "1.0",
-                                "-ti", "100", "0.5" // Multi-trajets : décalage de 100 échantillons, amplitude 0.5
-                        });
+            // Pour chaque nombre d'échantillons, les simulations se suivent ; les résultats
+            // sont écrits dans cet ordre dès qu'ils sont connus
+            new OrdonnanceurBalayage<Float>().executer(totalSimulations, indice -> {
+                int currentNbEch = nbEchMin + (indice / nbSimulations) * pasNbEch;
 
-                        simulateur.execute();
-                        float teb = simulateur.calculTauxErreurBinaire();
+                // Chaîne du thread, réutilisée avec le nouveau nombre d'échantillons et le nouveau germe
+                ChaineTransmission chaine = chaines.get();
+                chaine.setNbEchantillonsParBit(currentNbEch);
+                chaine.setGerme(Germes.deriver(GERME_MAITRE, currentNbEch, indice % nbSimulations));
+                ResultatTEB resultat = chaine.executer();
 
-                        updateProgressBar(totalSimulations);
-
-                        return new SimulationResult(currentNbEch, teb, simIndex);
-                    });
-
-                    futures.add(future);
-                }
-            }
-
-            // Récupérer les résultats des simulations
-            for (Future<SimulationResult> future : futures) {
-                SimulationResult result = future.get();
-
-                tebValues.add(result.teb);
-                nbEchValues.add(result.nbEch);
+                updateProgressBar(totalSimulations);
 
+                return (float) resultat.getNbErreurs() / resultat.getNbBits();
+            }, (indice, teb) -> {
+                int nbEch = nbEchMin + (indice / nbSimulations) * pasNbEch;
                 if (affichage) {
-                    System.out.println("Modulation: " + typeModulation + ", NbEch: " + result.nbEch + ", TEB: " + result.teb);
+                    System.out.println("Modulation: " + typeModulation + ", NbEch: " + nbEch + ", TEB: " + teb);
                 }
 
                 // Écriture dans le fichier CSV
-                writer.write(typeModulation + "," + result.nbEch + "," + result.teb + "\n");
-            }
+                writer.write(typeModulation + "," + nbEch + "," + teb + "\n");
+                writer.flush();
+            });
 
             if (affichage) {
                 System.out.println("Les résultats ont été enregistrés dans : " + fichierCSV);
             }
-        } finally {
-            // Shut down the executor service gracefully
-            executorService.shutdown();
-            executorService.awaitTermination(1, TimeUnit.HOURS);
         }
     }
 
@@ -159,17 +135,4 @@ public class SimulateurNbEch {
             e.printStackTrace();
         }
     }
-
-    // Classe pour encapsuler le résultat d'une simulation
-    private static class SimulationResult {
-        int nbEch;
-        float teb;
-        int simulationIndex;
-
-        public SimulationResult(int nbEch, float teb, int simulationIndex) {
-            this.nbEch = nbEch;
-            this.teb = teb;
-            this.simulationIndex = simulationIndex;
-        }
-    }
 }
\ No newline at end of file
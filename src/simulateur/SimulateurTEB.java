@@ -2,7 +2,12 @@ package simulateur;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.Objects;
+import java.io.BufferedWriter;
 import java.io.FileWriter;
+import java.io.IOException;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -15,6 +20,15 @@ public class SimulateurTEB {
     private int nbSimulations; // Number of simulations per SNR
     private static final Boolean affichage = false;
     private AtomicInteger completedSimulations = new AtomicInteger(0); // Atomic integer for progress tracking
+    // Chaînes de transmission de chaque thread, sans et avec codeur, puis les mêmes en échantillonnage
+    // d'importance, réutilisées d'une simulation à l'autre
+    private final ThreadLocal<ChaineTransmission[]> chaines = ThreadLocal.withInitial(() -> new ChaineTransmission[4]);
+    private JournalBalayage journal = null; // Journal des simulations terminées (null : pas de reprise)
+    private Instrumentation instrumentation = null; // Mesure des étages des chaînes (null : pas de mesure)
+    private int indicePartie = 0; // Partie du balayage simulée par ce processus
+    private int nbParties = 1; // Nombre de parties du balayage
+    private long germeMaitre = 0; // Germe maître dont sont dérivés les germes de chaque simulation
+    private boolean modeleBinaire = true; // Modèle binaire équivalent pour les chaînes NRZ et RZ
     
     /**
      * Constructeur de la classe SimulateurTEB.
@@ -27,6 +41,69 @@ public class SimulateurTEB {
         this.nbSimulations = nbSimulations;
     }
 
+    /**
+     * Associe un journal aux prochains balayages : chaque simulation terminée y est
+     * ajoutée, et les simulations déjà journalisées sont reprises au lieu d'être recalculées.
+     * Le journal ne doit servir qu'à des balayages de mêmes paramètres (nombre d'échantillons et amplitudes) ;
+     * le modèle de chaîne ({@link #setModeleBinaire}) est enregistré avec chaque simulation, si bien
+     * qu'un balayage repris avec l'autre modèle recalcule ses simulations au lieu de les mélanger.
+     * @param journal Le journal, ou null pour ne pas en utiliser.
+     */
+    public void setJournal(JournalBalayage journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Mesure les étages des chaînes de transmission des prochains balayages, les mesures
+     * de toutes les simulations et de tous les threads étant cumulées dans l'instrumentation.
+     * À appeler avant le premier balayage : les chaînes déjà construites ne sont pas mesurées.
+     * @param instrumentation L'instrumentation, ou null pour ne pas mesurer.
+     */
+    public void setInstrumentation(Instrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
+    /**
+     * Modifie le germe maître des prochains balayages.  Le germe de chaque simulation
+     * (ou de chaque bloc en mode adaptatif) en est dérivé par {@link Germes#deriverPoint},
+     * à partir de la valeur du SNR, du codeur et du rang de la simulation : les messages
+     * et le bruit sont indépendants d'un point à l'autre, et ne dépendent ni du nombre de
+     * threads ni de la répartition du balayage.
+     * @param germeMaitre Le germe maître.
+     */
+    public void setGermeMaitre(long germeMaitre) {
+        this.germeMaitre = germeMaitre;
+    }
+
+    /**
+     * Choisit, pour les chaînes construites ensuite, entre le modèle binaire équivalent
+     * (un tirage de bruit par bit, voir {@link ChaineTransmission.Constructeur#modeleBinaire})
+     * et la chaîne échantillonnée.  Le modèle binaire, utilisé par défaut, ne s'applique
+     * qu'aux modulations NRZ et RZ hors échantillonnage d'importance ; les TEB ont la même
+     * loi, mais pas les mêmes valeurs pour un germe donné.
+     * @param modeleBinaire true pour utiliser le modèle binaire lorsque c'est possible.
+     */
+    public void setModeleBinaire(boolean modeleBinaire) {
+        this.modeleBinaire = modeleBinaire;
+    }
+
+    /**
+     * Restreint les prochains balayages à une partie des valeurs de SNR, pour répartir
+     * un balayage entre plusieurs processus : la partie p sur n simule les valeurs de SNR
+     * de rang p, p + n, p + 2n...  Les germes ne dépendent pas de la partie, si bien que
+     * les journaux des n parties, fusionnés par {@link FusionBalayage}, donnent la même
+     * courbe qu'un seul processus.
+     * @param indicePartie Le rang de la partie (de 0 à nbParties - 1).
+     * @param nbParties Le nombre de parties.
+     */
+    public void setPartie(int indicePartie, int nbParties) {
+        if (nbParties < 1 || indicePartie < 0 || indicePartie >= nbParties) {
+            throw new IllegalArgumentException("Partie invalide : " + indicePartie + " sur " + nbParties);
+        }
+        this.indicePartie = indicePartie;
+        this.nbParties = nbParties;
+    }
+
     /**
      * Méthode pour générer la courbe de TEB en fonction du SNR, avec et sans codeur.
      * @param snrMin Le SNR minimum à tester.
@@ -37,109 +114,389 @@ public class SimulateurTEB {
      * @throws Exception Si une erreur survient pendant la simulation.
      */
     public void genererCourbeTEB(Double snrMin, Double snrMax, Double pasSNR, String fichierCSV, int mess) throws Exception {
-        List<Float> tebValuesWithoutCodeur = new ArrayList<>();
-        List<Float> tebValuesWithCodeur = new ArrayList<>();
+        // Valeurs de SNR à tester
         List<Double> snrValues = new ArrayList<>();
-        
-        // Thread pool with a fixed number of threads based on available processors
-        int availableThreads = Runtime.getRuntime().availableProcessors();
-        ExecutorService executorService = Executors.newFixedThreadPool(availableThreads);
-        
+        int k = 0;
+        for (Double snr = snrMin; snr <= snrMax; snr += pasSNR, k++) {
+            if (k % nbParties == indicePartie) {
+                snrValues.add(snr);
+            }
+        }
+
         // Calculate total simulations for progress tracking
-        int totalSimulations = nbSimulations * (((int) ((snrMax - snrMin) / pasSNR)) + 1) * 2; // x2 for with and without codeur
+        int totalSimulations = nbSimulations * snrValues.size() * 2; // x2 for with and without codeur
         completedSimulations.set(0); // Reset the completed simulations count
 
         // Ouverture du fichier CSV pour écrire les résultats
-        try (FileWriter writer = new FileWriter(fichierCSV)) {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(fichierCSV))) {
             writer.write("Modulation,SNR(dB),TEB Without Codeur,TEB With Codeur\n"); // En-tête du fichier CSV
 
-            // Boucle sur les valeurs de SNR
-            List<Future<SimulationResult>> futures = new ArrayList<>();
-            for (Double snr = snrMin; snr <= snrMax; snr += pasSNR) {
-                
-                // Pour chaque SNR, on soumet les simulations au thread pool
-                for (int simulation = 0; simulation < nbSimulations; simulation++) {
-                    final int simIndex = simulation;
-                    final Double currentSnr = snr;
-                    
-                    // Simulations without the codeur
-                    Future<SimulationResult> futureWithoutCodeur = executorService.submit(() -> {
-                        Simulateur simulateur = new Simulateur(new String[] {
-                            "-mess", String.valueOf(mess), // Taille du message
-                            "-form", typeModulation, // Type de modulation
-                            "-seed", String.valueOf(simIndex + 1), // Germe différent pour chaque simulation
-                            "-nbEch", "30", // Nombre d'échantillons par bit
-                            "-ampl", "-1.0", "1.0", // Amplitude
-                            "-snrpb", String.valueOf(currentSnr) // SNR par bit
-                        });
-                        
-                        // Exécuter la simulation
-                        simulateur.execute();
-                        
-                        // Calculer le TEB pour cette simulation
-                        float teb = simulateur.calculTauxErreurBinaire();
-
-                        // Update the progress bar
-                        updateProgressBar(totalSimulations);
-
-                        return new SimulationResult(currentSnr, teb, simIndex);
-                    });
-                    
-                    futures.add(futureWithoutCodeur);
-
-                    // Simulations with the codeur
-                    Future<SimulationResult> futureWithCodeur = executorService.submit(() -> {
-                        Simulateur simulateur = new Simulateur(new String[] {
-                            "-mess", String.valueOf(mess), // Taille du message
-                            "-form", typeModulation, // Type de modulation
-                            "-seed", String.valueOf(simIndex + 1), // Germe différent pour chaque simulation
-                            "-nbEch", "30", // Nombre d'échantillons par bit
-                            "-ampl", "-1.0", "1.0", // Amplitude
-                            "-snrpb", String.valueOf(currentSnr), // SNR par bit
-                            "-codeur" // Activer le codeur
-                        });
-                        
-                        // Exécuter la simulation
-                        simulateur.execute();
-                        
-                        // Calculer le TEB pour cette simulation
-                        float teb = simulateur.calculTauxErreurBinaire();
-
-                        // Update the progress bar
-                        updateProgressBar(totalSimulations);
-
-                        return new SimulationResult(currentSnr, teb, simIndex);
-                    });
-
-                    futures.add(futureWithCodeur);
+            // Tâche 2k : simulation k sans codeur, tâche 2k + 1 : la même avec le codeur,
+            // pour chaque SNR, les simulations se suivent
+            float[] tebWithoutCodeur = new float[1];
+            new OrdonnanceurBalayage<Float>().executer(totalSimulations, indice -> {
+                int simulation = indice / 2;
+                Double currentSnr = snrValues.get(simulation / nbSimulations);
+
+                // Exécuter la simulation, avec un germe dérivé du SNR, du codeur et du rang de la simulation
+                boolean codeur = indice % 2 == 1;
+                long germe = Germes.deriverPoint(germeMaitre, currentSnr, codeur ? 1 : 0, simulation % nbSimulations);
+                ResultatTEB resultat = simuler(codeur, currentSnr, germe, mess);
+
+                // Update the progress bar
+                updateProgressBar(totalSimulations);
+
+                // Calculer le TEB pour cette simulation
+                return (float) resultat.getNbErreurs() / resultat.getNbBits();
+            }, (indice, teb) -> {
+                // Les résultats arrivent dans l'ordre des tâches : la ligne est écrite dès que le résultat avec codeur est connu
+                if (indice % 2 == 0) {
+                    tebWithoutCodeur[0] = teb;
+                    return;
                 }
-            }
-            
-            // Récupérer les résultats des simulations
-            for (int i = 0; i < futures.size(); i += 2) {
-                SimulationResult resultWithoutCodeur = futures.get(i).get();   // Sans codeur
-                SimulationResult resultWithCodeur = futures.get(i + 1).get(); // Avec codeur
-                
-                tebValuesWithoutCodeur.add(resultWithoutCodeur.teb);
-                tebValuesWithCodeur.add(resultWithCodeur.teb);
-                snrValues.add(resultWithoutCodeur.snr);
-                
+                Double snr = snrValues.get(indice / 2 / nbSimulations);
                 if (affichage) {
-                    System.out.println("Modulation: " + typeModulation + ", SNR: " + resultWithoutCodeur.snr + " dB, TEB Sans Codeur: " + resultWithoutCodeur.teb + ", TEB Avec Codeur: " + resultWithCodeur.teb);
+                    System.out.println("Modulation: " + typeModulation + ", SNR: " + snr + " dB, TEB Sans Codeur: " + tebWithoutCodeur[0] + ", TEB Avec Codeur: " + teb);
                 }
-                
+
                 // Écriture dans le fichier CSV
-                writer.write(typeModulation + "," + resultWithoutCodeur.snr + "," + resultWithoutCodeur.teb + "," + resultWithCodeur.teb + "\n");
-            }
-            
+                writer.write(typeModulation + "," + snr + "," + tebWithoutCodeur[0] + "," + teb + "\n");
+                writer.flush();
+            });
+
             if (affichage) {
                 System.out.println("Les résultats ont été enregistrés dans : " + fichierCSV);
             }
+        }
+    }
+
+    /**
+     * Méthode pour générer la courbe de TEB en fonction du SNR, avec et sans codeur, en mode adaptatif :
+     * chaque point (SNR, codeur) est simulé par blocs de tailleBloc bits jusqu'à observer
+     * nbErreursCible erreurs ou atteindre nbBitsMax bits.  Les blocs de tous les points sont
+     * répartis dynamiquement sur les threads.  Le germe du bloc k d'un point est dérivé du
+     * germe maître, du point et de k (voir {@link #setGermeMaitre}) et
+     * les blocs sont cumulés dans l'ordre, si bien que le résultat ne dépend pas du nombre de threads.
+     * @param snrMin Le SNR minimum à tester.
+     * @param snrMax Le SNR maximum à tester.
+     * @param pasSNR Le pas entre les valeurs de SNR.
+     * @param fichierCSV Le fichier dans lequel écrire les résultats (TEB, intervalle de confiance à 95 % et nombre de bits simulés).
+     * @param tailleBloc La taille du message simulé à chaque bloc.
+     * @param nbErreursCible Le nombre d'erreurs au-delà duquel un point est arrêté.
+     * @param nbBitsMax Le nombre de bits au-delà duquel un point est arrêté, même sans assez d'erreurs.
+     * @throws Exception Si une erreur survient pendant la simulation.
+     */
+    public void genererCourbeTEBAdaptative(Double snrMin, Double snrMax, Double pasSNR, String fichierCSV,
+                                          int tailleBloc, long nbErreursCible, long nbBitsMax) throws Exception {
+        int nbSnr = (int) Math.floor((snrMax - snrMin) / pasSNR + 1e-9) + 1;
+        List<PointTEB> points = new ArrayList<>();
+        for (int k = indicePartie; k < nbSnr; k += nbParties) {
+            double snr = Math.round((snrMin + k * pasSNR) * 1e9) / 1e9;
+            points.add(new PointTEB(snr, false, tailleBloc, nbErreursCible, nbBitsMax));
+            points.add(new PointTEB(snr, true, tailleBloc, nbErreursCible, nbBitsMax));
+        }
+
+        // Deux blocs en attente par thread, pour qu'aucun thread ne reste inactif
+        int availableThreads = Runtime.getRuntime().availableProcessors();
+        int maxEnCours = 2 * availableThreads;
+        ExecutorService executorService = new ForkJoinPool(availableThreads);
+        CompletionService<ResultatBloc> completionService = new ExecutorCompletionService<>(executorService);
+        int enCours = 0;
+        int nbTermines = 0;
+        try {
+            while (true) {
+                // Soumettre des blocs tant que des points en réclament
+                while (enCours < maxEnCours) {
+                    PointTEB point = choisirPoint(points);
+                    if (point == null) {
+                        break;
+                    }
+                    final int index = point.nbBlocsSoumis++;
+                    completionService.submit(() -> new ResultatBloc(point, index, simuler(point.codeur, point.snr,
+                            Germes.deriverPoint(germeMaitre, point.snr, point.codeur ? 1 : 0, index), tailleBloc)));
+                    enCours++;
+                }
+                if (enCours == 0) {
+                    break;
+                }
+                ResultatBloc resultat = completionService.take().get();
+                enCours--;
+                if (resultat.point.integrer(resultat.index, resultat.resultat)) {
+                    nbTermines++;
+                    System.out.print("\rProgress: " + (100 * nbTermines / points.size()) + "% (" + nbTermines + "/" + points.size() + " points)");
+                }
+            }
+            System.out.println("\nSimulation complete!");
         } finally {
-            // Shut down the executor service gracefully
-            executorService.shutdown();
+            executorService.shutdownNow();
             executorService.awaitTermination(1, TimeUnit.HOURS);
         }
+
+        int nbLignes = points.size() / 2;
+        double[] snrs = new double[nbLignes];
+        ResultatTEB[] sansCodeur = new ResultatTEB[nbLignes];
+        ResultatTEB[] avecCodeur = new ResultatTEB[nbLignes];
+        for (int i = 0; i < nbLignes; i++) {
+            snrs[i] = points.get(2 * i).snr;
+            sansCodeur[i] = points.get(2 * i).total;
+            avecCodeur[i] = points.get(2 * i + 1).total;
+        }
+        ecrireCourbeCumulee(typeModulation, snrs, sansCodeur, avecCodeur, fichierCSV);
+        if (affichage) {
+            System.out.println("Les résultats ont été enregistrés dans : " + fichierCSV);
+        }
+    }
+
+    /**
+     * Méthode pour générer la courbe de TEB en fonction du SNR, avec et sans codeur, en
+     * échantillonnage d'importance : le bruit de chaque bit est translaté vers le seuil de
+     * décision du récepteur et ses erreurs sont pondérées par le rapport de vraisemblance du
+     * bruit (voir {@link ChaineTransmission#executerPondere()}), ce qui permet d'estimer des
+     * TEB de l'ordre de 1e-9 avec quelques millions de bits.  Les nbSimulations messages de
+     * chaque point sont cumulés ; les germes sont ceux de {@link #genererCourbeTEB} et la
+     * partie du balayage est respectée, mais le journal n'est pas utilisé.
+     * @param snrMin Le SNR minimum à tester.
+     * @param snrMax Le SNR maximum à tester.
+     * @param pasSNR Le pas entre les valeurs de SNR.
+     * @param fichierCSV Le fichier dans lequel écrire les résultats (mêmes colonnes qu'en mode adaptatif).
+     * @param mess La taille du message à envoyer.
+     * @param decalage La fraction de la distance au seuil dont le bruit est translaté (1 pour atteindre le seuil).
+     * @throws Exception Si une erreur survient pendant la simulation.
+     */
+    public void genererCourbeTEBImportance(Double snrMin, Double snrMax, Double pasSNR, String fichierCSV, int mess,
+                                          double decalage) throws Exception {
+        int nbSnr = (int) Math.floor((snrMax - snrMin) / pasSNR + 1e-9) + 1;
+        List<Double> snrValues = new ArrayList<>();
+        for (int k = indicePartie; k < nbSnr; k += nbParties) {
+            snrValues.add(Math.round((snrMin + k * pasSNR) * 1e9) / 1e9);
+        }
+        int totalSimulations = nbSimulations * snrValues.size() * 2;
+        completedSimulations.set(0);
+
+        // Même répartition des tâches que genererCourbeTEB, les messages de chaque point étant cumulés
+        int nbLignes = snrValues.size();
+        double[] snrs = new double[nbLignes];
+        ResultatTEB[] sansCodeur = new ResultatTEB[nbLignes];
+        ResultatTEB[] avecCodeur = new ResultatTEB[nbLignes];
+        for (int i = 0; i < nbLignes; i++) {
+            snrs[i] = snrValues.get(i);
+        }
+        new OrdonnanceurBalayage<ResultatTEBPondere>().executer(totalSimulations, indice -> {
+            int simulation = indice / 2;
+            double snr = snrValues.get(simulation / nbSimulations);
+            boolean codeur = indice % 2 == 1;
+            long germe = Germes.deriverPoint(germeMaitre, snr, codeur ? 1 : 0, simulation % nbSimulations);
+            ResultatTEBPondere resultat = simulerPondere(codeur, snr, germe, mess, decalage);
+            updateProgressBar(totalSimulations);
+            return resultat;
+        }, (indice, resultat) -> {
+            int ligne = indice / 2 / nbSimulations;
+            ResultatTEB[] colonne = indice % 2 == 1 ? avecCodeur : sansCodeur;
+            colonne[ligne] = colonne[ligne] == null ? resultat : colonne[ligne].cumuler(resultat);
+        });
+
+        ecrireCourbeCumulee(typeModulation, snrs, sansCodeur, avecCodeur, fichierCSV);
+        if (affichage) {
+            System.out.println("Les résultats ont été enregistrés dans : " + fichierCSV);
+        }
+    }
+
+    /**
+     * Méthode pour générer la courbe de TEB en fonction du SNR, avec et sans codeur, sur
+     * une grille : chacun des nbSimulations messages est modulé une seule fois et évalué
+     * à tous les SNR du balayage avec le même bruit mis à l'échelle (voir
+     * {@link ChaineTransmission#executerGrille}), puis les messages de chaque point sont
+     * cumulés.  Le germe de la simulation k est dérivé du germe maître, du codeur et de k,
+     * mais pas du SNR ; la partie du balayage est respectée, mais le journal n'est pas utilisé.
+     * @param snrMin Le SNR minimum à tester.
+     * @param snrMax Le SNR maximum à tester.
+     * @param pasSNR Le pas entre les valeurs de SNR.
+     * @param fichierCSV Le fichier dans lequel écrire les résultats (mêmes colonnes qu'en mode adaptatif).
+     * @param mess La taille du message à envoyer.
+     * @throws Exception Si une erreur survient pendant la simulation.
+     */
+    public void genererCourbeTEBGrille(Double snrMin, Double snrMax, Double pasSNR, String fichierCSV, int mess) throws Exception {
+        int nbSnr = (int) Math.floor((snrMax - snrMin) / pasSNR + 1e-9) + 1;
+        List<Double> snrValues = new ArrayList<>();
+        for (int k = indicePartie; k < nbSnr; k += nbParties) {
+            snrValues.add(Math.round((snrMin + k * pasSNR) * 1e9) / 1e9);
+        }
+        int nbLignes = snrValues.size();
+        double[] snrs = new double[nbLignes];
+        ResultatTEB[] sansCodeur = new ResultatTEB[nbLignes];
+        ResultatTEB[] avecCodeur = new ResultatTEB[nbLignes];
+        for (int i = 0; i < nbLignes; i++) {
+            snrs[i] = snrValues.get(i);
+        }
+        if (nbLignes == 0) {
+            ecrireCourbeCumulee(typeModulation, snrs, sansCodeur, avecCodeur, fichierCSV);
+            return;
+        }
+
+        // Tâche 2k : message k sans codeur évalué à tous les SNR, tâche 2k + 1 : le même avec le codeur
+        int totalSimulations = nbSimulations * 2;
+        completedSimulations.set(0);
+        new OrdonnanceurBalayage<ResultatTEB[]>().executer(totalSimulations, indice -> {
+            boolean codeur = indice % 2 == 1;
+            long germe = Germes.deriver(germeMaitre, codeur ? 1 : 0, indice / 2);
+            ResultatTEB[] resultats = chaine(codeur, null, snrs[0], germe, mess).executerGrille(snrs);
+            updateProgressBar(totalSimulations);
+            return resultats;
+        }, (indice, resultats) -> {
+            ResultatTEB[] colonne = indice % 2 == 1 ? avecCodeur : sansCodeur;
+            for (int i = 0; i < nbLignes; i++) {
+                colonne[i] = colonne[i] == null ? resultats[i] : colonne[i].cumuler(resultats[i]);
+            }
+        });
+
+        ecrireCourbeCumulee(typeModulation, snrs, sansCodeur, avecCodeur, fichierCSV);
+        if (affichage) {
+            System.out.println("Les résultats ont été enregistrés dans : " + fichierCSV);
+        }
+    }
+
+    /**
+     * Méthode pour générer la courbe de TEB en fonction du SNR, avec et sans codeur, sans
+     * simulation : chaque point est calculé par un {@link EvaluateurTEB} (mêmes paramètres
+     * que les chaînes simulées), en quelques millisecondes pour toute la courbe.  Le fichier
+     * a les colonnes de {@link #genererCourbeTEB} et peut servir de référence aux courbes simulées.
+     * @param snrMin Le SNR minimum à tester.
+     * @param snrMax Le SNR maximum à tester.
+     * @param pasSNR Le pas entre les valeurs de SNR.
+     * @param fichierCSV Le fichier dans lequel écrire les résultats.
+     * @throws IOException Si une erreur survient lors de l'écriture du fichier.
+     */
+    public void genererCourbeTEBAnalytique(Double snrMin, Double snrMax, Double pasSNR, String fichierCSV) throws IOException {
+        EvaluateurTEB sansCodeur = new EvaluateurTEB(typeModulation, -1.0f, 1.0f, 30, false);
+        EvaluateurTEB avecCodeur = new EvaluateurTEB(typeModulation, -1.0f, 1.0f, 30, true);
+        int nbSnr = (int) Math.floor((snrMax - snrMin) / pasSNR + 1e-9) + 1;
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(fichierCSV))) {
+            writer.write("Modulation,SNR(dB),TEB Without Codeur,TEB With Codeur\n");
+            for (int k = indicePartie; k < nbSnr; k += nbParties) {
+                double snr = Math.round((snrMin + k * pasSNR) * 1e9) / 1e9;
+                writer.write(typeModulation + "," + snr + "," + sansCodeur.teb(snr) + "," + avecCodeur.teb(snr) + "\n");
+            }
+        }
+    }
+
+    /**
+     * Écrit une courbe de TEB cumulés par point : TEB, intervalle de confiance à 95 % et
+     * nombre de bits simulés, sans et avec codeur.  Les premières colonnes sont celles de
+     * {@link #genererCourbeTEB}.
+     * @param typeModulation Le type de modulation.
+     * @param snrs Les valeurs de SNR, une par ligne.
+     * @param sansCodeur Les résultats cumulés sans codeur, un par ligne.
+     * @param avecCodeur Les résultats cumulés avec codeur, un par ligne.
+     * @param fichierCSV Le fichier dans lequel écrire la courbe.
+     * @throws IOException Si une erreur survient lors de l'écriture du fichier.
+     */
+    static void ecrireCourbeCumulee(String typeModulation, double[] snrs, ResultatTEB[] sansCodeur, ResultatTEB[] avecCodeur,
+                                    String fichierCSV) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(fichierCSV))) {
+            writer.write("Modulation,SNR(dB),TEB Without Codeur,TEB With Codeur,"
+                    + "IC Inf Without Codeur,IC Sup Without Codeur,IC Inf With Codeur,IC Sup With Codeur,"
+                    + "Bits Without Codeur,Bits With Codeur\n");
+            for (int i = 0; i < snrs.length; i++) {
+                double[] icSansCodeur = sansCodeur[i].intervalleConfiance(ResultatTEB.Z_95);
+                double[] icAvecCodeur = avecCodeur[i].intervalleConfiance(ResultatTEB.Z_95);
+                writer.write(typeModulation + "," + snrs[i] + "," + sansCodeur[i].getTeb() + "," + avecCodeur[i].getTeb() + ","
+                        + icSansCodeur[0] + "," + icSansCodeur[1] + "," + icAvecCodeur[0] + "," + icAvecCodeur[1] + ","
+                        + sansCodeur[i].getNbBits() + "," + avecCodeur[i].getNbBits() + "\n");
+            }
+        }
+    }
+
+    /**
+     * Choisit le prochain point à simuler : parmi les points qui réclament encore
+     * des blocs, celui qui en a reçu le moins.
+     * @param points Les points de la courbe.
+     * @return Le point choisi, ou null si aucun point ne réclame de bloc.
+     */
+    private static PointTEB choisirPoint(List<PointTEB> points) {
+        PointTEB choisi = null;
+        for (PointTEB point : points) {
+            if (point.blocsAnticipes() > 0 && (choisi == null || point.nbBlocsSoumis < choisi.nbBlocsSoumis)) {
+                choisi = point;
+            }
+        }
+        return choisi;
+    }
+
+    /**
+     * Simule une transmission sur la chaîne du thread courant, construite à la
+     * première simulation du thread puis réutilisée avec les nouveaux paramètres.
+     * Si un journal est associé, la simulation y est d'abord cherchée, puis y est ajoutée.
+     * @param codeur true pour la chaîne avec codeur.
+     * @param snr Le SNR par bit (en dB).
+     * @param germe Le germe du message et du bruit.
+     * @param mess La taille du message.
+     * @return Les statistiques d'erreurs de la transmission.
+     * @throws Exception Si une erreur survient pendant la simulation.
+     */
+    private ResultatTEB simuler(boolean codeur, double snr, long germe, int mess) throws Exception {
+        ChaineTransmission chaine = chaine(codeur, null, snr, germe, mess);
+        // Le modèle effectivement utilisé (le modèle binaire ne s'applique pas à toutes les modulations)
+        boolean binaire = chaine.utiliseModeleBinaire();
+        if (journal != null) {
+            ResultatTEB resultat = journal.getResultat(typeModulation, snr, codeur, binaire, germe, mess);
+            if (resultat != null) {
+                return resultat;
+            }
+        }
+        ResultatTEB resultat = chaine.executer();
+        if (journal != null) {
+            journal.enregistrer(typeModulation, snr, codeur, binaire, germe, resultat);
+        }
+        return resultat;
+    }
+
+    /**
+     * Simule une transmission en échantillonnage d'importance sur la chaîne du thread courant.
+     * @param codeur true pour la chaîne avec codeur.
+     * @param snr Le SNR par bit (en dB).
+     * @param germe Le germe du message et du bruit.
+     * @param mess La taille du message.
+     * @param decalage La fraction de la distance au seuil dont le bruit est translaté.
+     * @return Les statistiques d'erreurs pondérées de la transmission.
+     * @throws Exception Si une erreur survient pendant la simulation.
+     */
+    private ResultatTEBPondere simulerPondere(boolean codeur, double snr, long germe, int mess, double decalage) throws Exception {
+        return chaine(codeur, decalage, snr, germe, mess).executerPondere();
+    }
+
+    /**
+     * Retourne la chaîne du thread courant, construite à la première simulation du thread
+     * (ou lorsque le décalage de l'échantillonnage d'importance change), réglée pour une simulation.
+     * @param codeur true pour la chaîne avec codeur.
+     * @param decalage Le décalage de l'échantillonnage d'importance, ou null sans échantillonnage d'importance.
+     * @param snr Le SNR par bit (en dB).
+     * @param germe Le germe du message et du bruit.
+     * @param mess La taille du message.
+     * @return La chaîne.
+     */
+    private ChaineTransmission chaine(boolean codeur, Double decalage, double snr, long germe, int mess) {
+        ChaineTransmission[] chainesThread = chaines.get();
+        int indice = (codeur ? 1 : 0) + (decalage != null ? 2 : 0);
+        if (chainesThread[indice] == null || !Objects.equals(chainesThread[indice].getDecalageImportance(), decalage)) {
+            ChaineTransmission.Constructeur constructeur = new ChaineTransmission.Constructeur()
+                    .modulation(typeModulation) // Type de modulation
+                    .nbEchantillonsParBit(30) // Nombre d'échantillons par bit
+                    .amplitudes(-1.0f, 1.0f) // Amplitude
+                    .snrParBit(snr)
+                    .codeur(codeur)
+                    .modeleBinaire(modeleBinaire)
+                    .fusion(instrumentation == null) // Mêmes résultats, mais les étages ne sont plus mesurés séparément
+                    .instrumentation(instrumentation);
+            if (decalage != null) {
+                constructeur.echantillonnageImportance(decalage);
+            }
+            chainesThread[indice] = constructeur.construire();
+        }
+        ChaineTransmission chaine = chainesThread[indice];
+        chaine.setSnrParBit(snr);
+        chaine.setGerme(germe);
+        chaine.setTailleMessage(mess);
+        return chaine;
     }
 
     /**
@@ -157,7 +514,20 @@ public class SimulateurTEB {
 
     /**
      * Main method to run the simulation for different modulations and SNR values.
-     * @param args Command line arguments.
+     * @param args Command line arguments : -adaptatif pour le mode adaptatif,
+     *             -analytique pour calculer les courbes sans simulation (voir {@link EvaluateurTEB}),
+     *             -grille pour évaluer chaque message à tous les SNR avec le même bruit mis à
+     *             l'échelle (sans journal),
+     *             -importance pour le mode échantillonnage d'importance (bruit translaté jusqu'au seuil,
+     *             sans journal),
+     *             -echantillons pour simuler les chaînes NRZ et RZ échantillon par échantillon
+     *             plutôt que par leur modèle binaire équivalent,
+     *             -seed g pour dériver les germes des simulations du germe maître g (0 par défaut),
+     *             -profil f pour mesurer les étages des chaînes et écrire le rapport dans le fichier f
+     *             (et des événements JFR sit213.Etage si un enregistrement JFR est actif),
+     *             -journal f pour reprendre et journaliser les simulations dans le fichier f,
+     *             -partie p n pour ne simuler que la partie p sur n du balayage (journalisée par
+     *             défaut dans resultats/journal_partie&lt;p&gt;.csv, à fusionner avec {@link FusionBalayage}).
      */
     public static void main(String[] args) {
         try {
@@ -176,13 +546,119 @@ public class SimulateurTEB {
             SimulateurTEB simTEBNRZT = new SimulateurTEB("NRZT", nbSimulations);
             SimulateurTEB simTEBRZ = new SimulateurTEB("RZ", nbSimulations);
 
-            // Générer les courbes TEB pour chaque modulation et enregistrer dans des fichiers CSV
-            System.out.println("Simulations 1/3...");
-            simTEBNRZ.genererCourbeTEB(snrMin, snrMax, pasSNR, "resultats/resultats_NRZ.csv", mess);
-            System.out.println("\nSimulations 2/3...");
-            simTEBNRZT.genererCourbeTEB(snrMin, snrMax, pasSNR, "resultats/resultats_NRZT.csv", mess);
-            System.out.println("\nSimulations 3/3...");
-            simTEBRZ.genererCourbeTEB(snrMin, snrMax, pasSNR, "resultats/resultats_RZ.csv", mess);
+            SimulateurTEB[] simulateurs = {simTEBNRZ, simTEBNRZT, simTEBRZ};
+            boolean adaptatif = false;
+            boolean importance = false;
+            boolean analytique = false;
+            boolean grille = false;
+            String fichierJournal = null;
+            String fichierProfil = null;
+            int indicePartie = 0;
+            int nbParties = 1;
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("-adaptatif")) {
+                    adaptatif = true;
+                } else if (args[i].equals("-analytique")) {
+                    analytique = true;
+                } else if (args[i].equals("-grille")) {
+                    grille = true;
+                } else if (args[i].equals("-importance")) {
+                    importance = true;
+                } else if (args[i].equals("-echantillons")) {
+                    for (SimulateurTEB simulateur : simulateurs) {
+                        simulateur.setModeleBinaire(false);
+                    }
+                } else if (args[i].equals("-seed") && i + 1 < args.length) {
+                    long germeMaitre = Long.parseLong(args[++i]);
+                    for (SimulateurTEB simulateur : simulateurs) {
+                        simulateur.setGermeMaitre(germeMaitre);
+                    }
+                } else if (args[i].equals("-profil") && i + 1 < args.length) {
+                    fichierProfil = args[++i];
+                } else if (args[i].equals("-journal") && i + 1 < args.length) {
+                    fichierJournal = args[++i];
+                } else if (args[i].equals("-partie") && i + 2 < args.length) {
+                    indicePartie = Integer.parseInt(args[++i]);
+                    nbParties = Integer.parseInt(args[++i]);
+                    for (SimulateurTEB simulateur : simulateurs) {
+                        simulateur.setPartie(indicePartie, nbParties);
+                    }
+                } else {
+                    throw new IllegalArgumentException("Option invalide : " + args[i]);
+                }
+            }
+            if (grille && (adaptatif || importance || analytique || fichierJournal != null)) {
+                throw new IllegalArgumentException("L'option -grille n'est compatible ni avec les autres modes ni avec -journal.");
+            }
+            if (importance && (adaptatif || fichierJournal != null)) {
+                throw new IllegalArgumentException("L'option -importance n'est compatible ni avec -adaptatif ni avec -journal.");
+            }
+            if (analytique && (adaptatif || importance || fichierJournal != null || fichierProfil != null)) {
+                throw new IllegalArgumentException("L'option -analytique n'est compatible avec aucun autre mode.");
+            }
+            String suffixe = nbParties > 1 ? "_partie" + indicePartie : "";
+            if (fichierJournal == null && nbParties > 1 && !importance && !analytique && !grille) {
+                fichierJournal = "resultats/journal" + suffixe + ".csv";
+            }
+            Instrumentation instrumentation = null;
+            if (fichierProfil != null) {
+                instrumentation = new Instrumentation();
+                for (SimulateurTEB simulateur : simulateurs) {
+                    simulateur.setInstrumentation(instrumentation);
+                }
+            }
+            JournalBalayage journal = null;
+            if (fichierJournal != null) {
+                journal = new JournalBalayage(fichierJournal);
+                System.out.println(journal.getNbSimulations() + " simulations reprises du journal " + fichierJournal);
+                for (SimulateurTEB simulateur : simulateurs) {
+                    simulateur.setJournal(journal);
+                }
+            }
+
+            if (analytique) {
+                // Courbes calculées par énumération des motifs, sans simulation
+                for (SimulateurTEB simulateur : simulateurs) {
+                    simulateur.genererCourbeTEBAnalytique(snrMin, snrMax, pasSNR,
+                            "resultats/resultats_" + simulateur.typeModulation + "_analytique" + suffixe + ".csv");
+                }
+            } else if (grille) {
+                // Grille de SNR : chaque message est modulé une fois et évalué à tous les SNR
+                for (int i = 0; i < simulateurs.length; i++) {
+                    System.out.println("\nSimulations " + (i + 1) + "/3...");
+                    simulateurs[i].genererCourbeTEBGrille(snrMin, snrMax, pasSNR,
+                            "resultats/resultats_" + simulateurs[i].typeModulation + "_grille" + suffixe + ".csv", mess);
+                }
+            } else if (importance) {
+                // Échantillonnage d'importance : bruit de chaque bit translaté jusqu'au seuil de décision
+                for (int i = 0; i < simulateurs.length; i++) {
+                    System.out.println("\nSimulations " + (i + 1) + "/3...");
+                    simulateurs[i].genererCourbeTEBImportance(snrMin, snrMax, pasSNR,
+                            "resultats/resultats_" + simulateurs[i].typeModulation + "_importance" + suffixe + ".csv", mess, 1.0);
+                }
+            } else if (adaptatif) {
+                // Mode adaptatif : 100 erreurs par point, au plus 10^9 bits, blocs de 100 000 bits
+                for (int i = 0; i < simulateurs.length; i++) {
+                    System.out.println("\nSimulations " + (i + 1) + "/3...");
+                    simulateurs[i].genererCourbeTEBAdaptative(snrMin, snrMax, pasSNR,
+                            "resultats/resultats_" + simulateurs[i].typeModulation + "_adaptatif" + suffixe + ".csv", 100000, 100, 1000000000L);
+                }
+            } else {
+                // Générer les courbes TEB pour chaque modulation et enregistrer dans des fichiers CSV
+                System.out.println("Simulations 1/3...");
+                simTEBNRZ.genererCourbeTEB(snrMin, snrMax, pasSNR, "resultats/resultats_NRZ" + suffixe + ".csv", mess);
+                System.out.println("\nSimulations 2/3...");
+                simTEBNRZT.genererCourbeTEB(snrMin, snrMax, pasSNR, "resultats/resultats_NRZT" + suffixe + ".csv", mess);
+                System.out.println("\nSimulations 3/3...");
+                simTEBRZ.genererCourbeTEB(snrMin, snrMax, pasSNR, "resultats/resultats_RZ" + suffixe + ".csv", mess);
+            }
+            if (journal != null) {
+                journal.close();
+            }
+            if (instrumentation != null) {
+                instrumentation.ecrireRapport(fichierProfil);
+                System.out.println("\n" + instrumentation);
+            }
 
             System.out.println("Fin de la simulation de la chaîne de transmission");
 
@@ -191,16 +667,74 @@ public class SimulateurTEB {
         }
     }
 
-    // Classe pour encapsuler le résultat d'une simulation
-    private static class SimulationResult {
-        Double snr;
-        float teb;
-        int simulationIndex;
+    // Point (SNR, codeur) de la courbe adaptative ; n'est manipulé que par le thread qui répartit les blocs
+    static class PointTEB {
+        final double snr;
+        final boolean codeur;
+        final int tailleBloc;
+        final long nbErreursCible;
+        final long nbBitsMax;
+        int nbBlocsSoumis = 0;
+        int nbBlocsIntegres = 0;
+        ResultatTEB total;
+        boolean termine = false;
+        // Blocs terminés en avance sur le prochain bloc à cumuler
+        final Map<Integer, ResultatTEB> enAttente = new HashMap<>();
 
-        public SimulationResult(Double snr, float teb, int simulationIndex) {
+        PointTEB(double snr, boolean codeur, int tailleBloc, long nbErreursCible, long nbBitsMax) {
             this.snr = snr;
-            this.teb = teb;
-            this.simulationIndex = simulationIndex;
+            this.codeur = codeur;
+            this.tailleBloc = tailleBloc;
+            this.nbErreursCible = nbErreursCible;
+            this.nbBitsMax = nbBitsMax;
+        }
+
+        // Cumule les blocs dans l'ordre ; renvoie true si le point vient de se terminer
+        boolean integrer(int index, ResultatTEB resultat) {
+            if (termine) {
+                return false;
+            }
+            enAttente.put(index, resultat);
+            while (!termine && enAttente.containsKey(nbBlocsIntegres)) {
+                ResultatTEB bloc = enAttente.remove(nbBlocsIntegres++);
+                total = total == null ? bloc : total.cumuler(bloc);
+                termine = total.getNbErreurs() >= nbErreursCible || total.getNbBits() >= nbBitsMax;
+            }
+            if (termine) {
+                enAttente.clear();
+            }
+            return termine;
+        }
+
+        // Nombre de blocs qu'il est utile de soumettre en plus de ceux déjà en cours
+        int blocsAnticipes() {
+            if (termine) {
+                return 0;
+            }
+            long budget = (nbBitsMax - (total == null ? 0 : total.getNbBits()) + tailleBloc - 1) / tailleBloc;
+            long restants;
+            if (total == null) {
+                restants = 1; // premier bloc : on ne sait encore rien du TEB
+            } else if (total.getNbErreurs() == 0) {
+                restants = budget;
+            } else {
+                double erreursParBloc = (double) total.getNbErreurs() / nbBlocsIntegres;
+                restants = Math.min(budget, (long) Math.ceil((nbErreursCible - total.getNbErreurs()) / erreursParBloc));
+            }
+            return (int) Math.max(0, Math.min(Integer.MAX_VALUE, nbBlocsIntegres + restants - nbBlocsSoumis));
+        }
+    }
+
+    // Résultat d'un bloc du mode adaptatif
+    private static class ResultatBloc {
+        final PointTEB point;
+        final int index;
+        final ResultatTEB resultat;
+
+        ResultatBloc(PointTEB point, int index, ResultatTEB resultat) {
+            this.point = point;
+            this.index = index;
+            this.resultat = resultat;
         }
     }
 }
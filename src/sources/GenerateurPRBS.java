@@ -0,0 +1,160 @@
+package sources;
+
+/**
+ * La classe GenerateurPRBS produit une séquence binaire pseudo-aléatoire PRBS-n
+ * (n = 7, 15, 23 ou 31, polynômes de la recommandation UIT-T O.150) à l'aide d'un
+ * registre à décalage à rétroaction linéaire (LFSR).
+ * <p>
+ * Pour le polynôme x<sup>n</sup> + x<sup>m</sup> + 1, la séquence vérifie
+ * b[k] = b[k - n] xor b[k - m] : les m bits suivants ne dépendent que des n
+ * derniers bits, si bien que le registre avance de m bits à chaque pas (saut
+ * en avant) au lieu d'un seul, et les bits sont rendus par mots de 64.
+ */
+public class GenerateurPRBS {
+
+    /** Les ordres disponibles. */
+    private static final int[] ORDRES = {7, 15, 23, 31};
+
+    /** Le second terme du polynôme de chaque ordre. */
+    private static final int[] PRISES = {6, 14, 18, 28};
+
+    /** L'ordre n du polynôme (longueur du registre). */
+    private final int ordre;
+
+    /** Le second terme m du polynôme (nombre de bits produits à chaque pas). */
+    private final int prise;
+
+    /** L'état initial du registre. */
+    private final long etatInitial;
+
+    /** Les n derniers bits de la séquence, le plus ancien en poids faible. */
+    private long etat;
+
+    /** Les bits produits et pas encore rendus, le premier en poids faible. */
+    private long reserve;
+
+    /** Le nombre de bits de la réserve (moins de 64). */
+    private int nbReserve;
+
+    /** Le nombre de bits rendus depuis l'état initial. */
+    private long position;
+
+    /**
+     * Construit un générateur PRBS-n dont le registre est initialisé à partir d'un germe.
+     * @param ordre L'ordre n de la séquence (7, 15, 23 ou 31).
+     * @param germe Le germe : ses n bits de poids faible forment l'état initial du
+     *              registre (tous à 1 s'ils sont tous nuls, l'état nul étant stable).
+     * @throws IllegalArgumentException si l'ordre n'est pas disponible.
+     */
+    public GenerateurPRBS(int ordre, long germe) {
+        int indice = -1;
+        for (int i = 0; i < ORDRES.length; i++) {
+            if (ORDRES[i] == ordre) {
+                indice = i;
+            }
+        }
+        if (indice < 0) {
+            throw new IllegalArgumentException("Ordre de PRBS invalide : " + ordre + " (7, 15, 23 ou 31).");
+        }
+        this.ordre = ordre;
+        this.prise = PRISES[indice];
+        long masque = (1L << ordre) - 1;
+        this.etatInitial = (germe & masque) != 0 ? germe & masque : masque;
+        this.etat = etatInitial;
+        this.reserve = 0;
+        this.nbReserve = 0;
+        this.position = 0;
+    }
+
+    /**
+     * Construit un générateur PRBS-n dont le registre est initialisé à 1.
+     * @param ordre L'ordre n de la séquence (7, 15, 23 ou 31).
+     */
+    public GenerateurPRBS(int ordre) {
+        this(ordre, 0);
+    }
+
+    /**
+     * Indique si un ordre de PRBS est disponible.
+     * @param ordre L'ordre à tester.
+     * @return true pour 7, 15, 23 et 31.
+     */
+    public static boolean estOrdreValide(int ordre) {
+        for (int o : ORDRES) {
+            if (o == ordre) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Replace le générateur au début de la séquence.
+     */
+    public void reinitialiser() {
+        etat = etatInitial;
+        reserve = 0;
+        nbReserve = 0;
+        position = 0;
+    }
+
+    /**
+     * @return L'ordre n de la séquence.
+     */
+    public int getOrdre() {
+        return ordre;
+    }
+
+    /**
+     * @return La période de la séquence (2^n - 1 bits).
+     */
+    public long getPeriode() {
+        return (1L << ordre) - 1;
+    }
+
+    /**
+     * @return Le nombre de bits rendus depuis le début de la séquence.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Rend les bits suivants de la séquence.
+     * @param nombre Le nombre de bits (de 1 à 64).
+     * @return Les bits, le premier en poids faible (les bits au-delà de nombre sont nuls).
+     */
+    public long suivants(int nombre) {
+        position += nombre;
+        if (nombre <= nbReserve) {
+            long bits = reserve & ((1L << nombre) - 1);
+            reserve >>>= nombre;
+            nbReserve -= nombre;
+            return bits;
+        }
+        // Compléter la réserve pas à pas jusqu'à nombre bits
+        long bits = reserve;
+        int nb = nbReserve;
+        while (true) {
+            long nouveaux = pas();
+            bits |= nouveaux << nb;
+            if (nb + prise >= nombre) {
+                int utilises = nombre - nb;
+                reserve = nouveaux >>> utilises;
+                nbReserve = prise - utilises;
+                return nombre == 64 ? bits : bits & ((1L << nombre) - 1);
+            }
+            nb += prise;
+        }
+    }
+
+    /**
+     * Avance le registre de m bits.
+     * @return Les m nouveaux bits de la séquence, le premier en poids faible.
+     */
+    private long pas() {
+        long nouveaux = (etat ^ (etat >>> (ordre - prise))) & ((1L << prise) - 1);
+        etat = (etat >>> prise) | (nouveaux << (ordre - prise));
+        return nouveaux;
+    }
+}
@@ -72,4 +72,45 @@ public  abstract class Source <T> implements  SourceInterface <T> {
         }
         this.informationEmise = informationGeneree;   			 			      
     }
+   
+    /**
+     * émet l'information générée en flux, par blocs d'au plus tailleBloc
+     * éléments, puis signale la fin du flux aux composants connectés
+     * @param tailleBloc  le nombre d'éléments par bloc
+     * @throws InformationNonConformeException si l'Information comporte une anomalie
+     */
+    public void emettreParBlocs(int tailleBloc) throws InformationNonConformeException {
+        if (tailleBloc < 1) {
+            throw new IllegalArgumentException("La taille des blocs doit être strictement positive.");
+        }
+        int nbElements = nbElementsGeneres();
+        for (int debut = 0; debut < nbElements; debut += tailleBloc) {
+            Information <T> bloc = genererBloc(debut, Math.min(tailleBloc, nbElements - debut));
+            for (DestinationInterface <T> destinationConnectee : destinationsConnectees) {
+                destinationConnectee.recevoirBloc(bloc);
+            }
+        }
+        for (DestinationInterface <T> destinationConnectee : destinationsConnectees) {
+            destinationConnectee.terminerFlux();
+        }
+        this.informationEmise = informationGeneree;
+    }
+   
+    /**
+     * fournit le nombre d'éléments de l'information générée
+     * @return le nombre d'éléments à émettre
+     */
+    protected int nbElementsGeneres() {
+        return informationGeneree.nbElements();
+    }
+   
+    /**
+     * fournit un bloc de l'information générée
+     * @param debut  le rang du premier élément du bloc
+     * @param taille  le nombre d'éléments du bloc
+     * @return le bloc d'information
+     */
+    protected Information <T> genererBloc(int debut, int taille) {
+        return informationGeneree.extraire(debut, taille);
+    }
 }
@@ -1,16 +1,38 @@
 package sources;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import information.BitInformation;
 import information.Information;
+import information.InformationNonConformeException;
 
 /**
  * La classe {@code SourceAleatoire} est une source générant des valeurs booléennes aléatoires.
  * Elle étend la classe {@code Source<Boolean>} et permet de générer une liste de valeurs
  * booléennes aléatoires soit avec une graine spécifique, soit avec une génération totalement aléatoire.
+ * <p>
+ * Les bits sont produits par mots de 64 directement dans une {@link BitInformation} :
+ * le mot k du message est le k-ième tirage {@code nextLong()} d'un
+ * {@link SplittableRandom} initialisé avec la graine, calculé sans les tirages
+ * précédents (SplitMix64 est un générateur à compteur).  En génération paresseuse
+ * (voir {@link #setGenerationParesseuse}), le message n'est donc jamais construit
+ * en entier lors d'une émission par blocs : chaque bloc est généré à la demande.
  */
 public class SourceAleatoire extends Source<Boolean> {
-    
-    //private int tailleListe;  // La taille de la liste de booléens à générer
+
+    /** L'incrément de SplitMix64 entre deux tirages. */
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    /** La graine du message courant. */
+    private long germe;
+
+    /** La taille du message courant. */
+    private int tailleListe;
+
+    /** true si le message n'est généré qu'à la demande. */
+    private boolean paresseuse = false;
+
+    /** true si le message courant a été émis par blocs sans être construit. */
+    private boolean emisParBlocs = false;
 
     /**
      * Constructeur de la classe {@code SourceAleatoire} qui génère une liste de booléens aléatoires
@@ -19,15 +41,7 @@ public class SourceAleatoire extends Source<Boolean> {
      * @param tailleListe La taille de la liste de booléens à générer.
      */
     public SourceAleatoire(int tailleListe) {
-        super();
-        informationGeneree = new Information<Boolean>();
-        // informationEmise = new Information<Boolean>();  // Utilisation de la classe Information
-        Random random = new Random();
-        // Générer la liste de booléens aléatoires
-        for (int i = 0; i < tailleListe; i++) {
-            informationGeneree.add(random.nextBoolean());
-            // informationEmise.add(random.nextBoolean());
-        }
+        this(tailleListe, (Integer) null);
     }
 
     /**
@@ -39,21 +53,63 @@ public class SourceAleatoire extends Source<Boolean> {
      */
     public SourceAleatoire(int tailleListe, Integer seed) {
         super();
-        informationGeneree = new Information<Boolean>();
-        // informationEmise = new Information<Boolean>();  // Utilisation de la classe Information
-        Random random;
-
-        // Initialiser l'objet Random avec la graine si elle est fournie, sinon utiliser une nouvelle instance
-        if (seed != null) {
-            random = new Random(seed);
-        } else {
-            random = new Random();
+        initialiser(tailleListe, seed != null ? Long.valueOf(seed) : null);
+    }
+
+    /**
+     * Constructeur de la classe {@code SourceAleatoire} qui génère une liste de booléens aléatoires
+     * à partir d'un germe sur 64 bits (germe dérivé d'un germe maître, par exemple).
+     *
+     * @param tailleListe La taille de la liste de booléens à générer.
+     * @param seed La graine utilisée pour initialiser la génération aléatoire.
+     */
+    public SourceAleatoire(int tailleListe, long seed) {
+        super();
+        initialiser(tailleListe, seed);
+    }
+
+    /**
+     * Génère un nouveau message à la place du précédent, ce qui permet de réutiliser
+     * la source (et la chaîne à laquelle elle est connectée) d'une simulation à l'autre.
+     * Le message généré est le même qu'avec le constructeur {@link #SourceAleatoire(int, long)}.
+     * En génération paresseuse, seuls la graine et la taille sont retenues.
+     *
+     * @param tailleListe La taille de la liste de booléens à générer.
+     * @param seed La graine utilisée pour initialiser la génération aléatoire. Peut être {@code null}.
+     */
+    public void regenerer(int tailleListe, Long seed) {
+        initialiser(tailleListe, seed);
+    }
+
+    /**
+     * Retient la graine et la taille du message et le génère (sauf en génération paresseuse),
+     * pour les constructeurs et {@link #regenerer}.
+     *
+     * @param tailleListe La taille de la liste de booléens à générer.
+     * @param seed La graine utilisée pour initialiser la génération aléatoire. Peut être {@code null}.
+     */
+    private void initialiser(int tailleListe, Long seed) {
+        if (tailleListe < 0) {
+            throw new IllegalArgumentException("La taille du message doit être positive ou nulle.");
         }
+        this.germe = seed != null ? seed : new SplittableRandom().nextLong();
+        this.tailleListe = tailleListe;
+        informationGeneree = paresseuse ? null : generer(0, tailleListe);
+        informationEmise = null;
+        emisParBlocs = false;
+    }
 
-        // Générer la liste de booléens aléatoires
-        for (int i = 0; i < tailleListe; i++) {
-            informationGeneree.add(random.nextBoolean());
-            //informationEmise.add(random.nextBoolean());
+    /**
+     * Active ou désactive la génération paresseuse : le message n'est plus construit
+     * à l'avance, mais bloc par bloc lors d'une émission par blocs, ou en entier
+     * à la première demande ({@link #getInformationGeneree}, {@link #emettre}...).
+     *
+     * @param paresseuse true pour ne générer le message qu'à la demande.
+     */
+    public void setGenerationParesseuse(boolean paresseuse) {
+        this.paresseuse = paresseuse;
+        if (!paresseuse && informationGeneree == null) {
+            informationGeneree = generer(0, tailleListe);
         }
     }
 
@@ -63,9 +119,83 @@ public class SourceAleatoire extends Source<Boolean> {
      * @return La liste de booléens générée par la source aléatoire.
      */
     public Information<Boolean> getInformationGeneree() {
+        if (informationGeneree == null) {
+            informationGeneree = generer(0, tailleListe);
+        }
         return this.informationGeneree;
     }
 
+    /**
+     * Retourne la dernière information émise, construite à la demande si le message
+     * a été émis par blocs en génération paresseuse.
+     *
+     * @return La dernière information émise.
+     */
+    @Override
+    public Information<Boolean> getInformationEmise() {
+        if (informationEmise == null && emisParBlocs) {
+            informationEmise = getInformationGeneree();
+        }
+        return this.informationEmise;
+    }
+
+    @Override
+    public void emettre() throws InformationNonConformeException {
+        getInformationGeneree();
+        super.emettre();
+    }
+
+    @Override
+    public void emettreParBlocs(int tailleBloc) throws InformationNonConformeException {
+        super.emettreParBlocs(tailleBloc);
+        emisParBlocs = true;
+    }
+
+    @Override
+    protected int nbElementsGeneres() {
+        return tailleListe;
+    }
+
+    @Override
+    protected Information<Boolean> genererBloc(int debut, int taille) {
+        return informationGeneree != null ? super.genererBloc(debut, taille) : generer(debut, taille);
+    }
+
+    /**
+     * Génère les bits [debut, debut + taille) du message courant.
+     *
+     * @param debut Le rang du premier bit.
+     * @param taille Le nombre de bits.
+     * @return Les bits générés.
+     */
+    private BitInformation generer(int debut, int taille) {
+        int premierMot = debut >>> 6;
+        long[] mots = new long[Math.max(1, BitInformation.nbMots((debut & 63) + taille))];
+        long etat = germe + (premierMot + 1) * GAMMA;
+        for (int k = 0; k < mots.length; k++, etat += GAMMA) {
+            mots[k] = melanger(etat);
+        }
+        if ((debut & 63) != 0) {
+            BitInformation bits = new BitInformation(taille);
+            bits.ajouterBits(mots, debut & 63, taille);
+            return bits;
+        }
+        // Les bits au-delà de la taille du message sont effacés
+        if ((taille & 63) != 0 || taille == 0) {
+            mots[taille >>> 6] &= (1L << taille) - 1;
+        }
+        return new BitInformation(mots, taille);
+    }
+
+    /**
+     * La fonction de mélange de SplitMix64 (celle de {@link SplittableRandom#nextLong()}).
+     */
+    private static long melanger(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
     /**
      * Fonction main pour tester la classe {@code SourceAleatoire}.
      * @param args Les arguments de la ligne de commande.
@@ -73,5 +203,5 @@ public class SourceAleatoire extends Source<Boolean> {
     public static void main(String[] args) {
         SourceAleatoire sourceAleatoire = new SourceAleatoire(10);
         //System.out.println("Liste de booléens aléatoires générée: " + sourceAleatoire.informationGeneree);
-    }    
+    }
 }
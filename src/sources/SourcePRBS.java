@@ -0,0 +1,123 @@
+package sources;
+
+import information.BitInformation;
+import information.Information;
+import information.InformationNonConformeException;
+
+/**
+ * La classe {@code SourcePRBS} émet les premiers bits d'une séquence
+ * pseudo-aléatoire PRBS-n ({@link GenerateurPRBS}), séquence de référence
+ * des mesures de TEB.
+ * <p>
+ * Le message n'est construit qu'à la demande : lors d'une émission par blocs,
+ * chaque bloc est généré à la suite du précédent, en mémoire constante.
+ * La destination peut régénérer la même séquence (voir
+ * {@code destinations.DestinationPRBS}) au lieu de la conserver.
+ */
+public class SourcePRBS extends Source<Boolean> {
+
+    /** Le générateur de la séquence. */
+    private final GenerateurPRBS generateur;
+
+    /** La taille du message. */
+    private final int tailleListe;
+
+    /** true si le message a été émis par blocs sans être construit. */
+    private boolean emisParBlocs = false;
+
+    /**
+     * Construit une source PRBS-n dont le registre est initialisé à partir d'un germe.
+     *
+     * @param ordre L'ordre n de la séquence (7, 15, 23 ou 31).
+     * @param tailleListe La taille du message.
+     * @param germe Le germe du registre (voir {@link GenerateurPRBS#GenerateurPRBS(int, long)}).
+     */
+    public SourcePRBS(int ordre, int tailleListe, long germe) {
+        super();
+        if (tailleListe < 0) {
+            throw new IllegalArgumentException("La taille du message doit être positive ou nulle.");
+        }
+        this.generateur = new GenerateurPRBS(ordre, germe);
+        this.tailleListe = tailleListe;
+    }
+
+    /**
+     * Construit une source PRBS-n dont le registre est initialisé à 1.
+     *
+     * @param ordre L'ordre n de la séquence (7, 15, 23 ou 31).
+     * @param tailleListe La taille du message.
+     */
+    public SourcePRBS(int ordre, int tailleListe) {
+        this(ordre, tailleListe, 0);
+    }
+
+    /**
+     * Retourne le message, construit à la première demande.
+     *
+     * @return Les tailleListe premiers bits de la séquence.
+     */
+    public Information<Boolean> getInformationGeneree() {
+        if (informationGeneree == null) {
+            informationGeneree = generer(0, tailleListe);
+        }
+        return informationGeneree;
+    }
+
+    /**
+     * Retourne la dernière information émise, construite à la demande si le message
+     * a été émis par blocs.
+     *
+     * @return La dernière information émise.
+     */
+    @Override
+    public Information<Boolean> getInformationEmise() {
+        if (informationEmise == null && emisParBlocs) {
+            informationEmise = getInformationGeneree();
+        }
+        return informationEmise;
+    }
+
+    @Override
+    public void emettre() throws InformationNonConformeException {
+        getInformationGeneree();
+        super.emettre();
+    }
+
+    @Override
+    public void emettreParBlocs(int tailleBloc) throws InformationNonConformeException {
+        super.emettreParBlocs(tailleBloc);
+        emisParBlocs = true;
+    }
+
+    @Override
+    protected int nbElementsGeneres() {
+        return tailleListe;
+    }
+
+    @Override
+    protected Information<Boolean> genererBloc(int debut, int taille) {
+        return informationGeneree != null ? super.genererBloc(debut, taille) : generer(debut, taille);
+    }
+
+    /**
+     * Génère les bits [debut, debut + taille) du message, à la suite des précédents
+     * si possible, sinon en reprenant la séquence depuis son début.
+     *
+     * @param debut Le rang du premier bit.
+     * @param taille Le nombre de bits.
+     * @return Les bits générés.
+     */
+    private BitInformation generer(int debut, int taille) {
+        if (generateur.getPosition() > debut) {
+            generateur.reinitialiser();
+        }
+        while (generateur.getPosition() < debut) {
+            generateur.suivants((int) Math.min(64, debut - generateur.getPosition()));
+        }
+        long[] mots = new long[Math.max(1, BitInformation.nbMots(taille))];
+        for (int k = 0; k < taille; k += 64) {
+            mots[k >>> 6] = generateur.suivants(Math.min(64, taille - k));
+        }
+        return new BitInformation(mots, taille);
+    }
+}
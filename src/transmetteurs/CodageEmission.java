@@ -29,22 +29,29 @@ public class CodageEmission extends Transmetteur<Boolean, Boolean> {
             throw new InformationNonConformeException("L'information reçue est nulle ou invalide.");
         }
 		this.informationRecue = information;
-		informationBitCode = new Information<>();
-		
-		for (boolean bit : information) {
-			if (bit) { //Si le bit reçu est 1
-				informationBitCode.add(true);
-				informationBitCode.add(false);
-				informationBitCode.add(true);
-			}else { //Si le bit reçu est 0
-				informationBitCode.add(false);
-				informationBitCode.add(true);
-				informationBitCode.add(false);
-			}
-		}
+		informationBitCode = coder(information);
 		this.emettre();
 	}
 
+	/**
+	 * Code un bloc reçu en flux, chaque bit étant codé indépendamment
+	 * @param bloc le bloc de bits reçu
+	 * @return le bloc de bits codés
+	 */
+	@Override
+	protected Information<Boolean> traiterBloc(Information<Boolean> bloc) {
+		return coder(bloc);
+	}
+
+	/**
+	 * Convertit chaque bit en une sequence de 3 bits, par octets (voir {@link CodecRepetition})
+	 * @param information les bits à coder
+	 * @return les bits codés
+	 */
+	private BitInformation coder(Information<Boolean> information) {
+		return CodecRepetition.coder(BitInformation.depuis(information));
+	}
+
 	/**
 	 * Emet la sequence de 3 bits
 	 */
@@ -0,0 +1,128 @@
+package transmetteurs;
+
+import information.BitInformation;
+
+/**
+ * La classe CodecRepetition code et décode les bits par paquets de 3
+ * (1 → 101, 0 → 010) directement sur les mots de 64 bits d'une
+ * {@link BitInformation}, à l'aide de tables :
+ * <ul>
+ * <li>au codage, chaque octet d'entrée donne 24 bits codés ;</li>
+ * <li>au décodage, chaque groupe de 12 bits reçus (4 paquets) donne 4 bits,
+ * selon la table de l'automate de {@link DecodageReception}.</li>
+ * </ul>
+ */
+public final class CodecRepetition {
+
+    /** Les 24 bits codés de chaque octet. */
+    private static final int[] CODAGE = new int[256];
+
+    /** Les 4 bits décodés de chaque groupe de 12 bits reçus. */
+    private static final byte[] DECODAGE = new byte[4096];
+
+    /**
+     * Le bit décodé de chaque paquet de 3 bits (bit 0 du paquet en poids faible) :
+     * 1 pour les paquets 100, 001, 101 et 111 (dans l'ordre de réception).
+     */
+    private static final int AUTOMATE;
+
+    static {
+        int automate = 0;
+        boolean[] paquet = new boolean[3];
+        for (int t = 0; t < 8; t++) {
+            paquet[0] = (t & 1) != 0;
+            paquet[1] = (t & 2) != 0;
+            paquet[2] = (t & 4) != 0;
+            if (DecodageReception.automate(paquet)) {
+                automate |= 1 << t;
+            }
+        }
+        AUTOMATE = automate;
+
+        for (int v = 0; v < 256; v++) {
+            int code = 0;
+            for (int j = 0; j < 8; j++) {
+                code |= ((v >>> j & 1) != 0 ? 0b101 : 0b010) << (3 * j);
+            }
+            CODAGE[v] = code;
+        }
+        for (int g = 0; g < 4096; g++) {
+            int bits = 0;
+            for (int j = 0; j < 4; j++) {
+                bits |= (AUTOMATE >>> (g >>> (3 * j) & 7) & 1) << j;
+            }
+            DECODAGE[g] = (byte) bits;
+        }
+    }
+
+    private CodecRepetition() {
+    }
+
+    /**
+     * Code une information logique : chaque bit devient un paquet de 3 bits.
+     * @param bits les bits à coder
+     * @return les bits codés
+     */
+    public static BitInformation coder(BitInformation bits) {
+        int nbBits = bits.nbElements();
+        long[] mots = bits.getMots();
+        long[] code = new long[Math.max(1, BitInformation.nbMots(3 * nbBits))];
+        int position = 0;
+        for (int i = 0; i < nbBits; i += 8, position += 24) {
+            int octet = (int) (mots[i >>> 6] >>> (i & 63)) & 0xFF;
+            long valeur = CODAGE[octet];
+            // Les paquets des bits au-delà de nbBits sont effacés
+            int n = Math.min(24, 3 * (nbBits - i));
+            if (n < 24) {
+                valeur &= (1L << n) - 1;
+            }
+            int m = position >>> 6;
+            int d = position & 63;
+            code[m] |= valeur << d;
+            if (d + n > 64) {
+                code[m + 1] |= valeur >>> (64 - d);
+            }
+        }
+        return new BitInformation(code, 3 * nbBits);
+    }
+
+    /**
+     * Décode les premiers bits d'une information, par paquets de 3.
+     * @param bitsRecus les bits reçus
+     * @param nbBits le nombre de bits à décoder (multiple de 3)
+     * @return les bits décodés
+     */
+    public static BitInformation decoder(BitInformation bitsRecus, int nbBits) {
+        long[] mots = bitsRecus.getMots();
+        int nbDecodes = nbBits / 3;
+        long[] decodes = new long[Math.max(1, BitInformation.nbMots(nbDecodes))];
+        int i = 0;
+        // Groupes de 4 paquets : 12 bits reçus donnent 4 bits décodés
+        for (int position = 0; i + 4 <= nbDecodes; i += 4, position += 12) {
+            int groupe = (int) lire(mots, position) & 0xFFF;
+            decodes[i >>> 6] |= (long) DECODAGE[groupe] << (i & 63);
+        }
+        // Derniers paquets
+        for (int position = 3 * i; i < nbDecodes; i++, position += 3) {
+            int paquet = (int) lire(mots, position) & 7;
+            decodes[i >>> 6] |= (long) (AUTOMATE >>> paquet & 1) << (i & 63);
+        }
+        return new BitInformation(decodes, nbDecodes);
+    }
+
+    /**
+     * Lit au moins 12 bits à partir d'une position donnée (les bits au-delà du tableau sont lus à 0).
+     * @param mots les mots de 64 bits
+     * @param position le rang du premier bit à lire
+     * @return les bits lus, le premier en poids faible
+     */
+    private static long lire(long[] mots, int position) {
+        int m = position >>> 6;
+        int d = position & 63;
+        long valeur = mots[m] >>> d;
+        if (d > 52 && m + 1 < mots.length) {
+            valeur |= mots[m + 1] << (64 - d);
+        }
+        return valeur;
+    }
+}
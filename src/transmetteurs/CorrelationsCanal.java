@@ -0,0 +1,68 @@
+package transmetteurs;
+
+import information.BitInformation;
+
+/**
+ * La classe CorrelationsCanal conserve, pour chaque bit d'un message transmis par
+ * une {@link TransmetteurFusionne chaîne fusionnée}, la sortie du filtre adapté pour
+ * le signal sans bruit et pour une réalisation de bruit de variance unité.  Le filtre
+ * étant linéaire, la sortie pour un bruit d'écart-type sigma est leur combinaison :
+ * les bits reçus à n'importe quel SNR sont décidés sans remoduler ni regénérer de
+ * bruit, avec le même bruit (à l'échelle près) pour tous les SNR.
+ */
+public class CorrelationsCanal {
+
+    /** Les sorties du filtre adapté pour le signal sans bruit, une par bit. */
+    private final float[] signal;
+
+    /** Les sorties du filtre adapté pour le bruit de variance unité, une par bit. */
+    private final float[] bruit;
+
+    /** Le nombre de bits. */
+    private final int nbBits;
+
+    /** La puissance du signal sans bruit, qui règle l'écart-type du bruit. */
+    private final double puissanceSignal;
+
+    /** Le seuil de décision du filtre adapté. */
+    private final float seuil;
+
+    CorrelationsCanal(float[] signal, float[] bruit, int nbBits, double puissanceSignal, float seuil) {
+        this.signal = signal;
+        this.bruit = bruit;
+        this.nbBits = nbBits;
+        this.puissanceSignal = puissanceSignal;
+        this.seuil = seuil;
+    }
+
+    /**
+     * Décide les bits reçus pour un SNR, l'écart-type du bruit étant réglé sur la
+     * puissance du signal comme par le {@link TransmetteurAnalogiqueBruite}.
+     * @param snr Le rapport signal/bruit (en dB).
+     * @return Les bits décidés.
+     */
+    public BitInformation decider(double snr) {
+        float sigma = (float) Math.sqrt(puissanceSignal / Math.pow(10, snr / 10));
+        long[] decides = new long[Math.max(1, BitInformation.nbMots(nbBits))];
+        for (int i = 0; i < nbBits; i++) {
+            if (signal[i] + sigma * bruit[i] >= seuil) {
+                decides[i >>> 6] |= 1L << i;
+            }
+        }
+        return new BitInformation(decides, nbBits);
+    }
+
+    /**
+     * @return La puissance du signal sans bruit.
+     */
+    public double getPuissanceSignal() {
+        return puissanceSignal;
+    }
+
+    /**
+     * @return Le nombre de bits.
+     */
+    public int getNbBits() {
+        return nbBits;
+    }
+}
@@ -19,6 +19,9 @@ public class DecodageReception extends Transmetteur<Boolean, Boolean> {
 
     private Information<Boolean> informationBitCode = new Information<>();
 
+    /** En flux : les bits d'un paquet de 3 commencé dans le bloc précédent */
+    private BitInformation resteFlux;
+
     /**
      * declaration des etats pour l'automate
      */
@@ -64,16 +67,42 @@ public class DecodageReception extends Transmetteur<Boolean, Boolean> {
             throw new InformationNonConformeException("Le message reçu n'est pas divisible par 3");
         }
 
-        informationBitCode = new Information<>();
-        for (int i = 0; i < informationRecue.nbElements(); i += 3) {
-            boolean[] bits = new boolean[3];
-            bits[0] = informationRecue.iemeElement(i);
-            bits[1] = informationRecue.iemeElement(i + 1);
-            bits[2] = informationRecue.iemeElement(i + 2);
+        informationBitCode = CodecRepetition.decoder(BitInformation.depuis(informationRecue), informationRecue.nbElements());
+    }
+
+    /**
+     * Décode un bloc reçu en flux ; les bits d'un paquet de 3 incomplet sont
+     * conservés pour le bloc suivant
+     * @param bloc le bloc de bits reçu
+     * @return le bloc de bits décodés
+     */
+    @Override
+    protected Information<Boolean> traiterBloc(Information<Boolean> bloc) {
+        BitInformation bitsRecus;
+        if (resteFlux == null || resteFlux.nbElements() == 0) {
+            bitsRecus = BitInformation.depuis(bloc);
+        } else {
+            bitsRecus = resteFlux;
+            bitsRecus.ajouter(bloc);
+        }
+        int nbBits = bitsRecus.nbElements() / 3 * 3;
+        resteFlux = bitsRecus.extraire(nbBits, bitsRecus.nbElements() - nbBits);
+        return CodecRepetition.decoder(bitsRecus, nbBits);
+    }
 
-            boolean decodedBit = automate(bits);
-            informationBitCode.add(decodedBit);
+    /**
+     * Termine un flux
+     * @return null, tous les paquets complets ont déjà été décodés
+     * @throws InformationNonConformeException si le flux reçu n'est pas divisible par 3
+     */
+    @Override
+    protected Information<Boolean> viderFlux() throws InformationNonConformeException {
+        BitInformation reste = resteFlux;
+        resteFlux = null;
+        if (reste != null && reste.nbElements() != 0) {
+            throw new InformationNonConformeException("Le message reçu n'est pas divisible par 3");
         }
+        return null;
     }
 
     @Override
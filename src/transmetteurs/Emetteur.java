@@ -5,6 +5,8 @@ import information.*;
 import sources.*;
 import visualisations.*;
 
+import java.util.Arrays;
+
 /**
  * La classe Emetteur permet de convertir une information logique (booléenne) en un signal analogique.
  */
@@ -31,9 +33,36 @@ public class Emetteur extends Transmetteur<Boolean, Float> {
     private String typeModulation;
 
     /**
-     * Information analogique (la sortie de l'émetteur).
+     * Valeur indiquant l'absence de bit voisin (début ou fin de l'information).
+     */
+    static final int AUCUN_BIT = -1;
+
+    /**
+     * Les formes d'onde précalculées d'un bit : indexées par la valeur du bit en
+     * NRZ et RZ, par le triplet (précédent, courant, suivant) en NRZT
+     * (voir {@link #indiceNRZT}).  null si le type de modulation est inconnu.
      */
-    private Information<Float> informationAnalogique;
+    private final float[][] modeles;
+
+    /**
+     * En flux NRZT : le dernier bit déjà émis (0, 1 ou AUCUN_BIT).
+     */
+    private int bitPrecedentFlux = AUCUN_BIT;
+
+    /**
+     * En flux NRZT : le bit reçu mais pas encore émis, faute de connaître son suivant (0, 1 ou AUCUN_BIT).
+     */
+    private int bitEnAttenteFlux = AUCUN_BIT;
+
+    /**
+     * Le tableau d'échantillons réutilisé d'une émission à l'autre (null si non réutilisé).
+     */
+    private float[] tampon;
+
+    /**
+     * Indique si le tableau d'échantillons émis est réutilisé d'une émission à l'autre.
+     */
+    private boolean reutilisationTampon = false;
 
     /**
      * Constructeur de la classe Emetteur.
@@ -52,7 +81,7 @@ public class Emetteur extends Transmetteur<Boolean, Float> {
         this.Amin = Amin;
         this.nbEchantillonsParBit = nbEchantillonsParBit;
         this.typeModulation = typeModulation;
-        this.informationAnalogique = new Information<Float>();
+        this.modeles = construireModeles();
     }
 
     /**
@@ -81,51 +110,222 @@ public class Emetteur extends Transmetteur<Boolean, Float> {
             throw new InformationNonConformeException("Aucune information n'a été reçue.");
         }
 
-        // Conversion en fonction du type de modulation
-        for (int i = 0; i < informationRecue.nbElements(); i++) {
-            Boolean bitCourant = informationRecue.iemeElement(i);
-            Boolean bitPrecedent = (i > 0) ? informationRecue.iemeElement(i - 1) : null;
-            Boolean bitSuivant = (i < informationRecue.nbElements() - 1) ? informationRecue.iemeElement(i + 1) : null;
-            switch (typeModulation) {
-                case "NRZ":
-                    convertNRZ(bitCourant);
-                    break;
-                case "NRZT":
-                    convertNRZT(bitCourant, bitPrecedent, bitSuivant); // Prend en compte les bits précédent et suivant
-                    break;
-                case "RZ":
-                    convertRZ(bitCourant);
-                    break;
-                default:
-                    throw new InformationNonConformeException("Type de modulation inconnu : " + typeModulation);
-            }
-        }
+        // Les bits sont lus directement dans les mots de 64 bits et les échantillons
+        // écrits dans un tableau préalloué
+        BitInformation bits = BitInformation.depuis(informationRecue);
+        int nbBits = bits.nbElements();
+        int nbEchantillons = nbBits * nbEchantillonsParBit;
+        float[] echantillons = tampon(nbEchantillons);
+        moduler(bits.getMots(), 0, nbBits, AUCUN_BIT, AUCUN_BIT, echantillons, 0);
 
         // Une fois l'information analogique créée, elle est émise
-        this.informationEmise = informationAnalogique;
+        this.informationEmise = new SampleInformation(echantillons, nbEchantillons);
         for (DestinationInterface<Float> destination : destinationsConnectees) {
             destination.recevoir(informationEmise);
         }
     }
 
     /**
-     * Convertit un bit en signal analogique selon la modulation NRZ (Non Return to Zero).
-     * @param bit Le bit à convertir.
+     * Active la réutilisation du tableau d'échantillons d'une émission à l'autre.
+     * L'information émise précédemment est alors écrasée par l'émission suivante :
+     * à réserver aux chaînes dont aucun composant ne conserve les informations reçues.
+     * @param reutilisationTampon true pour réutiliser le tableau d'échantillons.
      */
-    private void convertNRZ(Boolean bit) {
-        float amplitude = bit ? Amax : Amin;
-        for (int i = 0; i < nbEchantillonsParBit; i++) {
-            informationAnalogique.add(amplitude);
+    public void setReutilisationTampon(boolean reutilisationTampon) {
+        this.reutilisationTampon = reutilisationTampon;
+        this.tampon = null;
+    }
+
+    /**
+     * Fournit le tableau dans lequel écrire les échantillons émis.
+     * @param taille Le nombre d'échantillons à écrire.
+     * @return Le tableau réutilisé s'il est assez grand, un nouveau tableau sinon.
+     */
+    private float[] tampon(int taille) {
+        if (!reutilisationTampon) {
+            return new float[taille];
+        }
+        if (tampon == null || tampon.length < taille) {
+            tampon = new float[taille];
+        }
+        return tampon;
+    }
+
+    /**
+     * Convertit un bloc de bits reçu en flux.  En NRZT, le dernier bit du bloc
+     * est conservé jusqu'au bloc suivant, dont le premier bit détermine sa
+     * transition de fin.
+     * @param bloc Le bloc de bits reçu.
+     * @return Le bloc d'échantillons correspondant.
+     * @throws InformationNonConformeException si le type de modulation est inconnu.
+     */
+    @Override
+    protected Information<Float> traiterBloc(Information<Boolean> bloc) throws InformationNonConformeException {
+        BitInformation bits = BitInformation.depuis(bloc);
+        int nbBits = bits.nbElements();
+        if (!typeModulation.equals("NRZT")) {
+            float[] echantillons = new float[nbBits * nbEchantillonsParBit];
+            moduler(bits.getMots(), 0, nbBits, AUCUN_BIT, AUCUN_BIT, echantillons, 0);
+            return new SampleInformation(echantillons, echantillons.length);
+        }
+
+        int nbBitsEmis = nbBits - 1 + (bitEnAttenteFlux != AUCUN_BIT ? 1 : 0);
+        float[] echantillons = new float[nbBitsEmis * nbEchantillonsParBit];
+        int decalage = 0;
+        int bitAvant = bitPrecedentFlux;
+        if (bitEnAttenteFlux != AUCUN_BIT) {
+            long[] motEnAttente = {bitEnAttenteFlux};
+            moduler(motEnAttente, 0, 1, bitPrecedentFlux, bits.getBit(0) ? 1 : 0, echantillons, 0);
+            decalage = nbEchantillonsParBit;
+            bitAvant = bitEnAttenteFlux;
         }
+        moduler(bits.getMots(), 0, nbBits - 1, bitAvant, bits.getBit(nbBits - 1) ? 1 : 0, echantillons, decalage);
+
+        bitPrecedentFlux = nbBits >= 2 ? (bits.getBit(nbBits - 2) ? 1 : 0) : bitAvant;
+        bitEnAttenteFlux = bits.getBit(nbBits - 1) ? 1 : 0;
+        return new SampleInformation(echantillons, echantillons.length);
+    }
+
+    /**
+     * Termine un flux : émet le bit NRZT encore en attente (sans bit suivant).
+     * @return Le dernier bloc d'échantillons, ou null s'il ne reste aucun bit.
+     * @throws InformationNonConformeException si le type de modulation est inconnu.
+     */
+    @Override
+    protected Information<Float> viderFlux() throws InformationNonConformeException {
+        float[] echantillons = null;
+        if (bitEnAttenteFlux != AUCUN_BIT) {
+            long[] motEnAttente = {bitEnAttenteFlux};
+            echantillons = new float[nbEchantillonsParBit];
+            moduler(motEnAttente, 0, 1, bitPrecedentFlux, AUCUN_BIT, echantillons, 0);
+        }
+        bitPrecedentFlux = AUCUN_BIT;
+        bitEnAttenteFlux = AUCUN_BIT;
+        return echantillons == null ? null : new SampleInformation(echantillons, echantillons.length);
     }
 
     /**
-     * Convertit un bit en signal analogique selon la modulation NRZT (Non Return to Zero Transition).
-     * @param bitCourant Le bit à convertir.
-     * @param bitPrecedent Le bit précédent pour vérifier la continuité.
-     * @param bitSuivant Le bit suivant pour vérifier la continuité.
+     * Convertit les bits [debut, fin) en échantillons par copie des formes d'onde précalculées
+     * (utilisée aussi par bloc par la {@link TransmetteurFusionne chaîne fusionnée}).
+     * @param mots Les mots de 64 bits contenant les bits à convertir.
+     * @param debut Le rang du premier bit à convertir.
+     * @param fin Le rang suivant le dernier bit à convertir.
+     * @param bitAvant Le bit précédant le bit debut (0, 1 ou AUCUN_BIT).
+     * @param bitApres Le bit suivant le bit fin - 1 (0, 1 ou AUCUN_BIT).
+     * @param echantillons Le tableau d'échantillons à remplir.
+     * @param decalage Le rang du premier échantillon à écrire.
+     * @throws InformationNonConformeException si le type de modulation est inconnu.
      */
-    private void convertNRZT(Boolean bitCourant, Boolean bitPrecedent, Boolean bitSuivant) {
+    void moduler(long[] mots, int debut, int fin, int bitAvant, int bitApres, float[] echantillons, int decalage)
+            throws InformationNonConformeException {
+        if (modeles == null) {
+            throw new InformationNonConformeException("Type de modulation inconnu : " + typeModulation);
+        }
+        if (debut >= fin) {
+            return;
+        }
+        int k = decalage;
+        if (modeles.length == 2) {
+            // NRZ, RZ : la forme d'onde ne dépend que du bit courant
+            for (int b = debut; b < fin; b++, k += nbEchantillonsParBit) {
+                System.arraycopy(modeles[bit(mots, b)], 0, echantillons, k, nbEchantillonsParBit);
+            }
+        } else {
+            // NRZT : la forme d'onde dépend aussi des bits précédent et suivant
+            int precedent = bitAvant;
+            int courant = bit(mots, debut);
+            for (int b = debut; b < fin; b++, k += nbEchantillonsParBit) {
+                int suivant = b < fin - 1 ? bit(mots, b + 1) : bitApres;
+                System.arraycopy(modeles[indiceNRZT(precedent, courant, suivant)], 0, echantillons, k, nbEchantillonsParBit);
+                precedent = courant;
+                courant = suivant;
+            }
+        }
+    }
+
+    /**
+     * Renvoie la forme d'onde émise pour un bit (utilisée par le filtre adapté du récepteur).
+     * @param precedent Le bit précédent (0, 1 ou AUCUN_BIT), ignoré en NRZ et RZ.
+     * @param courant Le bit courant (0 ou 1).
+     * @param suivant Le bit suivant (0, 1 ou AUCUN_BIT), ignoré en NRZ et RZ.
+     * @return Les échantillons du bit (non copiés), ou null si le type de modulation est inconnu.
+     */
+    float[] getModele(int precedent, int courant, int suivant) {
+        if (modeles == null) {
+            return null;
+        }
+        return modeles.length == 2 ? modeles[courant] : modeles[indiceNRZT(precedent, courant, suivant)];
+    }
+
+    /**
+     * Lit un bit rangé dans des mots de 64 bits.
+     * @param mots Les mots de 64 bits.
+     * @param i Le rang du bit.
+     * @return La valeur du bit (0 ou 1).
+     */
+    private static int bit(long[] mots, int i) {
+        return (int) (mots[i >>> 6] >>> i) & 1;
+    }
+
+    /**
+     * Calcule l'indice de la forme d'onde NRZT d'un bit.
+     * @param precedent Le bit précédent (0, 1 ou AUCUN_BIT).
+     * @param courant Le bit courant (0 ou 1).
+     * @param suivant Le bit suivant (0, 1 ou AUCUN_BIT).
+     * @return L'indice dans le tableau des modèles.
+     */
+    private static int indiceNRZT(int precedent, int courant, int suivant) {
+        int p = precedent == AUCUN_BIT ? 2 : precedent;
+        int s = suivant == AUCUN_BIT ? 2 : suivant;
+        return (p * 2 + courant) * 3 + s;
+    }
+
+    /**
+     * Précalcule les formes d'onde d'un bit pour le type de modulation choisi.
+     * @return Les formes d'onde, ou null si le type de modulation est inconnu.
+     */
+    private float[][] construireModeles() {
+        switch (typeModulation) {
+            case "NRZ":
+                return new float[][]{modeleNRZ(false), modeleNRZ(true)};
+            case "RZ":
+                return new float[][]{modeleRZ(false), modeleRZ(true)};
+            case "NRZT":
+                float[][] modelesNRZT = new float[18][];
+                for (int precedent = AUCUN_BIT; precedent <= 1; precedent++) {
+                    for (int courant = 0; courant <= 1; courant++) {
+                        for (int suivant = AUCUN_BIT; suivant <= 1; suivant++) {
+                            modelesNRZT[indiceNRZT(precedent, courant, suivant)] = modeleNRZT(precedent, courant == 1, suivant);
+                        }
+                    }
+                }
+                return modelesNRZT;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Forme d'onde d'un bit selon la modulation NRZ (Non Return to Zero).
+     * @param bit Le bit.
+     * @return Les échantillons du bit.
+     */
+    private float[] modeleNRZ(boolean bit) {
+        float[] modele = new float[nbEchantillonsParBit];
+        Arrays.fill(modele, bit ? Amax : Amin);
+        return modele;
+    }
+
+    /**
+     * Forme d'onde d'un bit selon la modulation NRZT (Non Return to Zero Transition).
+     * Le bit prend en compte les bits précédent et suivant pour la continuité.
+     * @param precedent Le bit précédent (0, 1 ou AUCUN_BIT).
+     * @param bitCourant Le bit courant.
+     * @param suivant Le bit suivant (0, 1 ou AUCUN_BIT).
+     * @return Les échantillons du bit.
+     */
+    private float[] modeleNRZT(int precedent, boolean bitCourant, int suivant) {
+        float[] modele = new float[nbEchantillonsParBit];
         float moy = (Amax + Amin) / 2;
 
         int nbEchPremierTiers = nbEchantillonsParBit / 3;
@@ -135,63 +335,52 @@ public class Emetteur extends Transmetteur<Boolean, Float> {
         float quantumPremier = (Amax - moy) / (nbEchPremierTiers > 0 ? nbEchPremierTiers : 1);
         float quantumTroisieme = (Amax - moy) / (nbEchTroisiemeTiers > 0 ? nbEchTroisiemeTiers : 1);
 
+        boolean transitionAvant = precedent != AUCUN_BIT && (precedent == 1) != bitCourant;
+        boolean transitionApres = suivant != AUCUN_BIT && (suivant == 1) != bitCourant;
+        float amplitudeStable = bitCourant ? Amax : Amin;
+        int k = 0;
+
         // Premier tiers : montée/descente si le bit précédent est différent, sinon plat
         for (int i = 0; i < nbEchPremierTiers; i++) {
-            float amplitude;
-            if (bitPrecedent != null && !bitPrecedent.equals(bitCourant)) {
+            if (transitionAvant) {
                 // Transition progressive : montée si bitCourant = 1, descente si bitCourant = 0
-                amplitude = bitCourant ? moy + (quantumPremier * i) : moy - (quantumPremier * i);
+                modele[k++] = bitCourant ? moy + (quantumPremier * i) : moy - (quantumPremier * i);
             } else {
-                // Aucun changement, conserver le niveau stable
-                amplitude = bitCourant ? Amax : Amin;
+                modele[k++] = amplitudeStable;
             }
-            informationAnalogique.add(amplitude);
         }
 
         // Deuxième tiers : niveau stable correspondant au bit courant (plat)
-        float amplitudeStable = bitCourant ? Amax : Amin;
         for (int i = 0; i < nbEchDeuxiemeTiers; i++) {
-            informationAnalogique.add(amplitudeStable);
+            modele[k++] = amplitudeStable;
         }
 
         // Troisième tiers : montée/descente si le bit suivant est différent, sinon plat
         for (int i = 0; i < nbEchTroisiemeTiers; i++) {
-            float amplitude;
-            if (bitSuivant != null && !bitSuivant.equals(bitCourant)) {
+            if (transitionApres) {
                 // Transition progressive : descente si bitCourant = 1, montée si bitCourant = 0
-                amplitude = bitCourant ? Amax - (quantumTroisieme * i) : Amin + (quantumTroisieme * i);
+                modele[k++] = bitCourant ? Amax - (quantumTroisieme * i) : Amin + (quantumTroisieme * i);
             } else {
-                // Aucun changement, conserver le niveau stable
-                amplitude = bitCourant ? Amax : Amin;
+                modele[k++] = amplitudeStable;
             }
-            informationAnalogique.add(amplitude);
         }
+        return modele;
     }
 
     /**
-     * Convertit un bit en signal analogique selon la modulation RZ (Return to Zero).
-     * @param bit Le bit à convertir.
+     * Forme d'onde d'un bit selon la modulation RZ (Return to Zero) :
+     * 0 sur le premier et le troisième tiers, amplitude si bit = 1 sur le deuxième tiers.
+     * @param bit Le bit.
+     * @return Les échantillons du bit.
      */
-    private void convertRZ(Boolean bit) {
+    private float[] modeleRZ(boolean bit) {
+        float[] modele = new float[nbEchantillonsParBit];
         int nbEchPremierTiers = nbEchantillonsParBit / 3;
         int nbEchDeuxiemeTiers = nbEchantillonsParBit / 3;
-        int nbEchTroisiemeTiers = nbEchantillonsParBit - nbEchPremierTiers - nbEchDeuxiemeTiers;
-
-        // Premier tiers : 0
-        for (int i = 0; i < nbEchPremierTiers; i++) {
-            informationAnalogique.add(0.0f);
-        }
-
-        // Deuxième tiers : amplitude si bit = 1, 0 sinon
-        float amplitude = bit ? Amax : 0.0f;
-        for (int i = 0; i < nbEchDeuxiemeTiers; i++) {
-            informationAnalogique.add(amplitude);
-        }
-
-        // Troisième tiers : 0
-        for (int i = 0; i < nbEchTroisiemeTiers; i++) {
-            informationAnalogique.add(0.0f);
+        if (bit) {
+            Arrays.fill(modele, nbEchPremierTiers, nbEchPremierTiers + nbEchDeuxiemeTiers, Amax);
         }
+        return modele;
     }
 
     /**
@@ -0,0 +1,203 @@
+package transmetteurs;
+
+import information.BitInformation;
+
+/**
+ * La classe FiltreAdapte décide les bits d'un signal analogique par corrélation
+ * (filtre adapté) avec les formes d'onde émises par l'{@link Emetteur}.
+ * <p>
+ * Pour deux formes d'onde s0 et s1, le bit reçu r est décidé à 1 si
+ * &lt;r, s1 - s0&gt; &gt;= &lt;(s1 + s0) / 2, s1 - s0&gt;.  En NRZT, s0 et s1 sont les
+ * moyennes des formes d'onde sur les 4 voisinages possibles (bits précédent
+ * et suivant équiprobables) : ce détecteur linéaire bit à bit n'est qu'une
+ * approximation du détecteur optimal, qui déciderait la séquence entière
+ * (Viterbi sur les couples de bits voisins).  Il est conservé car le TEB
+ * analytique ({@code EvaluateurTEB}) et les {@link CorrelationsCanal} reposent
+ * sur une décision linéaire, une corrélation par bit.
+ * <p>
+ * Les produits scalaires utilisent l'API Vector du JDK lorsque le module
+ * jdk.incubator.vector est chargé ({@code --add-modules jdk.incubator.vector},
+ * voir les scripts compile et runTests), une boucle scalaire sinon.
+ */
+public class FiltreAdapte {
+
+    /**
+     * Vrai si les produits scalaires sont calculés par {@link ProduitScalaireVectoriel}.
+     */
+    static final boolean VECTORIEL = vectorielDisponible();
+
+    /**
+     * La forme d'onde de référence s1 - s0.
+     */
+    private final float[] reference;
+
+    /**
+     * La forme d'onde médiane (s1 + s0) / 2.
+     */
+    private final float[] milieu;
+
+    /**
+     * Le seuil de décision d'un bit complet : &lt;milieu, reference&gt;.
+     */
+    private final float seuil;
+
+    /**
+     * Construit un filtre adapté à deux formes d'onde de même longueur.
+     * @param modeleZero La forme d'onde d'un bit 0.
+     * @param modeleUn La forme d'onde d'un bit 1.
+     */
+    public FiltreAdapte(float[] modeleZero, float[] modeleUn) {
+        if (modeleZero.length != modeleUn.length || modeleZero.length == 0) {
+            throw new IllegalArgumentException("Les formes d'onde doivent avoir la même longueur non nulle.");
+        }
+        int n = modeleZero.length;
+        this.reference = new float[n];
+        this.milieu = new float[n];
+        for (int j = 0; j < n; j++) {
+            reference[j] = modeleUn[j] - modeleZero[j];
+            milieu[j] = (modeleUn[j] + modeleZero[j]) / 2;
+        }
+        this.seuil = produitScalaire(milieu, 0, reference, n);
+    }
+
+    /**
+     * Construit le filtre adapté aux formes d'onde d'une modulation.
+     * Les amplitudes peuvent être données dans un ordre quelconque.
+     * @param amplitude1 L'une des amplitudes du signal.
+     * @param amplitude2 L'autre amplitude du signal.
+     * @param nbEchantillonsParBit Le nombre d'échantillons par bit.
+     * @param typeModulation Le type de modulation ("NRZ", "NRZT" ou "RZ").
+     * @return Le filtre adapté, ou null si le type de modulation est inconnu.
+     */
+    public static FiltreAdapte pour(float amplitude1, float amplitude2, int nbEchantillonsParBit, String typeModulation) {
+        Emetteur emetteur = new Emetteur(Math.min(amplitude1, amplitude2), Math.max(amplitude1, amplitude2),
+                nbEchantillonsParBit, typeModulation);
+        if (emetteur.getModele(Emetteur.AUCUN_BIT, 0, Emetteur.AUCUN_BIT) == null) {
+            return null;
+        }
+        if (!"NRZT".equals(typeModulation)) {
+            return new FiltreAdapte(emetteur.getModele(Emetteur.AUCUN_BIT, 0, Emetteur.AUCUN_BIT),
+                    emetteur.getModele(Emetteur.AUCUN_BIT, 1, Emetteur.AUCUN_BIT));
+        }
+        return new FiltreAdapte(modeleMoyen(emetteur, 0, nbEchantillonsParBit),
+                modeleMoyen(emetteur, 1, nbEchantillonsParBit));
+    }
+
+    /**
+     * Calcule la moyenne des formes d'onde NRZT d'un bit sur ses 4 voisinages possibles.
+     * @param emetteur L'émetteur NRZT.
+     * @param courant Le bit courant.
+     * @param nbEchantillonsParBit Le nombre d'échantillons par bit.
+     * @return La forme d'onde moyenne.
+     */
+    private static float[] modeleMoyen(Emetteur emetteur, int courant, int nbEchantillonsParBit) {
+        float[] moyen = new float[nbEchantillonsParBit];
+        for (int precedent = 0; precedent <= 1; precedent++) {
+            for (int suivant = 0; suivant <= 1; suivant++) {
+                float[] modele = emetteur.getModele(precedent, courant, suivant);
+                for (int j = 0; j < nbEchantillonsParBit; j++) {
+                    moyen[j] += modele[j] / 4;
+                }
+            }
+        }
+        return moyen;
+    }
+
+    /**
+     * Démodule les échantillons [debut, fin) bit par bit ; le dernier bit peut être incomplet.
+     * @param echantillons Le tableau d'échantillons reçus.
+     * @param debut Le rang du premier échantillon du premier bit.
+     * @param fin Le rang suivant le dernier échantillon.
+     * @param informationLogique L'information logique à compléter.
+     */
+    public void demoduler(float[] echantillons, int debut, int fin, BitInformation informationLogique) {
+        int n = reference.length;
+        int i = debut;
+        for (; i + n <= fin; i += n) {
+            informationLogique.addBit(produitScalaire(echantillons, i, reference, n) >= seuil);
+        }
+        if (i < fin) {
+            informationLogique.addBit(deciderIncomplet(echantillons, i, fin - i));
+        }
+    }
+
+    /**
+     * Corrèle un bit complet avec la forme d'onde de référence.
+     * @param echantillons Le tableau d'échantillons reçus.
+     * @param debut Le rang du premier échantillon du bit.
+     * @return La corrélation &lt;r, s1 - s0&gt;.
+     */
+    public float correler(float[] echantillons, int debut) {
+        return produitScalaire(echantillons, debut, reference, reference.length);
+    }
+
+    /**
+     * @return Le seuil de décision d'un bit complet.
+     */
+    public float getSeuil() {
+        return seuil;
+    }
+
+    /**
+     * @return Une copie de la forme d'onde de référence s1 - s0.
+     */
+    public float[] getReference() {
+        return reference.clone();
+    }
+
+    /**
+     * Décide un bit incomplet avec le début des formes d'onde.
+     * Sans échantillon significatif (référence nulle), le bit est décidé à 0.
+     */
+    private boolean deciderIncomplet(float[] echantillons, int debut, int nombre) {
+        float energie = produitScalaire(reference, 0, reference, nombre);
+        if (energie == 0) {
+            return false;
+        }
+        return produitScalaire(echantillons, debut, reference, nombre) >= produitScalaire(milieu, 0, reference, nombre);
+    }
+
+    /**
+     * Teste si le module jdk.incubator.vector est chargé et utilisable.
+     * @return Vrai si l'API Vector est disponible.
+     */
+    private static boolean vectorielDisponible() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return ProduitScalaireVectoriel.disponible();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Produit scalaire de x[debut, debut + nombre) et y[0, nombre).
+     */
+    private static float produitScalaire(float[] x, int debut, float[] y, int nombre) {
+        if (VECTORIEL) {
+            return ProduitScalaireVectoriel.produitScalaire(x, debut, y, nombre);
+        }
+        return produitScalaireScalaire(x, debut, y, nombre);
+    }
+
+    /**
+     * Produit scalaire sans l'API Vector.
+     * La boucle est déroulée sur quatre accumulateurs indépendants.
+     */
+    static float produitScalaireScalaire(float[] x, int debut, float[] y, int nombre) {
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int j = 0;
+        for (; j + 3 < nombre; j += 4) {
+            s0 += x[debut + j] * y[j];
+            s1 += x[debut + j + 1] * y[j + 1];
+            s2 += x[debut + j + 2] * y[j + 2];
+            s3 += x[debut + j + 3] * y[j + 3];
+        }
+        for (; j < nombre; j++) {
+            s0 += x[debut + j] * y[j];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+}
@@ -0,0 +1,27 @@
+package transmetteurs;
+
+/**
+ * L'interface GenerateurBruit définit une source de bruit gaussien centré réduit
+ * utilisée par le {@link TransmetteurAnalogiqueBruite}.
+ */
+public interface GenerateurBruit {
+
+    /**
+     * Tire une valeur gaussienne de moyenne 0 et d'écart-type 1.
+     * @return La valeur tirée.
+     */
+    double gaussienne();
+
+    /**
+     * Remplit une partie d'un tableau avec un bruit gaussien centré d'écart-type donné.
+     * @param bruit Le tableau à remplir.
+     * @param debut Le rang du premier échantillon à écrire.
+     * @param nombre Le nombre d'échantillons à écrire.
+     * @param sigma L'écart-type du bruit.
+     */
+    default void remplir(float[] bruit, int debut, int nombre, double sigma) {
+        for (int i = debut; i < debut + nombre; i++) {
+            bruit[i] = (float) (sigma * gaussienne());
+        }
+    }
+}
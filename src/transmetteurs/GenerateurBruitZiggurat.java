@@ -0,0 +1,107 @@
+package transmetteurs;
+
+import java.util.SplittableRandom;
+
+/**
+ * Générateur de bruit gaussien par la méthode Ziggurat (Marsaglia et Tsang,
+ * variante de Doornik à 128 couches) sur un {@link SplittableRandom}.
+ * <p>
+ * Dans environ 99 % des tirages, un seul entier de 64 bits et une
+ * multiplication suffisent ; les fonctions exp et log ne sont appelées
+ * qu'en bordure des couches et dans la queue de la distribution.
+ * Un générateur n'est pas partagé entre plusieurs threads.
+ */
+public class GenerateurBruitZiggurat implements GenerateurBruit {
+
+    /** Nombre de couches de la Ziggurat. */
+    private static final int NB_COUCHES = 128;
+
+    /** Abscisse du début de la queue de distribution. */
+    private static final double R = 3.442619855899;
+
+    /** Aire commune à chaque couche. */
+    private static final double V = 9.91256303526217e-3;
+
+    /** Abscisses droites des couches (X[NB_COUCHES] = 0). */
+    private static final double[] X = new double[NB_COUCHES + 1];
+
+    /** Rapport X[i + 1] / X[i] : en deçà, le tirage est dans la partie rectangulaire. */
+    private static final double[] RAPPORT = new double[NB_COUCHES];
+
+    static {
+        double f = Math.exp(-0.5 * R * R);
+        X[0] = V / f;
+        X[1] = R;
+        X[NB_COUCHES] = 0;
+        for (int i = 2; i < NB_COUCHES; i++) {
+            X[i] = Math.sqrt(-2 * Math.log(V / X[i - 1] + f));
+            f = Math.exp(-0.5 * X[i] * X[i]);
+        }
+        for (int i = 0; i < NB_COUCHES; i++) {
+            RAPPORT[i] = X[i + 1] / X[i];
+        }
+    }
+
+    /** Le générateur uniforme sous-jacent. */
+    private final SplittableRandom random;
+
+    /**
+     * Construit un générateur sans germe (tirages différents à chaque exécution).
+     */
+    public GenerateurBruitZiggurat() {
+        this.random = new SplittableRandom();
+    }
+
+    /**
+     * Construit un générateur reproductible.
+     * @param germe Le germe du générateur uniforme.
+     */
+    public GenerateurBruitZiggurat(long germe) {
+        this.random = new SplittableRandom(germe);
+    }
+
+    @Override
+    public double gaussienne() {
+        while (true) {
+            long r = random.nextLong();
+            // 7 bits de poids faible pour la couche, 53 bits de poids fort pour u dans [-1, 1)
+            int i = (int) r & (NB_COUCHES - 1);
+            double u = (r >> 11) * 0x1.0p-52;
+            if (Math.abs(u) < RAPPORT[i]) {
+                return u * X[i];
+            }
+            if (i == 0) {
+                return queue(u < 0);
+            }
+            double x = u * X[i];
+            double f0 = Math.exp(-0.5 * (X[i] * X[i] - x * x));
+            double f1 = Math.exp(-0.5 * (X[i + 1] * X[i + 1] - x * x));
+            if (f1 + uniforme() * (f0 - f1) < 1.0) {
+                return x;
+            }
+        }
+    }
+
+    /**
+     * Tire une valeur dans la queue de la distribution (|x| &gt; R).
+     * @param negatif true pour la queue négative.
+     * @return La valeur tirée.
+     */
+    private double queue(boolean negatif) {
+        double x;
+        double y;
+        do {
+            x = Math.log(uniforme()) / R;
+            y = Math.log(uniforme());
+        } while (-2 * y < x * x);
+        return negatif ? x - R : R - x;
+    }
+
+    /**
+     * Tire une valeur uniforme dans ]0, 1[.
+     * @return La valeur tirée.
+     */
+    private double uniforme() {
+        return ((random.nextLong() >>> 11) + 0.5) * 0x1.0p-53;
+    }
+}
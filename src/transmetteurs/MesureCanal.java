@@ -0,0 +1,107 @@
+package transmetteurs;
+
+/**
+ * La classe MesureCanal regroupe les grandeurs mesurées par le
+ * {@link TransmetteurAnalogiqueBruite} lors de l'ajout du bruit :
+ * puissances du signal et du bruit réellement ajouté, et les rapports
+ * signal sur bruit qui en découlent, à comparer au SNR visé.
+ */
+public class MesureCanal {
+
+    /** Le nombre d'échantillons mesurés. */
+    private final long nbEchantillons;
+
+    /** La puissance moyenne du signal reçu. */
+    private final double puissanceSignal;
+
+    /** La puissance moyenne du bruit réellement ajouté. */
+    private final double puissanceBruit;
+
+    /** L'écart-type du bruit demandé au générateur. */
+    private final double sigma;
+
+    /** Le SNR visé (en dB). */
+    private final double snrCible;
+
+    /** Le nombre d'échantillons par bit. */
+    private final int nbEchantillonsParBit;
+
+    /**
+     * Construit une mesure.
+     * @param nbEchantillons Le nombre d'échantillons mesurés.
+     * @param puissanceSignal La puissance moyenne du signal reçu.
+     * @param puissanceBruit La puissance moyenne du bruit ajouté.
+     * @param sigma L'écart-type du bruit demandé.
+     * @param snrCible Le SNR visé (en dB).
+     * @param nbEchantillonsParBit Le nombre d'échantillons par bit.
+     */
+    public MesureCanal(long nbEchantillons, double puissanceSignal, double puissanceBruit, double sigma,
+                       double snrCible, int nbEchantillonsParBit) {
+        this.nbEchantillons = nbEchantillons;
+        this.puissanceSignal = puissanceSignal;
+        this.puissanceBruit = puissanceBruit;
+        this.sigma = sigma;
+        this.snrCible = snrCible;
+        this.nbEchantillonsParBit = nbEchantillonsParBit;
+    }
+
+    /**
+     * @return Le nombre d'échantillons mesurés.
+     */
+    public long getNbEchantillons() {
+        return nbEchantillons;
+    }
+
+    /**
+     * @return La puissance moyenne du signal reçu.
+     */
+    public double getPuissanceSignal() {
+        return puissanceSignal;
+    }
+
+    /**
+     * @return La puissance moyenne du bruit réellement ajouté.
+     */
+    public double getPuissanceBruit() {
+        return puissanceBruit;
+    }
+
+    /**
+     * @return L'écart-type du bruit demandé au générateur.
+     */
+    public double getSigma() {
+        return sigma;
+    }
+
+    /**
+     * @return Le SNR visé (en dB).
+     */
+    public double getSnrCible() {
+        return snrCible;
+    }
+
+    /**
+     * @return Le SNR mesuré (en dB).
+     */
+    public double getSnrMesure() {
+        return 10 * Math.log10(puissanceSignal / puissanceBruit);
+    }
+
+    /**
+     * @return Le rapport Eb/N0 mesuré (en dB).
+     */
+    public double getEbN0Mesure() {
+        return getSnrMesure() + 10 * Math.log10(nbEchantillonsParBit / 2.0);
+    }
+
+    @Override
+    public String toString() {
+        return "- Nombre de bits de la séquence : " + (nbEchantillons / nbEchantillonsParBit) + "\n"
+                + "- Nombre d'échantillons par bit : " + nbEchantillonsParBit + "\n"
+                + "1-> Puissance MOYENNE de la séquence de bits : " + puissanceSignal + "\n"
+                + "2-> Valeur de sigma (écart-type du bruit) : " + Math.sqrt(puissanceBruit) + "\n"
+                + "3-> Puissance moyenne du bruit : " + puissanceBruit + "\n"
+                + "4-> Rapport signal-sur-bruit (S/N, en dB) : " + getSnrMesure() + "\n"
+                + "5-> Rapport Eb/N0 (en dB) : " + getEbN0Mesure();
+    }
+}
@@ -0,0 +1,47 @@
+package transmetteurs;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Produit scalaire du {@link FiltreAdapte} calculé avec l'API Vector du JDK
+ * (module incubateur jdk.incubator.vector).  Cette classe n'est chargée que si
+ * le module est présent à l'exécution (option {@code --add-modules jdk.incubator.vector}),
+ * le filtre adapté utilisant sinon sa boucle scalaire.
+ */
+final class ProduitScalaireVectoriel {
+
+    /** La taille de vecteur préférée par le processeur. */
+    private static final VectorSpecies<Float> ESPECE = FloatVector.SPECIES_PREFERRED;
+
+    private ProduitScalaireVectoriel() {
+    }
+
+    /**
+     * @return Vrai si le processeur traite plus d'un flottant par vecteur.
+     */
+    static boolean disponible() {
+        return ESPECE.length() > 1;
+    }
+
+    /**
+     * Produit scalaire de x[debut, debut + nombre) et y[0, nombre), par vecteurs
+     * complets puis échantillon par échantillon pour la fin.
+     */
+    static float produitScalaire(float[] x, int debut, float[] y, int nombre) {
+        FloatVector somme = FloatVector.zero(ESPECE);
+        int j = 0;
+        int borne = ESPECE.loopBound(nombre);
+        for (; j < borne; j += ESPECE.length()) {
+            FloatVector a = FloatVector.fromArray(ESPECE, x, debut + j);
+            FloatVector b = FloatVector.fromArray(ESPECE, y, j);
+            somme = a.fma(b, somme);
+        }
+        float s = somme.reduceLanes(VectorOperators.ADD);
+        for (; j < nombre; j++) {
+            s += x[debut + j] * y[j];
+        }
+        return s;
+    }
+}
@@ -30,6 +30,21 @@ public class Recepteur extends Transmetteur<Float, Boolean> {
      */
     private String typeModulation;
 
+    /**
+     * En flux : les échantillons du bit commencé dans le bloc précédent.
+     */
+    private float[] resteFlux;
+
+    /**
+     * En flux : le nombre d'échantillons conservés dans resteFlux.
+     */
+    private int nbEchantillonsResteFlux = 0;
+
+    /**
+     * Le filtre adapté aux formes d'onde de la modulation (null si le type de modulation est inconnu).
+     */
+    private final FiltreAdapte filtre;
+
     /**
      * Constructeur de la classe Recepteur.
      *
@@ -44,6 +59,7 @@ public class Recepteur extends Transmetteur<Float, Boolean> {
         this.Amin = Amin;
         this.nbEchantillonsParBit = nbEchantillonsParBit;
         this.typeModulation = typeModulation;
+        this.filtre = FiltreAdapte.pour(Amin, Amax, nbEchantillonsParBit, typeModulation);
     }
 
     /**
@@ -72,22 +88,11 @@ public class Recepteur extends Transmetteur<Float, Boolean> {
             throw new InformationNonConformeException("Aucune information n'a été reçue.");
         }
 
-        Information<Boolean> informationLogique = new Information<>();
-
-        // Conversion en fonction du type de modulation
-        switch (typeModulation) {
-            case "NRZ":
-                convertNRZ(informationLogique);
-                break;
-            case "NRZT":
-                convertNRZT(informationLogique);
-                break;
-            case "RZ":
-                convertRZ(informationLogique);
-                break;
-            default:
-                throw new InformationNonConformeException("Type de modulation inconnu : " + typeModulation);
-        }
+        // Les échantillons sont lus directement dans un tableau de float
+        // et les bits décidés rangés dans des mots de 64 bits
+        SampleInformation signal = SampleInformation.depuis(informationRecue);
+        BitInformation informationLogique = new BitInformation(signal.nbElements() / nbEchantillonsParBit + 1);
+        demoduler(signal.getEchantillons(), 0, signal.nbElements(), informationLogique);
 
         // Émet l'information démodulée
         this.informationEmise = informationLogique;
@@ -97,73 +102,75 @@ public class Recepteur extends Transmetteur<Float, Boolean> {
     }
 
     /**
-     * Convertit un signal analogique en signal logique selon la modulation NRZ.
+     * Démodule un bloc d'échantillons reçu en flux.  Seuls les bits complets
+     * sont décidés ; les échantillons restants sont conservés pour le bloc suivant.
+     * @param bloc Le bloc d'échantillons reçu.
+     * @return Le bloc de bits décidés.
+     * @throws InformationNonConformeException si le type de modulation est inconnu.
      */
-    private void convertNRZ(Information<Boolean> informationLogique) throws InformationNonConformeException {
-        for (int i = 0; i < informationRecue.nbElements(); i += nbEchantillonsParBit) {
-            float moyenne = 0;
-            // Moyenne des échantillons pour déterminer s'il s'agit d'un '1' ou '0'
-            int limit = Math.min(nbEchantillonsParBit, informationRecue.nbElements() - i);
-            for (int j = 0; j < limit; j++) {
-                moyenne += informationRecue.iemeElement(i + j);
+    @Override
+    protected Information<Boolean> traiterBloc(Information<Float> bloc) throws InformationNonConformeException {
+        SampleInformation signal = SampleInformation.depuis(bloc);
+        float[] echantillons = signal.getEchantillons();
+        int nbEchantillons = signal.nbElements();
+        BitInformation informationLogique = new BitInformation((nbEchantillonsResteFlux + nbEchantillons) / nbEchantillonsParBit);
+        if (resteFlux == null) {
+            resteFlux = new float[nbEchantillonsParBit];
+        }
+
+        // Compléter le bit commencé dans le bloc précédent
+        int i = 0;
+        if (nbEchantillonsResteFlux > 0) {
+            int n = Math.min(nbEchantillonsParBit - nbEchantillonsResteFlux, nbEchantillons);
+            System.arraycopy(echantillons, 0, resteFlux, nbEchantillonsResteFlux, n);
+            nbEchantillonsResteFlux += n;
+            i = n;
+            if (nbEchantillonsResteFlux == nbEchantillonsParBit) {
+                demoduler(resteFlux, 0, nbEchantillonsParBit, informationLogique);
+                nbEchantillonsResteFlux = 0;
             }
-            moyenne /= limit;
-            informationLogique.add(moyenne >= (Amax + Amin) / 2);
         }
+
+        // Bits complets du bloc
+        int fin = i + (nbEchantillons - i) / nbEchantillonsParBit * nbEchantillonsParBit;
+        demoduler(echantillons, i, fin, informationLogique);
+
+        // Conserver le bit incomplet pour le bloc suivant
+        System.arraycopy(echantillons, fin, resteFlux, nbEchantillonsResteFlux, nbEchantillons - fin);
+        nbEchantillonsResteFlux += nbEchantillons - fin;
+        return informationLogique;
     }
 
     /**
-     * Convertit un signal analogique en signal logique selon la modulation NRZT.
+     * Termine un flux : décide le dernier bit incomplet éventuel.
+     * @return Le dernier bloc de bits, ou null s'il ne reste aucun échantillon.
+     * @throws InformationNonConformeException si le type de modulation est inconnu.
      */
-    private void convertNRZT(Information<Boolean> informationLogique) throws InformationNonConformeException {
-        /*
-        int nbEchPremierTiers = nbEchantillonsParBit / 3;
-        int nbEchDeuxiemeTiers = nbEchantillonsParBit / 3;
-        int nbEchTroisiemeTiers = nbEchantillonsParBit - nbEchPremierTiers - nbEchDeuxiemeTiers;
-
-        int totalEchParBit = nbEchPremierTiers + nbEchDeuxiemeTiers + nbEchTroisiemeTiers;
-
-        for (int i = 0; i < informationRecue.nbElements(); i += totalEchParBit) {
-            float moyenne = 0;
-            int start = i + nbEchPremierTiers;
-            int end = Math.min(start + nbEchDeuxiemeTiers, informationRecue.nbElements());
-
-            // Moyenne des échantillons du deuxième segment
-            int count = end - start;
-            for (int j = start; j < end; j++) {
-                moyenne += informationRecue.iemeElement(j);
-            }
-            moyenne /= count > 0 ? count : 1;
-            informationLogique.add(moyenne >= (Amax + Amin) / 2);
-        }*/
-        convertNRZ(informationLogique);
+    @Override
+    protected Information<Boolean> viderFlux() throws InformationNonConformeException {
+        BitInformation informationLogique = null;
+        if (nbEchantillonsResteFlux > 0) {
+            informationLogique = new BitInformation(1);
+            demoduler(resteFlux, 0, nbEchantillonsResteFlux, informationLogique);
+        }
+        nbEchantillonsResteFlux = 0;
+        return informationLogique;
     }
 
     /**
-     * Convertit un signal analogique en signal logique selon la modulation RZ.
-     * @param informationLogique L'information logique à émettre.
+     * Démodule les échantillons [debut, fin) par corrélation avec les formes d'onde émises.
+     * @param echantillons Le tableau d'échantillons reçus.
+     * @param debut Le rang du premier échantillon du premier bit.
+     * @param fin Le rang suivant le dernier échantillon.
+     * @param informationLogique L'information logique à compléter.
+     * @throws InformationNonConformeException si le type de modulation est inconnu.
      */
-    private void convertRZ(Information<Boolean> informationLogique) throws InformationNonConformeException {
-        Amin = 0.0f;
-        int nbEchPremierTiers = nbEchantillonsParBit / 3;
-        int nbEchDeuxiemeTiers = nbEchantillonsParBit / 3;
-        int nbEchTroisiemeTiers = nbEchantillonsParBit - nbEchPremierTiers - nbEchDeuxiemeTiers;
-
-        int totalEchParBit = nbEchPremierTiers + nbEchDeuxiemeTiers + nbEchTroisiemeTiers;
-
-        for (int i = 0; i < informationRecue.nbElements(); i += totalEchParBit) {
-            float moyenne = 0;
-            int start = i + nbEchPremierTiers;
-            int end = Math.min(start + nbEchDeuxiemeTiers, informationRecue.nbElements());
-
-            // Moyenne des échantillons du deuxième segment
-            int count = end - start;
-            for (int j = start; j < end; j++) {
-                moyenne += informationRecue.iemeElement(j);
-            }
-            moyenne /= count > 0 ? count : 1;
-            informationLogique.add(moyenne >= (Amax + Amin) / 2);
+    private void demoduler(float[] echantillons, int debut, int fin, BitInformation informationLogique)
+            throws InformationNonConformeException {
+        if (filtre == null) {
+            throw new InformationNonConformeException("Type de modulation inconnu : " + typeModulation);
         }
+        filtre.demoduler(echantillons, debut, fin, informationLogique);
     }
 
     /**
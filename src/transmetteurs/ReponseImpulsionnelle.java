@@ -0,0 +1,264 @@
+package transmetteurs;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * La classe ReponseImpulsionnelle modélise la réponse impulsionnelle (filtre RIF)
+ * d'un canal à trajets multiples : une suite de coefficients (retard, gain),
+ * le trajet direct étant le coefficient (0, 1).
+ * <p>
+ * La convolution est directe (une passe par coefficient sur un tableau de
+ * {@code float}) pour les réponses courtes, et par FFT avec recouvrement-addition
+ * (overlap-add) lorsque le nombre de coefficients rend la convolution directe
+ * plus coûteuse.
+ */
+public class ReponseImpulsionnelle {
+
+    /** En deçà de ce nombre de coefficients, la convolution est toujours directe. */
+    private static final int NB_COEFFICIENTS_MIN_FFT = 32;
+
+    /** Les retards des coefficients (en échantillons). */
+    private final int[] retards;
+
+    /** Les gains des coefficients. */
+    private final float[] gains;
+
+    /** Le plus grand retard. */
+    private final int retardMax;
+
+    /** La taille des FFT (puissance de 2 au moins égale à 2 * (retardMax + 1)). */
+    private final int tailleFFT;
+
+    /** Les parties réelles de la transformée de la réponse, calculée à la première convolution par FFT. */
+    private double[] reponseRe;
+
+    /** Les parties imaginaires de la transformée de la réponse. */
+    private double[] reponseIm;
+
+    /**
+     * Construit la réponse impulsionnelle d'un canal.
+     * @param retards Les retards des coefficients (en échantillons, positifs ou nuls).
+     * @param gains Les gains des coefficients.
+     * @throws IllegalArgumentException si les tableaux n'ont pas la même taille ou si un retard est négatif.
+     */
+    public ReponseImpulsionnelle(int[] retards, float[] gains) {
+        if (retards.length != gains.length) {
+            throw new IllegalArgumentException("Il faut autant de retards que de gains.");
+        }
+        int max = 0;
+        for (int retard : retards) {
+            if (retard < 0) {
+                throw new IllegalArgumentException("Le retard d'un coefficient doit être positif ou nul.");
+            }
+            max = Math.max(max, retard);
+        }
+        this.retards = retards.clone();
+        this.gains = gains.clone();
+        this.retardMax = max;
+        int taille = 64;
+        while (taille < 2 * (retardMax + 1)) {
+            taille <<= 1;
+        }
+        this.tailleFFT = taille;
+    }
+
+    /**
+     * Construit la réponse impulsionnelle d'un trajet direct et de trajets indirects.
+     * @param trajetsIndirects Liste des couples {dt, ar} des trajets indirects.
+     * @return La réponse impulsionnelle, le trajet direct en premier.
+     */
+    public static ReponseImpulsionnelle depuisTrajets(List<float[]> trajetsIndirects) {
+        int[] retards = new int[trajetsIndirects.size() + 1];
+        float[] gains = new float[trajetsIndirects.size() + 1];
+        gains[0] = 1.0f;
+        for (int k = 0; k < trajetsIndirects.size(); k++) {
+            retards[k + 1] = (int) trajetsIndirects.get(k)[0];
+            gains[k + 1] = trajetsIndirects.get(k)[1];
+        }
+        return new ReponseImpulsionnelle(retards, gains);
+    }
+
+    /**
+     * @return Le plus grand retard des coefficients (en échantillons).
+     */
+    public int getRetardMax() {
+        return retardMax;
+    }
+
+    /**
+     * @return Le nombre de coefficients.
+     */
+    public int getNbCoefficients() {
+        return retards.length;
+    }
+
+    /**
+     * Indique si la convolution passe par la FFT : c'est le cas lorsque le coût
+     * par échantillon du recouvrement-addition (deux FFT par bloc) est inférieur
+     * au nombre de coefficients.
+     * @return true si la convolution utilise la FFT.
+     */
+    public boolean utiliseFFT() {
+        if (retards.length < NB_COEFFICIENTS_MIN_FFT) {
+            return false;
+        }
+        int log2 = Integer.numberOfTrailingZeros(tailleFFT);
+        int tailleBloc = tailleFFT - retardMax;
+        double coutFFT = 4.0 * tailleFFT * log2 / tailleBloc;
+        return coutFFT < retards.length;
+    }
+
+    /**
+     * Calcule les échantillons [debut, debut + nombre) du signal filtré.
+     * Les échantillons précédant debut (passé du signal) sont utilisés par les
+     * coefficients retardés ; avant le début du tableau, le signal est supposé nul.
+     * @param signal Le signal original.
+     * @param debut Le rang du premier échantillon à calculer.
+     * @param nombre Le nombre d'échantillons à calculer.
+     * @return Les échantillons filtrés.
+     */
+    public float[] convoluer(float[] signal, int debut, int nombre) {
+        return utiliseFFT() ? convoluerFFT(signal, debut, nombre) : convoluerDirect(signal, debut, nombre);
+    }
+
+    /**
+     * Convolution directe : une passe sur la sortie par coefficient.
+     * @param signal Le signal original.
+     * @param debut Le rang du premier échantillon à calculer.
+     * @param nombre Le nombre d'échantillons à calculer.
+     * @return Les échantillons filtrés.
+     */
+    public float[] convoluerDirect(float[] signal, int debut, int nombre) {
+        float[] sortie = new float[nombre];
+        convoluerDirect(signal, debut, nombre, sortie);
+        return sortie;
+    }
+
+    /**
+     * Convolution directe dans un tableau existant, pour filtrer un signal bloc par bloc
+     * sans allocation : les échantillons précédant debut dans le signal (au plus
+     * {@link #getRetardMax()}) servent d'historique.
+     * @param signal Le signal original.
+     * @param debut Le rang du premier échantillon à calculer.
+     * @param nombre Le nombre d'échantillons à calculer.
+     * @param sortie Le tableau des échantillons filtrés, écrits à partir du rang 0.
+     */
+    public void convoluerDirect(float[] signal, int debut, int nombre, float[] sortie) {
+        Arrays.fill(sortie, 0, nombre, 0.0f);
+        for (int k = 0; k < retards.length; k++) {
+            int dt = retards[k];
+            float gain = gains[k];
+            for (int i = Math.max(0, dt - debut); i < nombre; i++) {
+                sortie[i] += gain * signal[debut + i - dt];
+            }
+        }
+    }
+
+    /**
+     * Convolution par FFT avec recouvrement-addition, en double précision.
+     * @param signal Le signal original.
+     * @param debut Le rang du premier échantillon à calculer.
+     * @param nombre Le nombre d'échantillons à calculer.
+     * @return Les échantillons filtrés.
+     */
+    public float[] convoluerFFT(float[] signal, int debut, int nombre) {
+        if (reponseRe == null) {
+            double[] re = new double[tailleFFT];
+            double[] im = new double[tailleFFT];
+            for (int k = 0; k < retards.length; k++) {
+                re[retards[k]] += gains[k];
+            }
+            fft(re, im, false);
+            reponseIm = im;
+            reponseRe = re;
+        }
+
+        int tailleBloc = tailleFFT - retardMax;
+        int premier = Math.max(0, debut - retardMax); // premier échantillon d'entrée utile
+        int fin = debut + nombre;
+        double[] somme = new double[fin - premier + retardMax];
+        double[] re = new double[tailleFFT];
+        double[] im = new double[tailleFFT];
+
+        for (int b = premier; b < fin; b += tailleBloc) {
+            int longueur = Math.min(tailleBloc, fin - b);
+            for (int j = 0; j < tailleFFT; j++) {
+                re[j] = j < longueur ? signal[b + j] : 0.0;
+                im[j] = 0.0;
+            }
+            fft(re, im, false);
+            for (int j = 0; j < tailleFFT; j++) {
+                double r = re[j] * reponseRe[j] - im[j] * reponseIm[j];
+                im[j] = re[j] * reponseIm[j] + im[j] * reponseRe[j];
+                re[j] = r;
+            }
+            fft(re, im, true);
+            int nbUtiles = Math.min(longueur + retardMax, somme.length - (b - premier));
+            for (int j = 0; j < nbUtiles; j++) {
+                somme[b - premier + j] += re[j];
+            }
+        }
+
+        float[] sortie = new float[nombre];
+        for (int i = 0; i < nombre; i++) {
+            sortie[i] = (float) somme[debut - premier + i];
+        }
+        return sortie;
+    }
+
+    /**
+     * FFT complexe en place (radix 2, itérative).  L'inverse est normalisée par 1/n.
+     * @param re Les parties réelles.
+     * @param im Les parties imaginaires.
+     * @param inverse true pour la transformée inverse.
+     */
+    private static void fft(double[] re, double[] im, boolean inverse) {
+        int n = re.length;
+        // Permutation par inversion des bits
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                double t = re[i];
+                re[i] = re[j];
+                re[j] = t;
+                t = im[i];
+                im[i] = im[j];
+                im[j] = t;
+            }
+        }
+        // Papillons
+        for (int longueur = 2; longueur <= n; longueur <<= 1) {
+            double angle = (inverse ? 2 : -2) * Math.PI / longueur;
+            double wRe = Math.cos(angle);
+            double wIm = Math.sin(angle);
+            for (int i = 0; i < n; i += longueur) {
+                double uRe = 1.0;
+                double uIm = 0.0;
+                for (int k = 0; k < longueur / 2; k++) {
+                    int a = i + k;
+                    int b = a + longueur / 2;
+                    double vRe = re[b] * uRe - im[b] * uIm;
+                    double vIm = re[b] * uIm + im[b] * uRe;
+                    re[b] = re[a] - vRe;
+                    im[b] = im[a] - vIm;
+                    re[a] += vRe;
+                    im[a] += vIm;
+                    double t = uRe * wRe - uIm * wIm;
+                    uIm = uRe * wIm + uIm * wRe;
+                    uRe = t;
+                }
+            }
+        }
+        if (inverse) {
+            for (int i = 0; i < n; i++) {
+                re[i] /= n;
+                im[i] /= n;
+            }
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package transmetteurs;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * La classe StatistiquesBruit résume au fil de l'eau les valeurs de bruit générées,
+ * en mémoire constante quel que soit le nombre de valeurs :
+ * moyenne et variance (algorithme de Welford), minimum et maximum,
+ * histogramme à classes fixes et quantiles estimés par l'algorithme P²
+ * (Jain et Chlamtac).
+ */
+public class StatistiquesBruit {
+
+    /** Les probabilités des quantiles estimés. */
+    private static final double[] PROBABILITES = {0.01, 0.05, 0.25, 0.5, 0.75, 0.95, 0.99};
+
+    /** Le nombre de valeurs reçues. */
+    private long nombre = 0;
+
+    /** La moyenne courante. */
+    private double moyenne = 0.0;
+
+    /** La somme des carrés des écarts à la moyenne courante. */
+    private double m2 = 0.0;
+
+    /** La plus petite valeur reçue. */
+    private double min = Double.POSITIVE_INFINITY;
+
+    /** La plus grande valeur reçue. */
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /** La borne inférieure de l'histogramme. */
+    private final double borneMin;
+
+    /** La borne supérieure de l'histogramme. */
+    private final double borneMax;
+
+    /** Les effectifs des classes de l'histogramme. */
+    private final long[] histogramme;
+
+    /** Le nombre de valeurs inférieures à borneMin. */
+    private long sousBorne = 0;
+
+    /** Le nombre de valeurs supérieures ou égales à borneMax. */
+    private long surBorne = 0;
+
+    /** Les estimateurs des quantiles, dans l'ordre de PROBABILITES. */
+    private final EstimateurP2[] quantiles;
+
+    /**
+     * Construit un collecteur de statistiques vide.
+     * @param borneMin La borne inférieure de l'histogramme.
+     * @param borneMax La borne supérieure de l'histogramme.
+     * @param nbClasses Le nombre de classes de l'histogramme.
+     */
+    public StatistiquesBruit(double borneMin, double borneMax, int nbClasses) {
+        if (!(borneMin < borneMax) || nbClasses < 1) {
+            throw new IllegalArgumentException("L'histogramme doit avoir des bornes croissantes et au moins une classe.");
+        }
+        this.borneMin = borneMin;
+        this.borneMax = borneMax;
+        this.histogramme = new long[nbClasses];
+        this.quantiles = new EstimateurP2[PROBABILITES.length];
+        for (int i = 0; i < PROBABILITES.length; i++) {
+            quantiles[i] = new EstimateurP2(PROBABILITES[i]);
+        }
+    }
+
+    /**
+     * Ajoute une valeur aux statistiques.
+     * @param valeur La valeur à ajouter.
+     */
+    public void ajouter(double valeur) {
+        nombre++;
+        double ecart = valeur - moyenne;
+        moyenne += ecart / nombre;
+        m2 += ecart * (valeur - moyenne);
+        min = Math.min(min, valeur);
+        max = Math.max(max, valeur);
+
+        if (valeur < borneMin) {
+            sousBorne++;
+        } else if (valeur >= borneMax) {
+            surBorne++;
+        } else {
+            int classe = (int) ((valeur - borneMin) / (borneMax - borneMin) * histogramme.length);
+            histogramme[Math.min(classe, histogramme.length - 1)]++;
+        }
+
+        for (EstimateurP2 quantile : quantiles) {
+            quantile.ajouter(valeur);
+        }
+    }
+
+    /**
+     * Ajoute une partie d'un tableau de valeurs aux statistiques.
+     * @param valeurs Le tableau de valeurs.
+     * @param debut Le rang de la première valeur à ajouter.
+     * @param nombre Le nombre de valeurs à ajouter.
+     */
+    public void ajouter(float[] valeurs, int debut, int nombre) {
+        for (int i = debut; i < debut + nombre; i++) {
+            ajouter(valeurs[i]);
+        }
+    }
+
+    /**
+     * @return Le nombre de valeurs reçues.
+     */
+    public long getNombre() {
+        return nombre;
+    }
+
+    /**
+     * @return La moyenne des valeurs reçues.
+     */
+    public double getMoyenne() {
+        return moyenne;
+    }
+
+    /**
+     * @return La variance (non biaisée) des valeurs reçues, 0 s'il y en a moins de deux.
+     */
+    public double getVariance() {
+        return nombre > 1 ? m2 / (nombre - 1) : 0.0;
+    }
+
+    /**
+     * @return L'écart-type des valeurs reçues.
+     */
+    public double getEcartType() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * @return La plus petite valeur reçue.
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * @return La plus grande valeur reçue.
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * @return Une copie des effectifs des classes de l'histogramme.
+     */
+    public long[] getHistogramme() {
+        return histogramme.clone();
+    }
+
+    /**
+     * @return Le nombre de valeurs hors de l'histogramme (inférieures ou supérieures).
+     */
+    public long getHorsHistogramme() {
+        return sousBorne + surBorne;
+    }
+
+    /**
+     * Renvoie l'estimation d'un quantile.
+     * @param probabilite La probabilité du quantile, parmi 0.01, 0.05, 0.25, 0.5, 0.75, 0.95 et 0.99.
+     * @return Le quantile estimé, NaN si aucune valeur n'a été reçue.
+     */
+    public double getQuantile(double probabilite) {
+        for (int i = 0; i < PROBABILITES.length; i++) {
+            if (PROBABILITES[i] == probabilite) {
+                return quantiles[i].valeur();
+            }
+        }
+        throw new IllegalArgumentException("Quantile non suivi : " + probabilite);
+    }
+
+    /**
+     * Écrit l'histogramme dans un fichier CSV (une ligne par classe).
+     * @param nomFichier Le nom du fichier CSV.
+     * @throws IOException Si une erreur survient lors de l'écriture du fichier.
+     */
+    public void exporterHistogrammeCSV(String nomFichier) throws IOException {
+        double largeur = (borneMax - borneMin) / histogramme.length;
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(nomFichier, false))) {
+            writer.write("Borne inf,Borne sup,Effectif");
+            writer.newLine();
+            for (int i = 0; i < histogramme.length; i++) {
+                writer.write(String.format(Locale.ROOT, "%s,%s,%d",
+                        borneMin + i * largeur, borneMin + (i + 1) * largeur, histogramme[i]));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Écrit le résumé des statistiques dans un fichier CSV (une ligne par statistique).
+     * @param nomFichier Le nom du fichier CSV.
+     * @throws IOException Si une erreur survient lors de l'écriture du fichier.
+     */
+    public void exporterResumeCSV(String nomFichier) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(nomFichier, false))) {
+            writer.write("Statistique,Valeur");
+            writer.newLine();
+            ecrireLigne(writer, "Nombre", nombre);
+            ecrireLigne(writer, "Moyenne", moyenne);
+            ecrireLigne(writer, "Variance", getVariance());
+            ecrireLigne(writer, "Ecart-type", getEcartType());
+            ecrireLigne(writer, "Min", min);
+            ecrireLigne(writer, "Max", max);
+            ecrireLigne(writer, "Hors histogramme", getHorsHistogramme());
+            for (int i = 0; i < PROBABILITES.length; i++) {
+                ecrireLigne(writer, "Quantile " + PROBABILITES[i], quantiles[i].valeur());
+            }
+        }
+    }
+
+    /**
+     * Écrit une ligne "nom,valeur" du résumé.
+     */
+    private static void ecrireLigne(BufferedWriter writer, String nom, Object valeur) throws IOException {
+        writer.write(nom + "," + valeur);
+        writer.newLine();
+    }
+
+    /**
+     * Estimateur d'un quantile en mémoire constante par l'algorithme P² :
+     * cinq marqueurs dont les hauteurs sont ajustées par interpolation parabolique.
+     */
+    private static class EstimateurP2 {
+
+        /** Les hauteurs des marqueurs. */
+        private final double[] hauteurs = new double[5];
+
+        /** Les positions des marqueurs (à partir de 0). */
+        private final long[] positions = {0, 1, 2, 3, 4};
+
+        /** Les positions souhaitées des marqueurs. */
+        private final double[] souhaitees;
+
+        /** Les incréments des positions souhaitées. */
+        private final double[] increments;
+
+        /** Le nombre de valeurs reçues. */
+        private long nombre = 0;
+
+        EstimateurP2(double p) {
+            this.souhaitees = new double[]{0, 2 * p, 4 * p, 2 + 2 * p, 4};
+            this.increments = new double[]{0, p / 2, p, (1 + p) / 2, 1};
+        }
+
+        void ajouter(double x) {
+            if (nombre < 5) {
+                hauteurs[(int) nombre++] = x;
+                if (nombre == 5) {
+                    Arrays.sort(hauteurs);
+                }
+                return;
+            }
+            nombre++;
+
+            // Cellule contenant x, en étendant les extrêmes si nécessaire
+            int k;
+            if (x < hauteurs[0]) {
+                hauteurs[0] = x;
+                k = 0;
+            } else if (x >= hauteurs[4]) {
+                hauteurs[4] = x;
+                k = 3;
+            } else {
+                k = 0;
+                while (x >= hauteurs[k + 1]) {
+                    k++;
+                }
+            }
+            for (int i = k + 1; i < 5; i++) {
+                positions[i]++;
+            }
+            for (int i = 0; i < 5; i++) {
+                souhaitees[i] += increments[i];
+            }
+
+            // Ajuster les marqueurs intermédiaires
+            for (int i = 1; i <= 3; i++) {
+                double d = souhaitees[i] - positions[i];
+                if ((d >= 1 && positions[i + 1] - positions[i] > 1) || (d <= -1 && positions[i - 1] - positions[i] < -1)) {
+                    int s = d > 0 ? 1 : -1;
+                    double hauteur = parabolique(i, s);
+                    if (hauteurs[i - 1] < hauteur && hauteur < hauteurs[i + 1]) {
+                        hauteurs[i] = hauteur;
+                    } else {
+                        hauteurs[i] += s * (hauteurs[i + s] - hauteurs[i]) / (positions[i + s] - positions[i]);
+                    }
+                    positions[i] += s;
+                }
+            }
+        }
+
+        private double parabolique(int i, int s) {
+            double nPrec = positions[i - 1];
+            double n = positions[i];
+            double nSuiv = positions[i + 1];
+            return hauteurs[i] + s / (nSuiv - nPrec)
+                    * ((n - nPrec + s) * (hauteurs[i + 1] - hauteurs[i]) / (nSuiv - n)
+                    + (nSuiv - n - s) * (hauteurs[i] - hauteurs[i - 1]) / (n - nPrec));
+        }
+
+        double valeur() {
+            if (nombre == 0) {
+                return Double.NaN;
+            }
+            if (nombre < 5) {
+                double[] tri = Arrays.copyOf(hauteurs, (int) nombre);
+                Arrays.sort(tri);
+                return tri[(int) Math.round((nombre - 1) * (souhaitees[2] / 4))];
+            }
+            return hauteurs[2];
+        }
+    }
+}
@@ -96,4 +96,64 @@ public abstract  class Transmetteur <R,E> implements  DestinationInterface <R>,
      * @throws InformationNonConformeException si l'Information comporte une anomalie
      */
     public  abstract void emettre() throws InformationNonConformeException;   
+   
+    /**
+     * reçoit un bloc d'une information émise en flux, le traite et émet
+     * le bloc produit vers les destinations connectées
+     * @param bloc  le bloc d'information reçu
+     * @throws InformationNonConformeException si le bloc comporte une anomalie
+     */
+    public void recevoirBloc(Information <R> bloc) throws InformationNonConformeException {
+        if (bloc == null || bloc.nbElements() == 0) {
+            throw new InformationNonConformeException("Le bloc reçu est nul ou vide.");
+        }
+        this.informationRecue = bloc;
+        emettreBloc(traiterBloc(bloc));
+    }
+   
+    /**
+     * termine un flux : émet ce qui restait en attente dans le transmetteur
+     * puis signale la fin du flux aux destinations connectées
+     * @throws InformationNonConformeException si l'Information comporte une anomalie
+     */
+    public void terminerFlux() throws InformationNonConformeException {
+        emettreBloc(viderFlux());
+        for (DestinationInterface <E> destinationConnectee : destinationsConnectees) {
+            destinationConnectee.terminerFlux();
+        }
+    }
+   
+    /**
+     * traite un bloc d'une information reçue en flux.  L'état nécessaire
+     * pour traiter le bloc suivant (bits voisins, lignes à retard...) est
+     * conservé par le transmetteur jusqu'à la fin du flux.
+     * @param bloc  le bloc d'information reçu
+     * @return le bloc à émettre (éventuellement vide)
+     * @throws InformationNonConformeException si le bloc comporte une anomalie
+     */
+    protected abstract Information <E> traiterBloc(Information <R> bloc) throws InformationNonConformeException;
+   
+    /**
+     * termine le traitement d'un flux et réinitialise l'état du transmetteur
+     * @return le dernier bloc à émettre, ou null s'il ne reste rien
+     * @throws InformationNonConformeException si l'Information comporte une anomalie
+     */
+    protected Information <E> viderFlux() throws InformationNonConformeException {
+        return null;
+    }
+   
+    /**
+     * émet un bloc vers les destinations connectées (rien n'est émis si le bloc est vide)
+     * @param bloc  le bloc à émettre
+     * @throws InformationNonConformeException si le bloc comporte une anomalie
+     */
+    protected void emettreBloc(Information <E> bloc) throws InformationNonConformeException {
+        if (bloc == null || bloc.nbElements() == 0) {
+            return;
+        }
+        this.informationEmise = bloc;
+        for (DestinationInterface <E> destinationConnectee : destinationsConnectees) {
+            destinationConnectee.recevoirBloc(bloc);
+        }
+    }
 }
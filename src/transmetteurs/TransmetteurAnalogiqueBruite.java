@@ -4,27 +4,44 @@ import destinations.*;
 import information.*;
 import sources.*;
 import visualisations.*;
-import java.util.Random;
-import java.util.ArrayList;
-import java.util.List;
-import java.io.FileWriter;
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.util.Collections;
+import java.util.Arrays;
 
 /**
  * Classe TransmetteurAnalogiqueBruité, hérite de la classe Transmetteur et ajoute
  * du bruit gaussien à l'information reçue avant de l'envoyer aux destinations connectées.
+ * <p>
+ * En mode échantillonnage d'importance ({@link #setEchantillonnageImportance}), le bruit
+ * de chaque bit est translaté vers le seuil de décision du récepteur, si bien que les
+ * erreurs deviennent fréquentes même à fort SNR ; chaque bit reçoit le rapport de
+ * vraisemblance de son bruit ({@link #getPoids()}), qui pondère ses erreurs dans
+ * l'estimation du TEB.
  */
 public class TransmetteurAnalogiqueBruite extends Transmetteur<Float, Float> {
 
     private Double snr; // Rapport signal/bruit (en dB)
-    private Random random; // Générateur de nombres aléatoires
+    private GenerateurBruit generateurBruit; // Générateur de bruit gaussien
     private int nbEchantillonsParBit; // Nombre d'échantillons par bit
-    /** Liste pour stocker les valeurs du bruit */
-    public List<Float> bruitsGeneres; // Liste pour stocker les valeurs du bruit
-    private static final boolean genererFichierBruit = false; // Variable pour contrôler la génération du fichier bruit
+    private StatistiquesBruit statistiquesBruit; // Statistiques du bruit généré (null si non collectées)
+    private static final boolean genererFichierBruit = false; // Variable pour contrôler la génération des fichiers bruit
     private static final boolean afficherInformations = false; // Variable pour contrôler l'affichage des informations
+    private double sommeCarresFlux = 0.0; // En flux : somme des carrés des échantillons reçus
+    private long nbEchantillonsFlux = 0; // En flux : nombre d'échantillons reçus
+    private double sommeCarresBruitFlux = 0.0; // En flux : somme des carrés du bruit ajouté
+    private static final int FENETRE_FLUX = 1 << 16; // En flux : nombre d'échantillons dont la puissance règle le bruit
+    private float[] attenteFlux; // En flux : échantillons reçus en attente du niveau de bruit
+    private int nbAttenteFlux = 0; // En flux : nombre d'échantillons en attente
+    private double sigmaFlux = -1.0; // En flux : écart-type du bruit (négatif tant que la fenêtre n'est pas remplie)
+    private MesureCanal mesure; // Mesures du dernier ajout de bruit (cumulées en flux)
+    private float[] tampon; // Tableau des échantillons bruités réutilisé d'un ajout de bruit à l'autre
+    private boolean reutilisationTampon = false; // Indique si le tableau des échantillons bruités est réutilisé
+    private FiltreAdapte filtreImportance; // Filtre adapté du récepteur en échantillonnage d'importance (null : désactivé)
+    private float[] referenceImportance; // Forme d'onde de référence du filtre, direction de la translation du bruit
+    private double energieImportance; // Énergie de la forme d'onde de référence
+    private double decalageImportance; // Fraction de la distance au seuil dont le bruit de chaque bit est translaté
+    private double[] poids; // Rapports de vraisemblance des bits du dernier ajout de bruit
+    private static final int TAILLE_BLOC_BRUIT = 4096; // Nombre de tirages de bruit générés à la fois
+    private float[] blocBruit; // Tirages de bruit en attente d'être ajoutés, réutilisés d'un bloc à l'autre
     /**
      * Constructeur de la classe TransmetteurAnalogiqueBruité.
      * @param snr Le rapport signal/bruit (en dB).
@@ -34,8 +51,128 @@ public class TransmetteurAnalogiqueBruite extends Transmetteur<Float, Float> {
         super();
         this.snr = snr;
         this.nbEchantillonsParBit = nbEchant;
-        this.random = new Random();
-        this.bruitsGeneres = new ArrayList<>(); // Initialiser la liste des bruits générés
+        this.generateurBruit = new GenerateurBruitZiggurat();
+        if (genererFichierBruit) {
+            this.statistiquesBruit = new StatistiquesBruit(-1.0, 1.0, 100);
+        }
+    }
+
+    /**
+     * Constructeur de la classe TransmetteurAnalogiqueBruité avec un bruit reproductible.
+     * @param snr Le rapport signal/bruit (en dB).
+     * @param nbEchant Le nombre d'échantillons par bit.
+     * @param seed La graine du générateur de bruit. Peut être {@code null}.
+     */
+    public TransmetteurAnalogiqueBruite(Double snr, int nbEchant, Integer seed) {
+        this(snr, nbEchant);
+        if (seed != null) {
+            this.generateurBruit = new GenerateurBruitZiggurat(seed);
+        }
+    }
+
+    /**
+     * Active (ou désactive avec null) la collecte des statistiques du bruit généré.
+     * @param statistiquesBruit Le collecteur à alimenter avec chaque valeur de bruit.
+     */
+    public void setStatistiquesBruit(StatistiquesBruit statistiquesBruit) {
+        this.statistiquesBruit = statistiquesBruit;
+    }
+
+    /**
+     * @return Les statistiques du bruit généré, ou null si elles ne sont pas collectées.
+     */
+    public StatistiquesBruit getStatistiquesBruit() {
+        return statistiquesBruit;
+    }
+
+    /**
+     * Remplace le générateur de bruit gaussien.
+     * @param generateurBruit Le nouveau générateur.
+     */
+    public void setGenerateurBruit(GenerateurBruit generateurBruit) {
+        this.generateurBruit = generateurBruit;
+    }
+
+    /**
+     * Modifie le rapport signal/bruit pour les prochains ajouts de bruit.
+     * @param snr Le rapport signal/bruit (en dB).
+     */
+    public void setSnr(Double snr) {
+        this.snr = snr;
+    }
+
+    /**
+     * @return Le rapport signal/bruit (en dB).
+     */
+    public Double getSnr() {
+        return snr;
+    }
+
+    /**
+     * Modifie le nombre d'échantillons par bit, utilisé par les mesures du canal.
+     * @param nbEchant Le nombre d'échantillons par bit.
+     */
+    public void setNbEchantillonsParBit(int nbEchant) {
+        this.nbEchantillonsParBit = nbEchant;
+    }
+
+    /**
+     * Réinitialise le générateur de bruit : le bruit ajouté ensuite est le même
+     * qu'avec un transmetteur construit avec ce germe (germe sur 64 bits, dérivé d'un germe maître par exemple).
+     * @param seed La graine du générateur de bruit. Peut être {@code null} (bruit non reproductible).
+     */
+    public void setGerme(Long seed) {
+        this.generateurBruit = seed != null ? new GenerateurBruitZiggurat(seed) : new GenerateurBruitZiggurat();
+    }
+
+    /**
+     * Active la réutilisation du tableau des échantillons bruités d'un ajout de bruit à l'autre.
+     * L'information émise précédemment est alors écrasée par la suivante : à réserver
+     * aux chaînes dont aucun composant ne conserve les informations reçues.
+     * @param reutilisationTampon true pour réutiliser le tableau des échantillons bruités.
+     */
+    public void setReutilisationTampon(boolean reutilisationTampon) {
+        this.reutilisationTampon = reutilisationTampon;
+        this.tampon = null;
+    }
+
+    /**
+     * Active (ou désactive avec un filtre null) l'échantillonnage d'importance.  Pour chaque
+     * bit complet, le bruit est translaté dans la direction de la forme d'onde de référence
+     * du filtre, vers son seuil de décision, d'une fraction de la distance entre le signal
+     * reçu sans bruit et le seuil : avec un décalage de 1, la corrélation moyenne du bit est
+     * placée sur le seuil et le bit est erroné une fois sur deux.  Le filtre doit être celui
+     * du récepteur (voir {@link FiltreAdapte#pour}).
+     * @param filtre Le filtre adapté du récepteur, ou null pour désactiver l'échantillonnage d'importance.
+     * @param decalage La fraction de la distance au seuil (positive, 1 pour atteindre le seuil).
+     */
+    public void setEchantillonnageImportance(FiltreAdapte filtre, double decalage) {
+        if (decalage < 0) {
+            throw new IllegalArgumentException("Le décalage doit être positif ou nul.");
+        }
+        this.filtreImportance = filtre;
+        this.decalageImportance = decalage;
+        this.poids = null;
+        if (filtre != null) {
+            referenceImportance = filtre.getReference();
+            energieImportance = 0.0;
+            for (float r : referenceImportance) {
+                energieImportance += r * r;
+            }
+        } else {
+            referenceImportance = null;
+        }
+    }
+
+    /**
+     * Retourne les rapports de vraisemblance du dernier ajout de bruit en échantillonnage
+     * d'importance : la probabilité du bruit d'un bit sans translation, divisée par sa probabilité
+     * avec translation.  Un bit erroné compte pour son poids dans l'estimation du TEB.
+     * @return Le poids de chaque bit (1 pour un bit incomplet), ou null si l'échantillonnage
+     * d'importance n'est pas activé.  Le tableau n'est pas copié.
+     */
+    public double[] getPoids() {
+        return poids;
     }
 
     /**
@@ -54,27 +191,15 @@ public class TransmetteurAnalogiqueBruite extends Transmetteur<Float, Float> {
         Information<Float> informationBruitee = ajouterBruit(information);
         this.informationEmise = informationBruitee;
 
-        // Calculer la puissance du signal bruité et du bruit après ajout
-        Double puissanceSignal = calculerPuissanceSignal(information); // Original signal power
-        Double puissanceBruit = calculerPuissanceBruit(information, informationBruitee); // Noise power
-        Double sigma = Math.sqrt(puissanceBruit); // Écart-type du bruit
-        Double rapportSNR = 10 * Math.log10(puissanceSignal / puissanceBruit); // Rapport S/N en dB
-        Double rapportEbN0 = rapportSNR + 10 * Math.log10(nbEchantillonsParBit / 2.0); // Eb/N0 en dB
-        
-        // Affichage des informations calculées après ajout du bruit
+        // Affichage des informations mesurées lors de l'ajout du bruit
         if (afficherInformations) {
-		    System.out.println("- Nombre de bits de la séquence : " + (information.nbElements() / nbEchantillonsParBit));
-		    System.out.println("- Nombre d'échantillons par bit : " + nbEchantillonsParBit);
-		    System.out.println("1-> Puissance MOYENNE de la séquence de bits : " + puissanceSignal);
-		    System.out.println("2-> Valeur de sigma (écart-type du bruit) : " + sigma);
-		    System.out.println("3-> Puissance moyenne du bruit : " + puissanceBruit);
-		    System.out.println("4-> Rapport signal-sur-bruit (S/N, en dB) : " + rapportSNR);
-		    System.out.println("5-> Rapport Eb/N0 (en dB) : " + rapportEbN0);
-        }
-        // Si la variable genererFichierBruit est vraie, générer le fichier bruit.txt
-        if (genererFichierBruit) {
+            System.out.println(mesure);
+        }
+        // Si la variable genererFichierBruit est vraie, générer les fichiers de statistiques du bruit
+        if (genererFichierBruit && statistiquesBruit != null) {
             try {
-                ajouterBruitsDansFichier("resultats/bruit.txt");
+                statistiquesBruit.exporterHistogrammeCSV("resultats/bruit_histogramme.csv");
+                statistiquesBruit.exporterResumeCSV("resultats/bruit_resume.csv");
             } catch (IOException e) {
                 e.printStackTrace();
             }
@@ -98,28 +223,223 @@ public class TransmetteurAnalogiqueBruite extends Transmetteur<Float, Float> {
 
     /**
      * Ajoute du bruit gaussien à chaque échantillon de l'information en fonction du SNR.
+     * Les puissances du signal et du bruit ajouté sont mesurées au passage (voir {@link #getMesure()}).
      * @param information L'information analogique originale.
      * @return L'information avec bruit ajouté.
      */
     public Information<Float> ajouterBruit(Information<Float> information) {
-        Information<Float> informationBruitee = new Information<>();
-        Double puissanceSignal = calculerPuissanceSignal(information);
-        Double puissanceBruit = puissanceSignal / Math.pow(10, snr / 10); // Puissance du bruit calculée à partir du SNR
-        Double sigma = Math.sqrt(puissanceBruit); // Écart-type du bruit
+        float[] signal = SampleInformation.depuis(information).getEchantillons();
+        int nbEchantillons = information.nbElements();
+        double puissanceSignal = sommeCarres(signal, nbEchantillons) / nbEchantillons;
+        double sigma = Math.sqrt(puissanceSignal / Math.pow(10, snr / 10)); // Écart-type du bruit
 
-        for (int i = 0; i < information.nbElements(); i++) {
-            float valeurOriginale = information.iemeElement(i);
-            // Générer un bruit gaussien
-            float bruit = (float) (random.nextGaussian() * sigma);
-            // Ajouter le bruit à l'échantillon original
-            float valeurBruitée = valeurOriginale + bruit;
-            informationBruitee.add(valeurBruitée);
+        float[] signalBruite;
+        if (!reutilisationTampon) {
+            signalBruite = new float[nbEchantillons];
+        } else {
+            if (tampon == null || tampon.length < nbEchantillons) {
+                tampon = new float[nbEchantillons];
+            }
+            signalBruite = tampon;
+        }
+        double sommeCarresBruit = filtreImportance != null
+                ? bruiterImportance(signal, signalBruite, nbEchantillons, sigma)
+                : bruiter(signal, signalBruite, nbEchantillons, sigma);
+        mesure = new MesureCanal(nbEchantillons, puissanceSignal, sommeCarresBruit / nbEchantillons, sigma,
+                snr, nbEchantillonsParBit);
+        return new SampleInformation(signalBruite, nbEchantillons);
+    }
 
-            // Enregistrer le bruit généré
-            bruitsGeneres.add(bruit);
+    /**
+     * Ajoute du bruit à un bloc reçu en flux.  L'écart-type du bruit est réglé sur la puissance
+     * des {@link #FENETRE_FLUX} premiers échantillons du flux (de tout le flux s'il est plus court) :
+     * les échantillons sont mis en attente jusqu'à ce que cette fenêtre soit remplie, puis bruités
+     * avec le même écart-type jusqu'à la fin du flux.  Le bruit de chaque échantillon ne dépend
+     * ainsi pas du découpage en blocs, et un flux plus court que la fenêtre est bruité comme le
+     * message complet.  Les mesures sont cumulées sur les échantillons bruités depuis le début du flux.
+     * @param bloc Le bloc d'échantillons reçu.
+     * @return Le bloc bruité, éventuellement précédé des échantillons en attente, ou null tant que la fenêtre n'est pas remplie.
+     */
+    @Override
+    protected Information<Float> traiterBloc(Information<Float> bloc) {
+        if (filtreImportance != null) {
+            throw new IllegalStateException("L'échantillonnage d'importance n'est pas disponible en flux.");
+        }
+        float[] signal = SampleInformation.depuis(bloc).getEchantillons();
+        int nbEchantillons = bloc.nbElements();
+        if (sigmaFlux >= 0) {
+            return bruiterFlux(signal, nbEchantillons);
         }
-    
-        return informationBruitee;
+        if (attenteFlux == null) {
+            attenteFlux = new float[Math.max(FENETRE_FLUX, nbEchantillons)];
+        } else if (attenteFlux.length < nbAttenteFlux + nbEchantillons) {
+            attenteFlux = Arrays.copyOf(attenteFlux, nbAttenteFlux + nbEchantillons);
+        }
+        System.arraycopy(signal, 0, attenteFlux, nbAttenteFlux, nbEchantillons);
+        nbAttenteFlux += nbEchantillons;
+        if (nbAttenteFlux < FENETRE_FLUX) {
+            return null;
+        }
+        return libererAttente(FENETRE_FLUX);
+    }
+
+    /**
+     * Termine un flux : bruite les échantillons encore en attente (flux plus court que la fenêtre)
+     * et réinitialise les puissances cumulées (la dernière mesure reste disponible).
+     * @return Les échantillons en attente bruités, ou null s'il n'y en a pas.
+     */
+    @Override
+    protected Information<Float> viderFlux() {
+        Information<Float> reste = nbAttenteFlux > 0 ? libererAttente(nbAttenteFlux) : null;
+        sommeCarresFlux = 0.0;
+        sommeCarresBruitFlux = 0.0;
+        nbEchantillonsFlux = 0;
+        attenteFlux = null;
+        nbAttenteFlux = 0;
+        sigmaFlux = -1.0;
+        return reste;
+    }
+
+    /**
+     * Fixe l'écart-type du bruit du flux sur la puissance des premiers échantillons en attente,
+     * puis bruite tous les échantillons en attente.
+     * @param nbMesures Le nombre d'échantillons dont la puissance règle le bruit.
+     * @return Les échantillons en attente bruités.
+     */
+    private Information<Float> libererAttente(int nbMesures) {
+        sigmaFlux = Math.sqrt(sommeCarres(attenteFlux, nbMesures) / nbMesures / Math.pow(10, snr / 10));
+        Information<Float> bruite = bruiterFlux(attenteFlux, nbAttenteFlux);
+        attenteFlux = null;
+        nbAttenteFlux = 0;
+        return bruite;
+    }
+
+    /**
+     * Bruite des échantillons du flux avec l'écart-type fixé, en cumulant les mesures.
+     * @param signal Les échantillons.
+     * @param nbEchantillons Le nombre d'échantillons.
+     * @return Les échantillons bruités.
+     */
+    private Information<Float> bruiterFlux(float[] signal, int nbEchantillons) {
+        sommeCarresFlux += sommeCarres(signal, nbEchantillons);
+        nbEchantillonsFlux += nbEchantillons;
+        float[] signalBruite = new float[nbEchantillons];
+        sommeCarresBruitFlux += bruiter(signal, signalBruite, nbEchantillons, sigmaFlux);
+        mesure = new MesureCanal(nbEchantillonsFlux, sommeCarresFlux / nbEchantillonsFlux,
+                sommeCarresBruitFlux / nbEchantillonsFlux, sigmaFlux, snr, nbEchantillonsParBit);
+        return new SampleInformation(signalBruite, nbEchantillons);
+    }
+
+    /**
+     * @return Les mesures du dernier ajout de bruit (cumulées depuis le début du flux en mode flux),
+     * ou null si aucun bruit n'a encore été ajouté.
+     */
+    public MesureCanal getMesure() {
+        return mesure;
+    }
+
+    /**
+     * Ajoute à chaque échantillon un bruit gaussien d'écart-type donné, en mesurant la
+     * puissance du bruit ajouté.  Le bruit est généré par blocs de {@link #TAILLE_BLOC_BRUIT}
+     * tirages, ajoutés et mesurés aussitôt : le tableau du bruit complet n'est jamais
+     * parcouru, la seule autre passe étant la mesure de la puissance du signal.
+     * @param signal Les échantillons originaux.
+     * @param signalBruite Le tableau à remplir avec les échantillons bruités.
+     * @param nbEchantillons Le nombre d'échantillons.
+     * @param sigma L'écart-type du bruit.
+     * @return La somme des carrés du bruit ajouté.
+     */
+    private double bruiter(float[] signal, float[] signalBruite, int nbEchantillons, double sigma) {
+        float[] bloc = blocBruit(TAILLE_BLOC_BRUIT);
+        double sommeCarresBruit = 0.0;
+        for (int debut = 0; debut < nbEchantillons; debut += bloc.length) {
+            int nombre = Math.min(bloc.length, nbEchantillons - debut);
+            generateurBruit.remplir(bloc, 0, nombre, sigma);
+            if (statistiquesBruit != null) {
+                statistiquesBruit.ajouter(bloc, 0, nombre);
+            }
+            for (int j = 0; j < nombre; j++) {
+                float bruit = bloc[j];
+                sommeCarresBruit += bruit * bruit;
+                signalBruite[debut + j] = signal[debut + j] + bruit;
+            }
+        }
+        return sommeCarresBruit;
+    }
+
+    /**
+     * Ajoute le bruit en échantillonnage d'importance : le bruit gaussien de chaque bit complet
+     * est translaté de a fois la forme d'onde de référence, a étant de signe opposé au côté du
+     * seuil où se trouve le signal, et le poids du bit vaut exp(-(a² E + 2 a &lt;z, reference&gt;) / 2 sigma²)
+     * pour le bruit z tiré avant translation (E : énergie de la référence).  Comme dans
+     * {@link #bruiter}, le bruit est généré par blocs d'un nombre entier de bits.
+     * @param signal Les échantillons originaux.
+     * @param signalBruite Le tableau à remplir avec les échantillons bruités.
+     * @param nbEchantillons Le nombre d'échantillons.
+     * @param sigma L'écart-type du bruit.
+     * @return La somme des carrés du bruit tiré, avant translation.
+     */
+    private double bruiterImportance(float[] signal, float[] signalBruite, int nbEchantillons, double sigma) {
+        int n = referenceImportance.length;
+        int tailleBloc = Math.max(1, TAILLE_BLOC_BRUIT / n) * n; // Un nombre entier de bits
+        float[] bloc = blocBruit(tailleBloc);
+        double deuxVariances = 2 * sigma * sigma;
+        double seuil = filtreImportance.getSeuil();
+        poids = new double[(nbEchantillons + n - 1) / n];
+        double sommeCarresBruit = 0.0;
+        for (int debutBloc = 0; debutBloc < nbEchantillons; debutBloc += tailleBloc) {
+            int finBloc = Math.min(debutBloc + tailleBloc, nbEchantillons);
+            generateurBruit.remplir(bloc, 0, finBloc - debutBloc, sigma);
+            if (statistiquesBruit != null) {
+                statistiquesBruit.ajouter(bloc, 0, finBloc - debutBloc);
+            }
+            for (int debut = debutBloc; debut < finBloc; debut += n) {
+                int b = debut / n;
+                int fin = Math.min(debut + n, finBloc);
+                double a = 0.0;
+                if (fin - debut == n && deuxVariances > 0 && energieImportance > 0) {
+                    // Translation vers le seuil et poids du bit
+                    double ecart = filtreImportance.correler(signal, debut) - seuil;
+                    a = -Math.signum(ecart) * decalageImportance * Math.abs(ecart) / energieImportance;
+                    double correlationBruit = filtreImportance.correler(bloc, debut - debutBloc);
+                    poids[b] = Math.exp(-(a * a * energieImportance + 2 * a * correlationBruit) / deuxVariances);
+                } else {
+                    poids[b] = 1.0;
+                }
+                for (int i = debut; i < fin; i++) {
+                    float bruit = bloc[i - debutBloc];
+                    sommeCarresBruit += bruit * bruit;
+                    signalBruite[i] = signal[i] + bruit + (float) (a * referenceImportance[i - debut]);
+                }
+            }
+        }
+        return sommeCarresBruit;
+    }
+
+    /**
+     * @param taille Le nombre de tirages du bloc.
+     * @return Le tableau des tirages de bruit, de la taille demandée, réutilisé d'un appel à l'autre.
+     */
+    private float[] blocBruit(int taille) {
+        if (blocBruit == null || blocBruit.length != taille) {
+            blocBruit = new float[taille];
+        }
+        return blocBruit;
+    }
+
+    /**
+     * Calcule la somme des carrés des premiers éléments d'un tableau.
+     * @param valeurs Le tableau.
+     * @param nombre Le nombre d'éléments.
+     * @return La somme des carrés.
+     */
+    private static double sommeCarres(float[] valeurs, int nombre) {
+        double somme = 0.0;
+        for (int i = 0; i < nombre; i++) {
+            float valeur = valeurs[i];
+            somme += valeur * valeur;
+        }
+        return somme;
     }
 
     /**
@@ -128,12 +448,8 @@ public class TransmetteurAnalogiqueBruite extends Transmetteur<Float, Float> {
      * @return La puissance moyenne du signal.
      */
     public Double calculerPuissanceSignal(Information<Float> information) {
-        Double puissanceTotale = 0.0;
-        for (int i = 0; i < information.nbElements(); i++) {
-            float valeur = information.iemeElement(i);
-            puissanceTotale += valeur * valeur;
-        }
-        return puissanceTotale / information.nbElements();
+        float[] signal = SampleInformation.depuis(information).getEchantillons();
+        return sommeCarres(signal, information.nbElements()) / information.nbElements();
     }
 
     /**
@@ -143,35 +459,17 @@ public class TransmetteurAnalogiqueBruite extends Transmetteur<Float, Float> {
      * @return La puissance moyenne du bruit.
      */
     public Double calculerPuissanceBruit(Information<Float> signalOriginal, Information<Float> signalBruite) {
-        Double puissanceTotaleBruit = 0.0;
-        for (int i = 0; i < signalOriginal.nbElements(); i++) {
-            float bruit = signalBruite.iemeElement(i) - signalOriginal.iemeElement(i);
+        float[] original = SampleInformation.depuis(signalOriginal).getEchantillons();
+        float[] bruite = SampleInformation.depuis(signalBruite).getEchantillons();
+        int nbEchantillons = signalOriginal.nbElements();
+        double puissanceTotaleBruit = 0.0;
+        for (int i = 0; i < nbEchantillons; i++) {
+            float bruit = bruite[i] - original[i];
             puissanceTotaleBruit += bruit * bruit;
         }
-        return puissanceTotaleBruit / signalOriginal.nbElements();
+        return puissanceTotaleBruit / nbEchantillons;
     }
 
-    /**
-     * Ajoute les valeurs de bruit triées dans un fichier texte.
-     * @param nomFichier Le nom du fichier texte dans lequel écrire les données.
-     * @throws IOException Si une erreur survient lors de l'écriture du fichier.
-     */
-    private void ajouterBruitsDansFichier(String nomFichier) throws IOException {
-        // Trier la liste des bruits générés
-        Collections.sort(bruitsGeneres);
-        // Afficher les valeurs triées du bruit
-        //System.out.println("Valeurs triées du bruit : " + bruitsGeneres);
-        // Ouvrir le fichier, le créer s'il n'existe pas
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(nomFichier, false))) {
-            // Écrire chaque valeur de bruit triée dans une nouvelle ligne
-            for (Float bruit : bruitsGeneres) {
-                writer.write(bruit.toString());
-                writer.newLine();
-            }
-        }
-        System.out.println("Les valeurs triées du bruit ont été ajoutées au fichier " + nomFichier);
-    }
-    
     /**
      * Méthode principale pour tester le transmetteur analogique bruité.
      * @param args Les arguments de la ligne de commande.
@@ -10,11 +10,13 @@ import java.util.ArrayList;
 
 /**
  * Classe TransmetteurAnalogiqueMultiTrajet, modélise un canal analogique à trajets multiples.
- * Prend en compte plusieurs trajets indirects avec délais et atténuations définis.
+ * Prend en compte un nombre quelconque de trajets indirects avec délais et atténuations définis,
+ * appliqués sous forme de réponse impulsionnelle (voir {@link ReponseImpulsionnelle}).
  */
 public class TransmetteurAnalogiqueMultiTrajet extends Transmetteur<Float, Float> {
 
-    private List<float[]> trajetsIndirects; // Liste des couples {dt, ar} pour les trajets indirects
+    private ReponseImpulsionnelle reponseImpulsionnelle; // Trajet direct et trajets indirects {dt, ar}
+    private float[] ligneARetard; // En flux : les derniers échantillons du bloc précédent
 
     /**
      * Constructeur prenant en compte plusieurs trajets indirects.
@@ -25,14 +27,10 @@ public class TransmetteurAnalogiqueMultiTrajet extends Transmetteur<Float, Float
      */
     public TransmetteurAnalogiqueMultiTrajet(List<float[]> trajetsIndirects) {
         super();
-        this.trajetsIndirects = new ArrayList<>();
         //Vérification du nombre de trajets indirects
         /*if (trajetsIndirects.size() == 0) {
             throw new IllegalArgumentException("Le nombre de trajets indirects doit être supérieur à 0.");
         }*/
-        if (trajetsIndirects.size() > 5) {
-            throw new IllegalArgumentException("Le nombre de trajets indirects ne doit pas dépasser 5.");
-        }
 
         // Vérification des paramètres
         for (float[] trajet : trajetsIndirects) {
@@ -42,8 +40,8 @@ public class TransmetteurAnalogiqueMultiTrajet extends Transmetteur<Float, Float
             if (trajet[1] < 0.0f || trajet[1] > 1.0f) { // Atténuation entre 0 et 1
                 throw new IllegalArgumentException("Le coefficient d'atténuation (ar) doit être compris entre 0.0 et 1.0.");
             }
-            this.trajetsIndirects.add(trajet);
         }
+        this.reponseImpulsionnelle = ReponseImpulsionnelle.depuisTrajets(trajetsIndirects);
     }
 
     /**
@@ -52,23 +50,60 @@ public class TransmetteurAnalogiqueMultiTrajet extends Transmetteur<Float, Float
      * @return Le signal modifié avec les effets des trajets multiples.
      */
     public Information<Float> ajouterTrajetsMultiples(Information<Float> signalAnalogique) {
-        Information<Float> signalModifie = new Information<>();
-
-        for (int i = 0; i < signalAnalogique.nbElements(); i++) {
-            float echantillonFinal = signalAnalogique.iemeElement(i);
-
-            // Appliquer chaque trajet indirect (retard et atténuation)
-            for (float[] trajet : trajetsIndirects) {
-                int dt = (int) trajet[0];  // Retard en nombre d'échantillons
-                float ar = trajet[1];  // Atténuation exacte
-                if (i >= dt) {
-                    echantillonFinal += ar * signalAnalogique.iemeElement(i - dt);
-                }
-            }
+        float[] signal = SampleInformation.depuis(signalAnalogique).getEchantillons();
+        return new SampleInformation(appliquerTrajets(signal, 0, signalAnalogique.nbElements()), signalAnalogique.nbElements());
+    }
 
-            signalModifie.add(echantillonFinal);
+    /**
+     * Applique les trajets multiples à un bloc reçu en flux.  Les derniers
+     * échantillons de chaque bloc sont conservés (ligne à retard) pour les
+     * trajets indirects du bloc suivant.
+     * @param bloc Le bloc d'échantillons reçu.
+     * @return Le bloc modifié.
+     */
+    @Override
+    protected Information<Float> traiterBloc(Information<Float> bloc) {
+        int retardMax = getRetardMax();
+        if (ligneARetard == null) {
+            ligneARetard = new float[retardMax];
         }
-        return signalModifie;
+        int nbEchantillons = bloc.nbElements();
+        float[] signal = new float[retardMax + nbEchantillons];
+        System.arraycopy(ligneARetard, 0, signal, 0, retardMax);
+        System.arraycopy(SampleInformation.depuis(bloc).getEchantillons(), 0, signal, retardMax, nbEchantillons);
+        System.arraycopy(signal, nbEchantillons, ligneARetard, 0, retardMax);
+        return new SampleInformation(appliquerTrajets(signal, retardMax, nbEchantillons), nbEchantillons);
+    }
+
+    /**
+     * Termine un flux et vide la ligne à retard.
+     * @return null, la sortie est de même longueur que l'entrée.
+     */
+    @Override
+    protected Information<Float> viderFlux() {
+        ligneARetard = null;
+        return null;
+    }
+
+    /**
+     * Calcule le plus grand retard des trajets indirects.
+     * @return le retard maximal en nombre d'échantillons.
+     */
+    private int getRetardMax() {
+        return reponseImpulsionnelle.getRetardMax();
+    }
+
+    /**
+     * Calcule les échantillons [debut, debut + nombre) du signal modifié.
+     * Les échantillons précédant debut (passé du signal) sont utilisés par les
+     * trajets indirects ; avant le début du tableau, le signal est supposé nul.
+     * @param signal Le signal original.
+     * @param debut Le rang du premier échantillon à calculer.
+     * @param nombre Le nombre d'échantillons à calculer.
+     * @return Les échantillons modifiés.
+     */
+    private float[] appliquerTrajets(float[] signal, int debut, int nombre) {
+        return reponseImpulsionnelle.convoluer(signal, debut, nombre);
     }
 
     /**
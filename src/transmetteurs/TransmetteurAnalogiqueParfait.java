@@ -47,4 +47,14 @@ public class TransmetteurAnalogiqueParfait extends  Transmetteur<Float, Float> {
         }
         //System.out.println("Transmetteur Analogique Emis: " + this.informationEmise);
     }
+
+    /**
+     * Traite un bloc reçu en flux : le bloc est transmis sans modification
+     * @param bloc Le bloc reçu
+     * @return le bloc reçu
+     */
+    @Override
+    protected Information<Float> traiterBloc(Information<Float> bloc) {
+        return bloc;
+    }
 }
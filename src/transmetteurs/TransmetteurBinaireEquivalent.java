@@ -0,0 +1,218 @@
+package transmetteurs;
+
+import destinations.DestinationInterface;
+import information.BitInformation;
+import information.Information;
+import information.InformationNonConformeException;
+
+/**
+ * La classe TransmetteurBinaireEquivalent remplace la suite {@link Emetteur},
+ * {@link TransmetteurAnalogiqueBruite}, {@link Recepteur} lorsque la modulation
+ * est NRZ ou RZ et que le canal n'a pas de trajets multiples : les formes d'onde
+ * ne dépendant que du bit courant, la corrélation du filtre adapté d'un bit bruité
+ * vaut &lt;s_b, s1 - s0&gt; plus un bruit gaussien d'écart-type sigma ||s1 - s0||.
+ * <p>
+ * Chaque bit est donc décidé avec un seul tirage gaussien, au lieu d'un par
+ * échantillon, sans construire les échantillons.  L'écart-type du bruit est réglé
+ * comme par le transmetteur bruité, à partir de la puissance du signal qui aurait
+ * été émis (cumulée en flux) : les bits reçus suivent la même loi que ceux de la
+ * chaîne échantillonnée, mais ne sont pas les mêmes pour un germe donné.
+ */
+public class TransmetteurBinaireEquivalent extends Transmetteur<Boolean, Boolean> {
+
+    /** Le nombre de tirages gaussiens générés à la fois. */
+    private static final int TAILLE_TAMPON = 4096;
+
+    /** Le rapport signal/bruit (en dB). */
+    private double snr;
+
+    /** Le nombre d'échantillons par bit. */
+    private final int nbEchantillonsParBit;
+
+    /** Le générateur de bruit gaussien. */
+    private GenerateurBruit generateurBruit = new GenerateurBruitZiggurat();
+
+    /** La corrélation sans bruit d'un bit 0 et d'un bit 1 avec la forme d'onde de référence. */
+    private final double[] correlations = new double[2];
+
+    /** L'énergie de la forme d'onde d'un bit 0 et d'un bit 1. */
+    private final double[] energies = new double[2];
+
+    /** Le seuil de décision du filtre adapté. */
+    private final double seuil;
+
+    /** La norme de la forme d'onde de référence. */
+    private final double normeReference;
+
+    /** Les tirages gaussiens, réutilisés d'un bloc de bits à l'autre. */
+    private final float[] tampon = new float[TAILLE_TAMPON];
+
+    /** En flux : le nombre de bits reçus. */
+    private long nbBitsFlux = 0;
+
+    /** En flux : le nombre de bits à 1 reçus. */
+    private long nbUnsFlux = 0;
+
+    /**
+     * Construit le transmetteur équivalent à une chaîne NRZ ou RZ sans trajets multiples.
+     * @param Amin L'amplitude pour un bit '0'.
+     * @param Amax L'amplitude pour un bit '1'.
+     * @param nbEchantillonsParBit Le nombre d'échantillons par bit.
+     * @param typeModulation Le type de modulation ("NRZ" ou "RZ").
+     * @param snr Le rapport signal/bruit (en dB).
+     * @throws IllegalArgumentException si la modulation n'est ni NRZ ni RZ.
+     */
+    public TransmetteurBinaireEquivalent(float Amin, float Amax, int nbEchantillonsParBit, String typeModulation, double snr) {
+        super();
+        if (!"NRZ".equals(typeModulation) && !"RZ".equals(typeModulation)) {
+            throw new IllegalArgumentException("Seules les modulations NRZ et RZ ont un modèle binaire équivalent : " + typeModulation);
+        }
+        this.snr = snr;
+        this.nbEchantillonsParBit = nbEchantillonsParBit;
+        Emetteur emetteur = new Emetteur(Amin, Amax, nbEchantillonsParBit, typeModulation);
+        FiltreAdapte filtre = FiltreAdapte.pour(Amin, Amax, nbEchantillonsParBit, typeModulation);
+        float[] reference = filtre.getReference();
+        double sommeReference = 0.0;
+        for (float r : reference) {
+            sommeReference += r * r;
+        }
+        this.normeReference = Math.sqrt(sommeReference);
+        this.seuil = filtre.getSeuil();
+        for (int bit = 0; bit <= 1; bit++) {
+            float[] modele = emetteur.getModele(Emetteur.AUCUN_BIT, bit, Emetteur.AUCUN_BIT);
+            correlations[bit] = filtre.correler(modele, 0);
+            for (float echantillon : modele) {
+                energies[bit] += echantillon * echantillon;
+            }
+        }
+    }
+
+    /**
+     * Modifie le rapport signal/bruit pour les prochaines transmissions.
+     * @param snr Le rapport signal/bruit (en dB).
+     */
+    public void setSnr(double snr) {
+        this.snr = snr;
+    }
+
+    /**
+     * Réinitialise le générateur de bruit (voir {@link TransmetteurAnalogiqueBruite#setGerme}).
+     * @param seed La graine du générateur de bruit. Peut être {@code null} (bruit non reproductible).
+     */
+    public void setGerme(Long seed) {
+        this.generateurBruit = seed != null ? new GenerateurBruitZiggurat(seed) : new GenerateurBruitZiggurat();
+    }
+
+    /**
+     * Reçoit un message, décide ses bits bruités et les émet.
+     * @param information Les bits à transmettre.
+     * @throws InformationNonConformeException si l'information est nulle ou vide.
+     */
+    @Override
+    public void recevoir(Information<Boolean> information) throws InformationNonConformeException {
+        if (information == null || information.nbElements() == 0) {
+            throw new InformationNonConformeException("L'information reçue est nulle ou invalide.");
+        }
+        this.informationRecue = information;
+        BitInformation bits = BitInformation.depuis(information);
+        long nbUns = compterUns(bits);
+        this.informationEmise = transmettre(bits, ecartType(nbUns, bits.nbElements()));
+        this.emettre();
+    }
+
+    @Override
+    public void emettre() throws InformationNonConformeException {
+        if (this.informationEmise == null) {
+            throw new InformationNonConformeException("L'information à émettre est nulle.");
+        }
+        for (DestinationInterface<Boolean> destinationConnectee : destinationsConnectees) {
+            destinationConnectee.recevoir(informationEmise);
+        }
+    }
+
+    /**
+     * Transmet un bloc reçu en flux, le bruit étant réglé sur la puissance cumulée depuis le début du flux.
+     * @param bloc Le bloc de bits reçu.
+     * @return Le bloc de bits décidés.
+     */
+    @Override
+    protected Information<Boolean> traiterBloc(Information<Boolean> bloc) {
+        BitInformation bits = BitInformation.depuis(bloc);
+        nbUnsFlux += compterUns(bits);
+        nbBitsFlux += bits.nbElements();
+        return transmettre(bits, ecartType(nbUnsFlux, nbBitsFlux));
+    }
+
+    /**
+     * Termine un flux et réinitialise la puissance cumulée.
+     * @return null, aucun bit n'est conservé entre deux blocs.
+     */
+    @Override
+    protected Information<Boolean> viderFlux() {
+        nbBitsFlux = 0;
+        nbUnsFlux = 0;
+        return null;
+    }
+
+    /**
+     * Calcule l'écart-type du bruit de la corrélation d'un bit.
+     * @param nbUns Le nombre de bits à 1 émis.
+     * @param nbBits Le nombre de bits émis.
+     * @return sigma ||s1 - s0||, sigma étant réglé sur la puissance du signal qui aurait été émis.
+     */
+    private double ecartType(long nbUns, long nbBits) {
+        double puissanceSignal = (nbUns * energies[1] + (nbBits - nbUns) * energies[0]) / ((double) nbBits * nbEchantillonsParBit);
+        return Math.sqrt(puissanceSignal / Math.pow(10, snr / 10)) * normeReference;
+    }
+
+    /**
+     * Décide les bits bruités : un bit b est décidé à 1 si
+     * correlations[b] + ecartType * g &gt;= seuil, g étant un tirage gaussien centré réduit.
+     * @param bits Les bits émis.
+     * @param ecartType L'écart-type du bruit de la corrélation.
+     * @return Les bits décidés.
+     */
+    private BitInformation transmettre(BitInformation bits, double ecartType) {
+        // Tirage minimal de chaque valeur de bit pour qu'il soit décidé à 1
+        float[] minimums = new float[2];
+        for (int bit = 0; bit <= 1; bit++) {
+            double ecart = seuil - correlations[bit];
+            minimums[bit] = ecartType > 0 ? (float) (ecart / ecartType)
+                    : ecart > 0 ? Float.POSITIVE_INFINITY : Float.NEGATIVE_INFINITY;
+        }
+        long[] mots = bits.getMots();
+        int nbBits = bits.nbElements();
+        long[] decides = new long[Math.max(1, BitInformation.nbMots(nbBits))];
+        for (int debut = 0; debut < nbBits; debut += TAILLE_TAMPON) {
+            int nombre = Math.min(TAILLE_TAMPON, nbBits - debut);
+            generateurBruit.remplir(tampon, 0, nombre, 1.0);
+            for (int j = 0; j < nombre; j++) {
+                int i = debut + j;
+                int bit = (int) (mots[i >>> 6] >>> i) & 1;
+                if (tampon[j] >= minimums[bit]) {
+                    decides[i >>> 6] |= 1L << i;
+                }
+            }
+        }
+        return new BitInformation(decides, nbBits);
+    }
+
+    /**
+     * @param bits Des bits.
+     * @return Le nombre de bits à 1.
+     */
+    private static long compterUns(BitInformation bits) {
+        long[] mots = bits.getMots();
+        int nbBits = bits.nbElements();
+        long nbUns = 0;
+        for (int m = 0; m < BitInformation.nbMots(nbBits); m++) {
+            long mot = mots[m];
+            int reste = nbBits - (m << 6);
+            if (reste < 64) {
+                mot &= (1L << reste) - 1;
+            }
+            nbUns += Long.bitCount(mot);
+        }
+        return nbUns;
+    }
+}
@@ -0,0 +1,250 @@
+package transmetteurs;
+
+import destinations.DestinationInterface;
+import information.BitInformation;
+import information.Information;
+import information.InformationNonConformeException;
+
+import java.util.Arrays;
+
+/**
+ * La classe TransmetteurFusionne regroupe la suite {@link Emetteur},
+ * {@link TransmetteurAnalogiqueMultiTrajet}, {@link TransmetteurAnalogiqueBruite},
+ * {@link Recepteur} en une seule boucle sur des blocs de {@link #NB_BITS_BLOC} bits :
+ * chaque bloc est modulé, filtré par les trajets multiples, bruité et démodulé dans
+ * des tableaux de quelques dizaines de ko, réutilisés d'un bloc à l'autre, sans
+ * jamais construire le signal complet.  Les derniers échantillons émis de chaque
+ * bloc servent d'historique aux trajets multiples du bloc suivant.
+ * <p>
+ * L'écart-type du bruit dépend de la puissance du signal complet : une première
+ * passe sur les blocs la mesure, une seconde bruite et démodule.  Les calculs étant
+ * faits dans le même ordre que ceux des transmetteurs séparés, les bits reçus sont
+ * les mêmes pour un germe donné, sauf lorsque le multi-trajet séparé convolue par
+ * FFT (réponses de plus de 32 coefficients), la convolution étant ici directe.
+ * <p>
+ * {@link #correler} n'ajoute pas le bruit : il conserve la sortie du filtre adapté
+ * pour le signal et pour un bruit de variance unité, dont on déduit les bits reçus à
+ * chaque SNR d'une grille ({@link CorrelationsCanal}).
+ */
+public class TransmetteurFusionne extends Transmetteur<Boolean, Boolean> {
+
+    /** Le nombre de bits traités à la fois. */
+    static final int NB_BITS_BLOC = 128;
+
+    /** L'émetteur, dont seules les formes d'onde sont utilisées. */
+    private final Emetteur emetteur;
+
+    /** La réponse impulsionnelle du canal (null sans trajets multiples). */
+    private final ReponseImpulsionnelle reponseImpulsionnelle;
+
+    /** Le filtre adapté du récepteur. */
+    private final FiltreAdapte filtre;
+
+    /** Le nombre d'échantillons par bit. */
+    private final int nbEchantillonsParBit;
+
+    /** Le retard maximal des trajets multiples (0 sans trajets multiples). */
+    private final int retardMax;
+
+    /** Le rapport signal/bruit (en dB, null sans bruit). */
+    private Double snr;
+
+    /** Le générateur de bruit gaussien. */
+    private GenerateurBruit generateurBruit = new GenerateurBruitZiggurat();
+
+    /** Les échantillons émis du bloc, précédés des retardMax derniers du bloc précédent. */
+    private final float[] emis;
+
+    /** Les échantillons du bloc après les trajets multiples (null sans trajets multiples). */
+    private final float[] canal;
+
+    /** Les échantillons bruités du bloc. */
+    private final float[] bruite;
+
+    /**
+     * Construit la chaîne fusionnée.
+     * @param Amin L'amplitude pour un bit '0'.
+     * @param Amax L'amplitude pour un bit '1'.
+     * @param nbEchantillonsParBit Le nombre d'échantillons par bit.
+     * @param typeModulation Le type de modulation (NRZ, NRZT, RZ).
+     * @param reponseImpulsionnelle La réponse impulsionnelle du canal, ou null sans trajets multiples.
+     * @param snr Le rapport signal/bruit (en dB), ou null sans bruit.
+     * @throws IllegalArgumentException si le type de modulation est inconnu.
+     */
+    public TransmetteurFusionne(float Amin, float Amax, int nbEchantillonsParBit, String typeModulation,
+                                ReponseImpulsionnelle reponseImpulsionnelle, Double snr) {
+        super();
+        this.emetteur = new Emetteur(Amin, Amax, nbEchantillonsParBit, typeModulation);
+        this.filtre = FiltreAdapte.pour(Amin, Amax, nbEchantillonsParBit, typeModulation);
+        if (filtre == null) {
+            throw new IllegalArgumentException("Type de modulation inconnu : " + typeModulation);
+        }
+        this.nbEchantillonsParBit = nbEchantillonsParBit;
+        this.reponseImpulsionnelle = reponseImpulsionnelle;
+        this.retardMax = reponseImpulsionnelle != null ? reponseImpulsionnelle.getRetardMax() : 0;
+        this.snr = snr;
+        int tailleBloc = NB_BITS_BLOC * nbEchantillonsParBit;
+        this.emis = new float[retardMax + tailleBloc];
+        this.canal = reponseImpulsionnelle != null ? new float[tailleBloc] : null;
+        this.bruite = new float[tailleBloc];
+    }
+
+    /**
+     * Modifie le rapport signal/bruit pour les prochaines transmissions.
+     * @param snr Le rapport signal/bruit (en dB), ou null sans bruit.
+     */
+    public void setSnr(Double snr) {
+        this.snr = snr;
+    }
+
+    /**
+     * Réinitialise le générateur de bruit (voir {@link TransmetteurAnalogiqueBruite#setGerme}).
+     * @param seed La graine du générateur de bruit. Peut être {@code null} (bruit non reproductible).
+     */
+    public void setGerme(Long seed) {
+        this.generateurBruit = seed != null ? new GenerateurBruitZiggurat(seed) : new GenerateurBruitZiggurat();
+    }
+
+    /**
+     * Reçoit un message, le transmet bloc par bloc et émet les bits décidés.
+     * @param information Les bits à transmettre.
+     * @throws InformationNonConformeException si l'information est nulle ou vide.
+     */
+    @Override
+    public void recevoir(Information<Boolean> information) throws InformationNonConformeException {
+        if (information == null || information.nbElements() == 0) {
+            throw new InformationNonConformeException("L'information reçue est nulle ou invalide.");
+        }
+        this.informationRecue = information;
+        this.informationEmise = transmettre(BitInformation.depuis(information));
+        this.emettre();
+    }
+
+    @Override
+    public void emettre() throws InformationNonConformeException {
+        if (this.informationEmise == null) {
+            throw new InformationNonConformeException("L'information à émettre est nulle.");
+        }
+        for (DestinationInterface<Boolean> destinationConnectee : destinationsConnectees) {
+            destinationConnectee.recevoir(informationEmise);
+        }
+    }
+
+    /**
+     * Le bruit étant réglé sur la puissance du message complet, la chaîne fusionnée ne traite pas de flux.
+     * @throws IllegalStateException toujours.
+     */
+    @Override
+    protected Information<Boolean> traiterBloc(Information<Boolean> bloc) {
+        throw new IllegalStateException("La chaîne fusionnée n'est pas disponible en flux.");
+    }
+
+    /**
+     * Module un message et le filtre par les trajets multiples, puis calcule bit à bit la
+     * sortie du filtre adapté pour ce signal et pour une réalisation de bruit de variance
+     * unité tirée du générateur de bruit (le SNR est ignoré).
+     * @param bits Les bits à transmettre.
+     * @return Les sorties du filtre adapté, qui donnent les bits reçus à n'importe quel SNR.
+     * @throws InformationNonConformeException si le message est vide ou si la modulation échoue.
+     */
+    public CorrelationsCanal correler(BitInformation bits) throws InformationNonConformeException {
+        int nbBits = bits.nbElements();
+        if (nbBits == 0) {
+            throw new InformationNonConformeException("L'information reçue est nulle ou invalide.");
+        }
+        long[] mots = bits.getMots();
+        float[] correlationsSignal = new float[nbBits];
+        float[] correlationsBruit = new float[nbBits];
+        double sommeCarres = 0.0;
+        for (int debut = 0; debut < nbBits; debut += NB_BITS_BLOC) {
+            int nombre = (Math.min(debut + NB_BITS_BLOC, nbBits) - debut) * nbEchantillonsParBit;
+            float[] signal = former(mots, debut, nbBits);
+            for (int i = 0; i < nombre; i++) {
+                float valeur = signal[i];
+                sommeCarres += valeur * valeur;
+            }
+            generateurBruit.remplir(bruite, 0, nombre, 1.0);
+            for (int i = 0, b = debut; i < nombre; i += nbEchantillonsParBit, b++) {
+                correlationsSignal[b] = filtre.correler(signal, i);
+                correlationsBruit[b] = filtre.correler(bruite, i);
+            }
+        }
+        double puissanceSignal = sommeCarres / ((long) nbBits * nbEchantillonsParBit);
+        return new CorrelationsCanal(correlationsSignal, correlationsBruit, nbBits, puissanceSignal, filtre.getSeuil());
+    }
+
+    /**
+     * Transmet les bits d'un message, bloc par bloc.
+     * @param bits Les bits émis.
+     * @return Les bits décidés par le récepteur.
+     * @throws InformationNonConformeException si la modulation échoue.
+     */
+    private BitInformation transmettre(BitInformation bits) throws InformationNonConformeException {
+        long[] mots = bits.getMots();
+        int nbBits = bits.nbElements();
+
+        // Première passe : puissance du signal entrant dans le bruit, sommée dans le même
+        // ordre que par le transmetteur bruité
+        double sigma = 0.0;
+        if (snr != null) {
+            double sommeCarres = 0.0;
+            for (int debut = 0; debut < nbBits; debut += NB_BITS_BLOC) {
+                int nombre = (Math.min(debut + NB_BITS_BLOC, nbBits) - debut) * nbEchantillonsParBit;
+                float[] signal = former(mots, debut, nbBits);
+                for (int i = 0; i < nombre; i++) {
+                    float valeur = signal[i];
+                    sommeCarres += valeur * valeur;
+                }
+            }
+            int nbEchantillons = nbBits * nbEchantillonsParBit;
+            sigma = Math.sqrt(sommeCarres / nbEchantillons / Math.pow(10, snr / 10));
+        }
+
+        // Seconde passe : bruit et démodulation
+        BitInformation decides = new BitInformation(nbBits);
+        for (int debut = 0; debut < nbBits; debut += NB_BITS_BLOC) {
+            int nombre = (Math.min(debut + NB_BITS_BLOC, nbBits) - debut) * nbEchantillonsParBit;
+            float[] signal = former(mots, debut, nbBits);
+            if (snr != null) {
+                generateurBruit.remplir(bruite, 0, nombre, sigma);
+                for (int i = 0; i < nombre; i++) {
+                    bruite[i] = signal[i] + bruite[i];
+                }
+                signal = bruite;
+            }
+            filtre.demoduler(signal, 0, nombre, decides);
+        }
+        return decides;
+    }
+
+    /**
+     * Module un bloc de bits et lui applique les trajets multiples.  Les blocs d'un
+     * message doivent être formés dans l'ordre, l'historique des trajets multiples
+     * étant repris du bloc précédent.
+     * @param mots Les mots de 64 bits du message.
+     * @param debut Le rang du premier bit du bloc.
+     * @param nbBits Le nombre de bits du message.
+     * @return Le tableau dont les premiers échantillons sont ceux du bloc.
+     * @throws InformationNonConformeException si la modulation échoue.
+     */
+    private float[] former(long[] mots, int debut, int nbBits) throws InformationNonConformeException {
+        int fin = Math.min(debut + NB_BITS_BLOC, nbBits);
+        if (debut == 0) {
+            Arrays.fill(emis, 0, retardMax, 0.0f);
+        } else {
+            System.arraycopy(emis, NB_BITS_BLOC * nbEchantillonsParBit, emis, 0, retardMax);
+        }
+        int bitAvant = debut > 0 ? bit(mots, debut - 1) : Emetteur.AUCUN_BIT;
+        int bitApres = fin < nbBits ? bit(mots, fin) : Emetteur.AUCUN_BIT;
+        emetteur.moduler(mots, debut, fin, bitAvant, bitApres, emis, retardMax);
+        if (reponseImpulsionnelle == null) {
+            return emis;
+        }
+        reponseImpulsionnelle.convoluerDirect(emis, retardMax, (fin - debut) * nbEchantillonsParBit, canal);
+        return canal;
+    }
+
+    private static int bit(long[] mots, int i) {
+        return (int) (mots[i >>> 6] >>> i) & 1;
+    }
+}
@@ -48,5 +48,14 @@ public class TransmetteurParfait extends Transmetteur <Boolean, Boolean> {
         
     }
     
+    /**
+     * traite un bloc reçu en flux : le bloc est transmis sans modification
+     * @param bloc : bloc reçu
+     * @return le bloc reçu
+     */
+    @Override
+    protected Information<Boolean> traiterBloc(Information<Boolean> bloc) {
+        return bloc;
+    }
         
 }
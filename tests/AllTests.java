@@ -12,17 +12,39 @@ import simulateur.*;
 @Suite.SuiteClasses({
     SourceAleatoireTest.class,
     SourceFixeTest.class,
+    GenerateurPRBSTest.class,
+    SourcePRBSTest.class,
     TransmetteurParfaitTest.class,
     DestinationFinaleTest.class,
+    DestinationPRBSTest.class,
     InformationTest.class,
+    BitInformationTest.class,
+    SampleInformationTest.class,
     SimulateurTest.class,
+    SimulateurTEBAdaptatifTest.class,
+    ResultatTEBTest.class,
+    ResultatTEBPondereTest.class,
+    EvaluateurTEBTest.class,
+    ChaineTransmissionTest.class,
+    OrdonnanceurBalayageTest.class,
+    JournalBalayageTest.class,
+    FusionBalayageTest.class,
+    GermesTest.class,
+    InstrumentationTest.class,
     EmetteurTest.class,
     TransmetteurAnalogiqueParfaitTest.class,
     RecepteurTest.class,
+    FiltreAdapteTest.class,
     TransmetteurAnalogiqueBruiteTest.class,
+    TransmetteurBinaireEquivalentTest.class,
+    TransmetteurFusionneTest.class,
+    GenerateurBruitZigguratTest.class,
+    StatistiquesBruitTest.class,
     TransmetteurAnalogiqueMultiTrajetTest.class,
+    ReponseImpulsionnelleTest.class,
     CodageEmissionTest.class,
-    DecodageReceptionTest.class
+    DecodageReceptionTest.class,
+    CodecRepetitionTest.class
     //,SimulateurTEBTest.class
 })
 public class AllTests {
@@ -0,0 +1,48 @@
+package destinations;
+
+import information.BitInformation;
+import information.InformationNonConformeException;
+import org.junit.Test;
+import sources.SourcePRBS;
+
+import static org.junit.Assert.*;
+
+public class DestinationPRBSTest {
+
+    /**
+     * Test that an error-free stream gives no error, and that bursts spanning blocks are counted once.
+     */
+    @Test
+    public void testErreursEtRafales() throws Exception {
+        BitInformation message = (BitInformation) new SourcePRBS(15, 1000, 11).getInformationGeneree();
+        DestinationPRBS destination = new DestinationPRBS(15, 11);
+        destination.recevoir(message);
+        assertEquals(1000, destination.getNbBits());
+        assertEquals(0, destination.getNbErreurs());
+
+        // Erreurs : une rafale de 5 bits à cheval sur deux blocs, puis deux erreurs isolées
+        BitInformation recu = message.extraire(0, 1000);
+        for (int i : new int[]{98, 99, 100, 101, 102, 500, 700}) {
+            recu.setBit(i, !recu.getBit(i));
+        }
+        destination.reinitialiser();
+        for (int debut = 0; debut < 1000; debut += 100) {
+            destination.recevoirBloc(recu.extraire(debut, 100));
+        }
+        destination.terminerFlux();
+        assertNull(destination.getInformationRecue());
+        assertEquals(1000, destination.getNbBits());
+        assertEquals(7, destination.getNbErreurs());
+        assertEquals(3, destination.getNbRafales());
+        assertEquals(5, destination.getLongueurMaxRafale());
+        assertEquals(0.007, destination.getTeb(), 1e-12);
+    }
+
+    /**
+     * Test that an empty message is rejected.
+     */
+    @Test(expected = InformationNonConformeException.class)
+    public void testMessageVide() throws Exception {
+        new DestinationPRBS(7).recevoir(new BitInformation());
+    }
+}
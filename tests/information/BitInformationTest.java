@@ -0,0 +1,98 @@
+package information;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class BitInformationTest {
+
+    private BitInformation bits;
+
+    @Before
+    public void setup() {
+        bits = new BitInformation(new boolean[]{true, false, true});
+    }
+
+    /**
+     * Test the boolean array constructor.
+     */
+    @Test
+    public void testArrayConstructor() {
+        assertEquals(3, bits.nbElements());
+        assertEquals(true, bits.iemeElement(0));
+        assertEquals(false, bits.iemeElement(1));
+        assertEquals(true, bits.iemeElement(2));
+    }
+
+    /**
+     * Test adding bits beyond the initial capacity.
+     */
+    @Test
+    public void testAddBeyondCapacity() {
+        BitInformation info = new BitInformation(1);
+        for (int i = 0; i < 200; i++) {
+            info.add(i % 3 == 0);
+        }
+        assertEquals(200, info.nbElements());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i % 3 == 0, info.getBit(i));
+        }
+    }
+
+    /**
+     * Test setting a bit.
+     */
+    @Test
+    public void testSetElement() {
+        bits.setIemeElement(1, true);
+        bits.setBit(2, false);
+        assertTrue(bits.getBit(1));
+        assertFalse(bits.getBit(2));
+    }
+
+    /**
+     * Test that reading past the end throws like the list-based Information.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfBounds() {
+        bits.iemeElement(3);
+    }
+
+    /**
+     * Test equality with a list-based Information holding the same bits.
+     */
+    @Test
+    public void testEqualsInformation() {
+        Information<Boolean> information = new Information<>(new Boolean[]{true, false, true});
+        assertTrue(bits.equals(information));
+        assertTrue(information.equals(bits));
+        assertTrue(bits.equals(BitInformation.depuis(information)));
+        assertEquals(information.hashCode(), bits.hashCode());
+        assertEquals(bits, new BitInformation(new boolean[]{true, false, true}));
+
+        information.setIemeElement(2, false);
+        assertFalse(bits.equals(information));
+    }
+
+    /**
+     * Test the toString() method.
+     */
+    @Test
+    public void testToString() {
+        assertEquals(" true false true", bits.toString());
+    }
+
+    /**
+     * Test iteration over the bits.
+     */
+    @Test
+    public void testIteration() {
+        Boolean[] expectedValues = {true, false, true};
+        int index = 0;
+        for (Boolean value : bits) {
+            assertEquals(expectedValues[index], value);
+            index++;
+        }
+        assertEquals(3, index);
+    }
+}
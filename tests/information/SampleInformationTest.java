@@ -0,0 +1,76 @@
+package information;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SampleInformationTest {
+
+    private SampleInformation echantillons;
+
+    @Before
+    public void setup() {
+        echantillons = new SampleInformation(new float[]{0.5f, -1.0f, 2.0f}, 3);
+    }
+
+    /**
+     * Test the array constructor.
+     */
+    @Test
+    public void testArrayConstructor() {
+        assertEquals(3, echantillons.nbElements());
+        assertEquals(0.5f, echantillons.iemeElement(0), 0.0f);
+        assertEquals(-1.0f, echantillons.iemeElement(1), 0.0f);
+        assertEquals(2.0f, echantillons.getEchantillon(2), 0.0f);
+    }
+
+    /**
+     * Test adding samples beyond the initial capacity.
+     */
+    @Test
+    public void testAddBeyondCapacity() {
+        SampleInformation info = new SampleInformation(1);
+        for (int i = 0; i < 100; i++) {
+            info.add((float) i);
+        }
+        assertEquals(100, info.nbElements());
+        assertEquals(99.0f, info.getEchantillon(99), 0.0f);
+    }
+
+    /**
+     * Test that reading past the end throws like the list-based Information.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfBounds() {
+        echantillons.getEchantillon(3);
+    }
+
+    /**
+     * Test equality with a list-based Information holding the same samples.
+     */
+    @Test
+    public void testEqualsInformation() {
+        Information<Float> information = new Information<>(new Float[]{0.5f, -1.0f, 2.0f});
+        assertTrue(echantillons.equals(information));
+        assertTrue(information.equals(echantillons));
+        assertTrue(echantillons.equals(SampleInformation.depuis(information)));
+        assertEquals(information.hashCode(), echantillons.hashCode());
+
+        information.setIemeElement(0, 0.0f);
+        assertFalse(echantillons.equals(information));
+    }
+
+    /**
+     * Test iteration over the samples.
+     */
+    @Test
+    public void testIteration() {
+        float[] expectedValues = {0.5f, -1.0f, 2.0f};
+        int index = 0;
+        for (Float value : echantillons) {
+            assertEquals(expectedValues[index], value, 0.0f);
+            index++;
+        }
+        assertEquals(3, index);
+    }
+}
@@ -0,0 +1,240 @@
+package simulateur;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ChaineTransmissionTest {
+
+    private static ResultatTEB simulateur(String... args) throws Exception {
+        Simulateur simulateur = new Simulateur(args);
+        simulateur.execute();
+        return simulateur.calculResultatTEB(false);
+    }
+
+    private static void assertMemeResultat(ResultatTEB attendu, ResultatTEB resultat) {
+        assertEquals(attendu.getNbBits(), resultat.getNbBits());
+        assertEquals(attendu.getNbErreurs(), resultat.getNbErreurs());
+        assertEquals(attendu.getNbRafales(), resultat.getNbRafales());
+    }
+
+    /**
+     * Test that a chain reset between runs gives the same results as a Simulateur built for each run.
+     */
+    @Test
+    public void testCommeSimulateur() throws Exception {
+        ChaineTransmission chaine = new ChaineTransmission.Constructeur()
+                .modulation("NRZT")
+                .amplitudes(-1.0f, 1.0f)
+                .tailleMessage(2000)
+                .snrParBit(0.0)
+                .construire();
+        for (int germe = 1; germe <= 3; germe++) {
+            for (double snrpb : new double[]{-2.0, 0.5, 4.0}) {
+                chaine.setGerme((long) germe);
+                chaine.setSnrParBit(snrpb);
+                ResultatTEB attendu = simulateur("-mess", "2000", "-form", "NRZT", "-seed", String.valueOf(germe),
+                        "-nbEch", "30", "-ampl", "-1.0", "1.0", "-snrpb", String.valueOf(snrpb));
+                assertMemeResultat(attendu, chaine.executer());
+            }
+        }
+    }
+
+    /**
+     * Test the chain with the codeur and multiple paths, while changing the number of samples per bit.
+     */
+    @Test
+    public void testCodeurMultiTrajetEtNbEch() throws Exception {
+        ChaineTransmission chaine = new ChaineTransmission.Constructeur()
+                .modulation("NRZ")
+                .tailleMessage(500)
+                .germe(7L)
+                .snrParBit(3.0)
+                .codeur(true)
+                .trajetIndirect(20, 0.4f)
+                .construire();
+        for (int nbEch : new int[]{10, 40, 10}) {
+            chaine.setNbEchantillonsParBit(nbEch);
+            ResultatTEB attendu = simulateur("-mess", "500", "-form", "NRZ", "-seed", "7", "-nbEch", String.valueOf(nbEch),
+                    "-snrpb", "3.0", "-codeur", "-ti", "20", "0.4");
+            ResultatTEB resultat = chaine.executer();
+            assertEquals(500, resultat.getNbBits());
+            assertMemeResultat(attendu, resultat);
+        }
+    }
+
+    /**
+     * Test that a chain without noise transmits without errors and refuses an SNR.
+     */
+    @Test
+    public void testSansBruit() throws Exception {
+        ChaineTransmission chaine = new ChaineTransmission.Constructeur().modulation("RZ").tailleMessage(300).construire();
+        ResultatTEB resultat = chaine.executer();
+        assertEquals(300, resultat.getNbBits());
+        assertEquals(0, resultat.getNbErreurs());
+        assertNull(chaine.getSnrParBit());
+        assertThrows(IllegalStateException.class, () -> chaine.setSnrParBit(5.0));
+    }
+
+    /**
+     * Test that the bit-level model is used only where it applies and gives the analytic BER,
+     * with and without the codeur, while changing the number of samples per bit.
+     */
+    @Test
+    public void testModeleBinaire() throws Exception {
+        assertFalse(new ChaineTransmission.Constructeur().modulation("NRZ").snrParBit(2.0).construire().utiliseModeleBinaire());
+        assertFalse(new ChaineTransmission.Constructeur().modulation("NRZT").snrParBit(2.0).modeleBinaire(true)
+                .construire().utiliseModeleBinaire());
+        assertFalse(new ChaineTransmission.Constructeur().modulation("NRZ").snrParBit(2.0).modeleBinaire(true)
+                .trajetIndirect(5, 0.3f).construire().utiliseModeleBinaire());
+        assertFalse(new ChaineTransmission.Constructeur().modulation("RZ").modeleBinaire(true)
+                .construire().utiliseModeleBinaire());
+
+        int nbBits = 100000;
+        for (boolean codeur : new boolean[]{false, true}) {
+            ChaineTransmission chaine = new ChaineTransmission.Constructeur()
+                    .modulation("RZ")
+                    .amplitudes(-1.0f, 1.0f)
+                    .tailleMessage(nbBits)
+                    .germe(5L)
+                    .snrParBit(2.0)
+                    .codeur(codeur)
+                    .modeleBinaire(true)
+                    .construire();
+            assertTrue(chaine.utiliseModeleBinaire());
+            for (int nbEch : new int[]{30, 8}) {
+                chaine.setNbEchantillonsParBit(nbEch);
+                double teb = new EvaluateurTEB("RZ", -1.0f, 1.0f, nbEch, codeur).teb(2.0);
+                ResultatTEB resultat = chaine.executer();
+                assertEquals(nbBits, resultat.getNbBits());
+                assertEquals(teb, resultat.getTeb(), 5 * Math.sqrt(teb * (1 - teb) / nbBits));
+            }
+        }
+    }
+
+    /**
+     * Test that a fused chain gives the same results as the separate stages, with multipath,
+     * the codeur and a changing number of samples per bit.
+     */
+    @Test
+    public void testFusion() throws Exception {
+        for (String type : new String[]{"NRZT", "RZ"}) {
+            ChaineTransmission.Constructeur constructeur = new ChaineTransmission.Constructeur()
+                    .modulation(type)
+                    .tailleMessage(3000)
+                    .snrParBit(2.0)
+                    .codeur(true)
+                    .trajetIndirect(20, 0.4f)
+                    .trajetIndirect(75, 0.2f);
+            ChaineTransmission separee = constructeur.construire();
+            ChaineTransmission fusionnee = constructeur.fusion(true).construire();
+            assertFalse(separee.utiliseFusion());
+            assertTrue(fusionnee.utiliseFusion());
+            for (int nbEch : new int[]{30, 7}) {
+                separee.setNbEchantillonsParBit(nbEch);
+                fusionnee.setNbEchantillonsParBit(nbEch);
+                for (long germe = 1; germe <= 2; germe++) {
+                    separee.setGerme(germe);
+                    fusionnee.setGerme(germe);
+                    assertMemeResultat(separee.executer(), fusionnee.executer());
+                }
+            }
+        }
+        assertFalse(new ChaineTransmission.Constructeur().modulation("NRZ").snrParBit(2.0).modeleBinaire(true)
+                .fusion(true).construire().utiliseFusion());
+        assertEquals(0, new ChaineTransmission.Constructeur().modulation("NRZT").tailleMessage(500).fusion(true)
+                .construire().executer().getNbErreurs());
+    }
+
+    /**
+     * Test that an SNR grid gives each point the analytic BER from a single message and noise
+     * realization, with multipath and the codeur, and that it is reproducible.
+     */
+    @Test
+    public void testExecuterGrille() throws Exception {
+        double[] snrs = {0.0, 2.0, 4.0};
+        for (boolean codeur : new boolean[]{false, true}) {
+            ChaineTransmission chaine = new ChaineTransmission.Constructeur()
+                    .modulation("NRZT")
+                    .amplitudes(-1.0f, 1.0f)
+                    .tailleMessage(100000)
+                    .germe(3L)
+                    .snrParBit(0.0)
+                    .codeur(codeur)
+                    .trajetIndirect(10, 0.3f)
+                    .construire();
+            ResultatTEB[] resultats = chaine.executerGrille(snrs);
+            List<float[]> trajets = new ArrayList<>();
+            trajets.add(new float[]{10, 0.3f});
+            EvaluateurTEB evaluateur = new EvaluateurTEB("NRZT", -1.0f, 1.0f, 30, trajets, codeur);
+            for (int i = 0; i < snrs.length; i++) {
+                double teb = evaluateur.teb(snrs[i]);
+                assertEquals(100000, resultats[i].getNbBits());
+                assertEquals(teb, resultats[i].getTeb(), 5 * Math.sqrt(teb * (1 - teb) / 100000));
+            }
+            ResultatTEB[] memes = chaine.executerGrille(snrs);
+            for (int i = 0; i < snrs.length; i++) {
+                assertMemeResultat(resultats[i], memes[i]);
+            }
+        }
+        assertThrows(IllegalStateException.class,
+                () -> new ChaineTransmission.Constructeur().construire().executerGrille(snrs));
+        assertThrows(IllegalStateException.class, () -> new ChaineTransmission.Constructeur().snrParBit(5.0)
+                .echantillonnageImportance(1.0).construire().executerGrille(snrs));
+    }
+
+    /**
+     * Test that importance sampling estimates an NRZ BER of about 1e-8 (12 dB) with 20 000 bits.
+     */
+    @Test
+    public void testEchantillonnageImportance() throws Exception {
+        double tebTheorique = 9.00601035062875e-09; // Q(sqrt(2 Eb/N0)) à 12 dB
+        ChaineTransmission chaine = new ChaineTransmission.Constructeur()
+                .modulation("NRZ")
+                .amplitudes(-1.0f, 1.0f)
+                .tailleMessage(20000)
+                .germe(1L)
+                .snrParBit(12.0)
+                .echantillonnageImportance(1.0)
+                .construire();
+        ResultatTEBPondere resultat = chaine.executerPondere();
+        assertEquals(20000, resultat.getNbBits());
+        assertTrue(resultat.getNbErreurs() > 5000);
+        assertEquals(tebTheorique, resultat.getTeb(), 0.1 * tebTheorique);
+        double[] intervalle = resultat.intervalleConfiance(ResultatTEB.Z_95);
+        assertTrue(intervalle[0] <= tebTheorique && tebTheorique <= intervalle[1]);
+
+        // Avec le codeur, le TEB pondéré reste bien en deçà de celui du canal à 8 dB
+        ChaineTransmission chaineCodeur = new ChaineTransmission.Constructeur()
+                .modulation("NRZ")
+                .amplitudes(-1.0f, 1.0f)
+                .tailleMessage(20000)
+                .germe(1L)
+                .snrParBit(8.0)
+                .codeur(true)
+                .echantillonnageImportance(1.0)
+                .construire();
+        ResultatTEBPondere resultatCodeur = chaineCodeur.executerPondere();
+        assertEquals(20000, resultatCodeur.getNbBits());
+        assertTrue(resultatCodeur.getTeb() > 0 && resultatCodeur.getTeb() < 1.9e-4);
+
+        assertThrows(IllegalStateException.class,
+                () -> new ChaineTransmission.Constructeur().snrParBit(5.0).construire().executerPondere());
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChaineTransmission.Constructeur().echantillonnageImportance(1.0).construire());
+    }
+
+    /**
+     * Test that invalid parameters are rejected by the builder.
+     */
+    @Test
+    public void testParametresInvalides() {
+        assertThrows(IllegalArgumentException.class, () -> new ChaineTransmission.Constructeur().modulation("AMI"));
+        assertThrows(IllegalArgumentException.class, () -> new ChaineTransmission.Constructeur().amplitudes(1.0f, 0.0f));
+        assertThrows(IllegalArgumentException.class, () -> new ChaineTransmission.Constructeur().nbEchantillonsParBit(0));
+        assertThrows(IllegalArgumentException.class, () -> new ChaineTransmission.Constructeur().tailleMessage(0));
+    }
+}
@@ -0,0 +1,92 @@
+package simulateur;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class EvaluateurTEBTest {
+
+    /**
+     * Test erfc and Q against reference values.
+     */
+    @Test
+    public void testErfc() {
+        assertEquals(1.0, EvaluateurTEB.erfc(0.0), 1e-15);
+        assertEquals(0.15729920705028513, EvaluateurTEB.erfc(1.0), 1e-15);
+        assertEquals(1.842700792949715, EvaluateurTEB.erfc(-1.0), 1e-15);
+        assertEquals(1.541725790028002e-08, EvaluateurTEB.erfc(4.0), 1e-21);
+        assertEquals(1.1224297172982928e-29, EvaluateurTEB.erfc(8.0), 1e-42);
+        assertEquals(0.5, EvaluateurTEB.q(0.0), 1e-15);
+        assertEquals(0.15865525393145707, EvaluateurTEB.q(1.0), 1e-15);
+    }
+
+    /**
+     * Test that the NRZ BER over AWGN is Q(sqrt(2 Eb/N0)).
+     */
+    @Test
+    public void testNRZBruitBlanc() {
+        EvaluateurTEB evaluateur = new EvaluateurTEB("NRZ", -1.0f, 1.0f, 30, false);
+        assertEquals(2, evaluateur.getNbMotifs());
+        assertEquals(1.0, evaluateur.getPuissanceSignal(), 1e-9);
+        for (double snrParBit = -5.0; snrParBit <= 12.0; snrParBit += 0.5) {
+            double attendu = EvaluateurTEB.q(Math.sqrt(2 * Math.pow(10, snrParBit / 10)));
+            assertEquals(attendu, evaluateur.teb(snrParBit), 1e-6 * attendu);
+        }
+        assertEquals(9.00601035062875e-09, evaluateur.teb(12.0), 1e-15);
+        assertEquals(0.0, evaluateur.tebSnr(null), 0.0);
+    }
+
+    /**
+     * Test the analytic BER against Monte Carlo simulations with multiple paths, NRZT and the codeur.
+     */
+    @Test
+    public void testCommeSimulation() throws Exception {
+        String[][] configurations = {
+                {"-form", "NRZT", "-ampl", "-1.0", "1.0", "-snrpb", "6", "-ti", "8", "0.5", "40", "0.3"},
+                {"-form", "RZ", "-snrpb", "4", "-ti", "12", "0.4"},
+                {"-form", "NRZ", "-ampl", "-1.0", "1.0", "-snrpb", "2", "-codeur"},
+        };
+        for (String[] configuration : configurations) {
+            String[] args = new String[configuration.length + 4];
+            System.arraycopy(configuration, 0, args, 0, configuration.length);
+            System.arraycopy(new String[]{"-mess", "200000", "-seed", "3"}, 0, args, configuration.length, 4);
+            Simulateur simulateur = new Simulateur(args);
+            simulateur.execute();
+            double teb = simulateur.calculTEBAnalytique();
+            assertEquals(String.join(" ", configuration), teb, simulateur.calculTauxErreurBinaire(), 0.1 * teb);
+        }
+    }
+
+    /**
+     * Test that strong echoes without noise give the deterministic BER of the simulation.
+     */
+    @Test
+    public void testTrajetsMultiplesSansBruit() throws Exception {
+        List<float[]> trajets = new ArrayList<>();
+        trajets.add(new float[]{8, 0.9f});
+        trajets.add(new float[]{20, 0.8f});
+        EvaluateurTEB evaluateur = new EvaluateurTEB("NRZ", 0.0f, 1.0f, 30, trajets, false);
+        assertEquals(4, evaluateur.getNbMotifs());
+        assertEquals(0.25, evaluateur.tebSnr(null), 1e-12);
+
+        Simulateur simulateur = new Simulateur(new String[]{"-mess", "100000", "-form", "NRZ", "-seed", "1",
+                "-ti", "8", "0.9", "20", "0.8"});
+        simulateur.execute();
+        assertEquals(0.25, simulateur.calculTEBAnalytique(), 1e-12);
+        assertEquals(0.25, simulateur.calculTauxErreurBinaire(), 0.01);
+    }
+
+    /**
+     * Test that invalid configurations are rejected.
+     */
+    @Test
+    public void testParametresInvalides() {
+        assertThrows(IllegalArgumentException.class, () -> new EvaluateurTEB("AMI", 0.0f, 1.0f, 30, false));
+        List<float[]> trajets = new ArrayList<>();
+        trajets.add(new float[]{600, 0.1f});
+        assertThrows(IllegalArgumentException.class, () -> new EvaluateurTEB("NRZ", 0.0f, 1.0f, 30, trajets, false));
+    }
+}
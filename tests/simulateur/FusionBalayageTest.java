@@ -0,0 +1,92 @@
+package simulateur;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class FusionBalayageTest {
+
+    private static File repertoireTemporaire() throws Exception {
+        return Files.createTempDirectory("fusion").toFile();
+    }
+
+    private static void supprimer(File repertoire) {
+        for (File fichier : repertoire.listFiles()) {
+            fichier.delete();
+        }
+        repertoire.delete();
+    }
+
+    /**
+     * Test that merging the journals of a sweep split in parts gives the same curve as a single process.
+     */
+    @Test
+    public void testPartiesCommeUnSeulProcessus() throws Exception {
+        File repertoire = repertoireTemporaire();
+        File unique = new File(repertoire, "unique");
+        File parties = new File(repertoire, "parties");
+        unique.mkdir();
+        parties.mkdir();
+
+        String journalUnique = new File(repertoire, "journal.csv").getPath();
+        try (JournalBalayage journal = new JournalBalayage(journalUnique)) {
+            SimulateurTEB simulateur = new SimulateurTEB("RZ", 2);
+            simulateur.setJournal(journal);
+            simulateur.genererCourbeTEB(-2.0, 6.0, 2.0, new File(repertoire, "courbe.csv").getPath(), 300);
+        }
+
+        List<String> journauxParties = new ArrayList<>();
+        for (int p = 0; p < 3; p++) {
+            String nom = new File(repertoire, "journal_partie" + p + ".csv").getPath();
+            journauxParties.add(nom);
+            try (JournalBalayage journal = new JournalBalayage(nom)) {
+                SimulateurTEB simulateur = new SimulateurTEB("RZ", 2);
+                simulateur.setPartie(p, 3);
+                simulateur.setJournal(journal);
+                simulateur.genererCourbeTEB(-2.0, 6.0, 2.0, new File(repertoire, "courbe" + p + ".csv").getPath(), 300);
+            }
+        }
+        // Part 0 simulates SNR ranks 0 and 3, two simulations each
+        assertEquals(1 + 2 * 2, Files.readAllLines(new File(repertoire, "courbe0.csv").toPath()).size());
+
+        List<String> fichiersUnique = FusionBalayage.fusionner(Arrays.asList(journalUnique), unique.getPath());
+        List<String> fichiersParties = FusionBalayage.fusionner(journauxParties, parties.getPath());
+        assertEquals(1, fichiersUnique.size());
+        List<String> courbe = Files.readAllLines(new File(fichiersUnique.get(0)).toPath());
+        assertEquals(courbe, Files.readAllLines(new File(fichiersParties.get(0)).toPath()));
+
+        // One line per SNR, with the bits of both simulations summed
+        assertEquals(1 + 5, courbe.size());
+        for (String ligne : courbe.subList(1, courbe.size())) {
+            String[] colonnes = ligne.split(",");
+            assertEquals("RZ", colonnes[0]);
+            assertEquals("600", colonnes[8]);
+            assertEquals("600", colonnes[9]);
+        }
+
+        // A journal given twice is not counted twice
+        journauxParties.add(journauxParties.get(0));
+        fichiersParties = FusionBalayage.fusionner(journauxParties, parties.getPath());
+        assertEquals(courbe, Files.readAllLines(new File(fichiersParties.get(0)).toPath()));
+
+        supprimer(unique);
+        supprimer(parties);
+        supprimer(repertoire);
+    }
+
+    /**
+     * Test that an invalid part is rejected.
+     */
+    @Test
+    public void testPartieInvalide() {
+        SimulateurTEB simulateur = new SimulateurTEB("NRZ", 1);
+        assertThrows(IllegalArgumentException.class, () -> simulateur.setPartie(3, 3));
+        assertThrows(IllegalArgumentException.class, () -> simulateur.setPartie(0, 0));
+    }
+}
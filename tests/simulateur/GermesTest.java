@@ -0,0 +1,55 @@
+package simulateur;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class GermesTest {
+
+    /**
+     * Test that a derived seed only depends on the master seed and the path.
+     */
+    @Test
+    public void testDeterminisme() {
+        assertEquals(Germes.deriver(42, 1, 2, 3), Germes.deriver(42, 1, 2, 3));
+        assertEquals(Germes.deriverPoint(42, 3.5, 1, 7), Germes.deriverPoint(42, 3.5, 1, 7));
+        assertEquals(Germes.deriverPoint(42, 3.5, 1, 7), Germes.deriver(Germes.deriver(42, Double.doubleToLongBits(3.5)), 1, 7));
+    }
+
+    /**
+     * Test that different master seeds, paths and path orders give different seeds.
+     */
+    @Test
+    public void testCheminsDistincts() {
+        Set<Long> germes = new HashSet<>();
+        for (long maitre = 0; maitre < 4; maitre++) {
+            germes.add(Germes.deriver(maitre));
+            for (long i = 0; i < 50; i++) {
+                germes.add(Germes.deriver(maitre, i));
+                for (long j = 0; j < 20; j++) {
+                    germes.add(Germes.deriver(maitre, i, j));
+                }
+            }
+        }
+        assertEquals(4 * (1 + 50 + 50 * 20), germes.size());
+        assertNotEquals(Germes.deriver(0, 1, 2), Germes.deriver(0, 2, 1));
+        assertNotEquals(Germes.deriver(0, Germes.SOURCE), Germes.deriver(0, Germes.BRUIT));
+        assertNotEquals(Germes.deriverPoint(0, 1.0, 0), Germes.deriverPoint(0, 1.1, 0));
+    }
+
+    /**
+     * Test that the seeds of consecutive indices have balanced bits.
+     */
+    @Test
+    public void testEquilibre() {
+        long nbUns = 0;
+        int nbGermes = 10000;
+        for (long i = 0; i < nbGermes; i++) {
+            nbUns += Long.bitCount(Germes.deriver(0, i));
+        }
+        assertEquals(0.5, (double) nbUns / (64.0 * nbGermes), 0.005);
+    }
+}
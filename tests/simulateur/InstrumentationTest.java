@@ -0,0 +1,140 @@
+package simulateur;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class InstrumentationTest {
+
+    private static ChaineTransmission chaine(Instrumentation instrumentation) {
+        return new ChaineTransmission.Constructeur()
+                .modulation("NRZT")
+                .tailleMessage(1000)
+                .nbEchantillonsParBit(10)
+                .snrParBit(2.0)
+                .codeur(true)
+                .trajetIndirect(5, 0.3f)
+                .germe(3L)
+                .instrumentation(instrumentation)
+                .construire();
+    }
+
+    private static Instrumentation.Etage etage(Instrumentation instrumentation, String nom) {
+        for (Instrumentation.Etage etage : instrumentation.getEtages()) {
+            if (etage.getNom().equals(nom)) {
+                return etage;
+            }
+        }
+        throw new AssertionError("Étage absent : " + nom);
+    }
+
+    /**
+     * Test that every stage of an instrumented chain is measured, without changing the results.
+     */
+    @Test
+    public void testEtagesChaine() throws Exception {
+        Instrumentation instrumentation = new Instrumentation();
+        ChaineTransmission mesuree = chaine(instrumentation);
+        ChaineTransmission reference = chaine(null);
+        for (int i = 0; i < 2; i++) {
+            ResultatTEB attendu = reference.executer();
+            ResultatTEB resultat = mesuree.executer();
+            assertEquals(attendu.getNbErreurs(), resultat.getNbErreurs());
+        }
+
+        List<String> noms = new ArrayList<>();
+        for (Instrumentation.Etage etage : instrumentation.getEtages()) {
+            noms.add(etage.getNom());
+            assertEquals(etage.getNom(), 2, etage.getNbAppels());
+            assertTrue(etage.getNanosPropres() > 0);
+            assertTrue(etage.getNanosTotaux() >= etage.getNanosPropres());
+            assertTrue(etage.getDebit() > 0);
+        }
+        assertEquals(List.of("Codeur", "Destination", "Bruit", "Emetteur", "Recepteur", "Decodeur", "Trajets multiples", "Source"), noms);
+        assertEquals(2 * 1000, etage(instrumentation, "Source").getNbElements());
+        assertEquals(2 * 1000, etage(instrumentation, "Codeur").getNbElements());
+        assertEquals(2 * 3000, etage(instrumentation, "Emetteur").getNbElements());
+        assertEquals(2 * 30000, etage(instrumentation, "Recepteur").getNbElements());
+        assertEquals(2 * 1000, etage(instrumentation, "Destination").getNbElements());
+        // Le temps total du codeur comprend celui de tous les étages suivants
+        assertTrue(etage(instrumentation, "Codeur").getNanosTotaux() >= etage(instrumentation, "Emetteur").getNanosTotaux());
+    }
+
+    /**
+     * Test that the time of nested measures is only counted once as own time.
+     */
+    @Test
+    public void testImbrication() throws Exception {
+        Instrumentation instrumentation = new Instrumentation();
+        Instrumentation.Mesure externe = instrumentation.debuter("Externe");
+        Thread.sleep(5);
+        Instrumentation.Mesure interne = instrumentation.debuter("Interne");
+        Thread.sleep(50);
+        interne.terminer(10);
+        externe.terminer(20);
+
+        Instrumentation.Etage etageExterne = etage(instrumentation, "Externe");
+        Instrumentation.Etage etageInterne = etage(instrumentation, "Interne");
+        assertEquals(etageInterne.getNanosTotaux(), etageInterne.getNanosPropres());
+        assertEquals(etageExterne.getNanosTotaux() - etageInterne.getNanosTotaux(), etageExterne.getNanosPropres());
+        assertTrue(etageExterne.getNanosPropres() < etageInterne.getNanosPropres());
+        assertEquals(20, etageExterne.getNbElements());
+    }
+
+    /**
+     * Test the CSV report.
+     */
+    @Test
+    public void testRapport() throws Exception {
+        Instrumentation instrumentation = new Instrumentation();
+        chaine(instrumentation).executer();
+        Path fichier = Files.createTempFile("profil", ".csv");
+        try {
+            instrumentation.ecrireRapport(fichier.toString());
+            List<String> lignes = Files.readAllLines(fichier);
+            assertEquals("Etage,Appels,Elements,Temps propre (ms),Temps total (ms),Octets alloues,Debit (elements/s)", lignes.get(0));
+            assertEquals(1 + instrumentation.getEtages().size(), lignes.size());
+            assertTrue(lignes.get(4).startsWith("Emetteur,1,3000,"));
+        } finally {
+            Files.delete(fichier);
+        }
+    }
+
+    /**
+     * Test that measures are emitted as JFR events while a recording is active.
+     */
+    @Test
+    public void testEvenementsJFR() throws Exception {
+        Path fichier = Files.createTempFile("profil", ".jfr");
+        try (Recording enregistrement = new Recording()) {
+            enregistrement.enable("sit213.Etage");
+            enregistrement.start();
+            chaine(new Instrumentation()).executer();
+            enregistrement.stop();
+            enregistrement.dump(fichier);
+
+            List<String> etages = new ArrayList<>();
+            for (RecordedEvent evenement : RecordingFile.readAllEvents(fichier)) {
+                if (evenement.getEventType().getName().equals("sit213.Etage")) {
+                    etages.add(evenement.getString("etage"));
+                    if (evenement.getString("etage").equals("Recepteur")) {
+                        assertEquals(30000, evenement.getLong("elements"));
+                    }
+                }
+            }
+            assertTrue(etages.contains("Emetteur"));
+            assertTrue(etages.contains("Recepteur"));
+            assertEquals(8, etages.size());
+        } finally {
+            Files.delete(fichier);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package simulateur;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class JournalBalayageTest {
+
+    private static ResultatTEB resultat(String emis, String recu) {
+        return ResultatTEB.comparer(ResultatTEBTest.bits(emis), ResultatTEBTest.bits(recu), false);
+    }
+
+    /**
+     * Test that recorded simulations are found again after reopening the journal.
+     */
+    @Test
+    public void testReprise() throws Exception {
+        File fichier = File.createTempFile("journal", ".csv");
+        fichier.delete();
+        try (JournalBalayage journal = new JournalBalayage(fichier.getPath())) {
+            assertEquals(0, journal.getNbSimulations());
+            journal.enregistrer("NRZ", 2.5, false, true, 1, resultat("00110011", "01110000"));
+            journal.enregistrer("NRZ", 2.5, true, true, 1, resultat("00110011", "00110011"));
+            // Already recorded: not written twice
+            journal.enregistrer("NRZ", 2.5, false, true, 1, resultat("00110011", "01110000"));
+        }
+        assertEquals(3, Files.readAllLines(fichier.toPath()).size());
+
+        try (JournalBalayage journal = new JournalBalayage(fichier.getPath())) {
+            assertEquals(2, journal.getNbSimulations());
+            ResultatTEB resultat = journal.getResultat("NRZ", 2.5, false, true, 1, 8);
+            assertEquals(8, resultat.getNbBits());
+            assertEquals(3, resultat.getNbErreurs());
+            assertEquals(2, resultat.getNbRafales());
+            assertEquals(2, resultat.getLongueurMaxRafale());
+            assertEquals(0, journal.getResultat("NRZ", 2.5, true, true, 1, 8).getNbErreurs());
+            assertNull(journal.getResultat("NRZ", 2.5, false, true, 2, 8));
+            assertNull(journal.getResultat("NRZ", 2.5, false, true, 1, 16));
+            assertNull(journal.getResultat("RZ", 2.5, false, true, 1, 8));
+            // Same point with the sampled chain: different bits, not resumed
+            assertNull(journal.getResultat("NRZ", 2.5, false, false, 1, 8));
+        }
+        fichier.delete();
+    }
+
+    /**
+     * Test that a truncated last line is ignored and does not corrupt the next entry.
+     */
+    @Test
+    public void testLigneTronquee() throws Exception {
+        File fichier = File.createTempFile("journal", ".csv");
+        try (FileWriter writer = new FileWriter(fichier)) {
+            writer.write("Modulation,SNR(dB),Codeur,Modele binaire,Germe,Bits,Erreurs,Rafales,Rafale max\n");
+            writer.write("RZ,0.0,false,true,1,100,12,10,2\n");
+            writer.write("RZ,0.0,false,true,2,100,13,10,1"); // interrupted while writing the last digit
+        }
+        try (JournalBalayage journal = new JournalBalayage(fichier.getPath())) {
+            assertEquals(1, journal.getNbSimulations());
+            assertEquals(1, journal.getNbLignesIgnorees());
+            assertNull(journal.getResultat("RZ", 0.0, false, true, 2, 100));
+            journal.enregistrer("RZ", 0.0, false, true, 2, resultat("0101", "0111"));
+        }
+        try (JournalBalayage journal = new JournalBalayage(fichier.getPath())) {
+            assertEquals(2, journal.getNbSimulations());
+            assertEquals(1, journal.getNbLignesIgnorees());
+            assertEquals(1, journal.getResultat("RZ", 0.0, false, true, 2, 4).getNbErreurs());
+        }
+        fichier.delete();
+    }
+
+    /**
+     * Test that a journal written before the chain model was recorded is refused rather than resumed.
+     */
+    @Test
+    public void testAncienFormatRefuse() throws Exception {
+        File fichier = File.createTempFile("journal", ".csv");
+        try (FileWriter writer = new FileWriter(fichier)) {
+            writer.write("Modulation,SNR(dB),Codeur,Germe,Bits,Erreurs,Rafales,Rafale max\n");
+            writer.write("RZ,0.0,false,1,100,12,10,2\n");
+        }
+        assertThrows(IOException.class, () -> new JournalBalayage(fichier.getPath()));
+        assertThrows(IOException.class, () -> JournalBalayage.lire(fichier.getPath()));
+        fichier.delete();
+    }
+
+    /**
+     * Test that a sweep rerun with its journal skips the recorded simulations and gives the same curve.
+     */
+    @Test
+    public void testBalayageRepris() throws Exception {
+        File fichier = File.createTempFile("journal", ".csv");
+        File csv = File.createTempFile("courbe", ".csv");
+        fichier.delete();
+
+        SimulateurTEB simulateur = new SimulateurTEB("NRZ", 2);
+        try (JournalBalayage journal = new JournalBalayage(fichier.getPath())) {
+            simulateur.setJournal(journal);
+            simulateur.genererCourbeTEB(0.0, 4.0, 2.0, csv.getPath(), 500);
+            assertEquals(3 * 2 * 2, journal.getNbSimulations());
+        }
+        List<String> courbe = Files.readAllLines(csv.toPath());
+        List<String> lignesJournal = Files.readAllLines(fichier.toPath());
+
+        // Rerun with one more simulation per SNR: only the new ones are added to the journal
+        simulateur = new SimulateurTEB("NRZ", 3);
+        try (JournalBalayage journal = new JournalBalayage(fichier.getPath())) {
+            simulateur.setJournal(journal);
+            simulateur.genererCourbeTEB(0.0, 4.0, 2.0, csv.getPath(), 500);
+            assertEquals(3 * 3 * 2, journal.getNbSimulations());
+        }
+        List<String> nouvelleCourbe = Files.readAllLines(csv.toPath());
+        assertEquals(lignesJournal, Files.readAllLines(fichier.toPath()).subList(0, lignesJournal.size()));
+        assertEquals(courbe.get(1), nouvelleCourbe.get(1));
+        assertEquals(courbe.get(2), nouvelleCourbe.get(2));
+
+        // Rerun with the sampled chain: nothing is resumed from the bit-level simulations
+        simulateur = new SimulateurTEB("NRZ", 3);
+        simulateur.setModeleBinaire(false);
+        try (JournalBalayage journal = new JournalBalayage(fichier.getPath())) {
+            simulateur.setJournal(journal);
+            simulateur.genererCourbeTEB(0.0, 4.0, 2.0, csv.getPath(), 500);
+            assertEquals(2 * 3 * 3 * 2, journal.getNbSimulations());
+        }
+        // Both models for one modulation cannot be merged into one curve
+        assertThrows(IOException.class, () -> FusionBalayage.fusionner(List.of(fichier.getPath()), csv.getParent()));
+
+        fichier.delete();
+        csv.delete();
+    }
+}
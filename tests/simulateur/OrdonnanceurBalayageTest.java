@@ -0,0 +1,65 @@
+package simulateur;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class OrdonnanceurBalayageTest {
+
+    /**
+     * Test that results are delivered in index order even when tasks finish out of order.
+     */
+    @Test
+    public void testOrdre() throws Exception {
+        List<Integer> indices = new ArrayList<>();
+        new OrdonnanceurBalayage<Integer>(4, 8).executer(200, indice -> {
+            Thread.sleep((indice * 7) % 5);
+            return indice * indice;
+        }, (indice, resultat) -> {
+            assertEquals(indice * indice, (int) resultat);
+            indices.add(indice);
+        });
+        assertEquals(200, indices.size());
+        for (int i = 0; i < indices.size(); i++) {
+            assertEquals(i, (int) indices.get(i));
+        }
+    }
+
+    /**
+     * Test that no more than maxEnCours tasks are submitted ahead of the delivered results.
+     */
+    @Test
+    public void testFenetreBornee() throws Exception {
+        AtomicInteger soumises = new AtomicInteger();
+        AtomicInteger transmises = new AtomicInteger();
+        AtomicInteger maxEcart = new AtomicInteger();
+        new OrdonnanceurBalayage<Integer>(3, 5).executer(100, indice -> {
+            int ecart = soumises.incrementAndGet() - transmises.get();
+            maxEcart.accumulateAndGet(ecart, Math::max);
+            // The first task of each window is the slowest
+            Thread.sleep(indice % 5 == 0 ? 5 : 1);
+            return indice;
+        }, (indice, resultat) -> transmises.incrementAndGet());
+        assertEquals(100, transmises.get());
+        assertTrue(maxEcart.get() <= 5);
+    }
+
+    /**
+     * Test that an error in a task is rethrown to the caller.
+     */
+    @Test
+    public void testErreur() {
+        Exception e = assertThrows(Exception.class, () -> new OrdonnanceurBalayage<Integer>(2, 4).executer(50, indice -> {
+            if (indice == 17) {
+                throw new Exception("Erreur 17");
+            }
+            return indice;
+        }, (indice, resultat) -> { }));
+        assertEquals("Erreur 17", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new OrdonnanceurBalayage<Integer>(0, 1));
+    }
+}
@@ -0,0 +1,65 @@
+package simulateur;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ResultatTEBPondereTest {
+
+    /**
+     * Test that the errors are weighted by the weights of their bits.
+     */
+    @Test
+    public void testPonderer() {
+        ResultatTEB resultat = ResultatTEB.comparer(ResultatTEBTest.bits("00000000"), ResultatTEBTest.bits("01000001"), true);
+        double[] poids = {1.0, 0.25, 1.0, 1.0, 1.0, 1.0, 1.0, 0.5};
+        ResultatTEBPondere pondere = ResultatTEBPondere.ponderer(resultat, poids);
+        assertEquals(8, pondere.getNbBits());
+        assertEquals(2, pondere.getNbErreurs());
+        assertEquals(2, pondere.getNbRafales());
+        assertEquals(0.75, pondere.getSommePoids(), 1e-12);
+        assertEquals(0.75 / 8, pondere.getTeb(), 1e-12);
+
+        assertThrows(IllegalArgumentException.class, () -> ResultatTEBPondere.ponderer(
+                ResultatTEB.comparer(ResultatTEBTest.bits("0"), ResultatTEBTest.bits("1"), false), new double[]{1.0}));
+    }
+
+    /**
+     * Test that with unit weights the estimate is the plain BER, and that results are accumulated.
+     */
+    @Test
+    public void testPoidsUnitairesEtCumul() {
+        ResultatTEB resultat = ResultatTEB.comparer(ResultatTEBTest.bits("0011001100110011"),
+                ResultatTEBTest.bits("0111001100001100"), true);
+        double[] poids = new double[16];
+        java.util.Arrays.fill(poids, 1.0);
+        ResultatTEBPondere pondere = ResultatTEBPondere.ponderer(resultat, poids);
+        assertEquals(resultat.getTeb(), pondere.getTeb(), 1e-12);
+
+        ResultatTEBPondere cumul = pondere.cumuler(pondere).cumuler(resultat);
+        assertEquals(48, cumul.getNbBits());
+        assertEquals(21, cumul.getNbErreurs());
+        assertEquals(21.0 / 48, cumul.getTeb(), 1e-12);
+        assertEquals(6, cumul.getLongueurMaxRafale());
+    }
+
+    /**
+     * Test the normal confidence interval, and the interval without any error.
+     */
+    @Test
+    public void testIntervalleConfiance() {
+        ResultatTEBPondere pondere = new ResultatTEBPondere(1000, 100, 100, 1, 100 * 1e-6, 100 * 1e-12);
+        assertEquals(1e-7, pondere.getTeb(), 1e-20);
+        // Poids tous égaux : variance (100 * 1e-12 / 1000 - 1e-14) / 1000
+        double demiLargeur = ResultatTEB.Z_95 * Math.sqrt((1e-13 - 1e-14) / 1000);
+        double[] intervalle = pondere.intervalleConfiance(ResultatTEB.Z_95);
+        assertEquals(1e-7 - demiLargeur, intervalle[0], 1e-20);
+        assertEquals(1e-7 + demiLargeur, intervalle[1], 1e-20);
+        assertTrue(pondere.aConverge(0.2));
+        assertFalse(pondere.aConverge(0.1));
+
+        ResultatTEBPondere sansErreur = new ResultatTEBPondere(1000, 0, 0, 0, 0.0, 0.0);
+        assertArrayEquals(new double[]{0.0, 1.0}, sansErreur.intervalleConfiance(ResultatTEB.Z_95), 0.0);
+        assertFalse(sansErreur.aConverge(0.5));
+    }
+}
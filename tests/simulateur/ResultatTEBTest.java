@@ -0,0 +1,105 @@
+package simulateur;
+
+import information.BitInformation;
+import information.Information;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ResultatTEBTest {
+
+    static Information<Boolean> bits(String s) {
+        Information<Boolean> information = new Information<>();
+        for (char c : s.toCharArray()) {
+            information.add(c == '1');
+        }
+        return information;
+    }
+
+    /**
+     * Test errors, bursts and positions on a small message.
+     */
+    @Test
+    public void testPetitMessage() {
+        ResultatTEB resultat = ResultatTEB.comparer(bits("0011001100110011"), bits("0111001100001100"), true);
+        assertEquals(16, resultat.getNbBits());
+        assertEquals(7, resultat.getNbErreurs());
+        assertEquals(7.0 / 16, resultat.getTeb(), 1e-12);
+        assertArrayEquals(new int[]{1, 10, 11, 12, 13, 14, 15}, resultat.getPositions());
+        assertEquals(2, resultat.getNbRafales());
+        assertEquals(6, resultat.getLongueurMaxRafale());
+        assertEquals(3.5, resultat.getLongueurMoyenneRafale(), 1e-12);
+    }
+
+    /**
+     * Test word-level counts and bursts against a bit-by-bit reference, with bursts crossing words.
+     */
+    @Test
+    public void testCommeReferenceBitABit() {
+        Random random = new Random(11);
+        int n = 1000;
+        BitInformation emis = new BitInformation(n);
+        BitInformation recu = new BitInformation(n);
+        for (int i = 0; i < n; i++) {
+            boolean bit = random.nextBoolean();
+            emis.addBit(bit);
+            // Rafales longues autour des frontières de mots
+            boolean erreur = random.nextInt(10) == 0 || (i >= 60 && i < 140) || i == 191 || i == 192;
+            recu.addBit(bit ^ erreur);
+        }
+        ResultatTEB resultat = ResultatTEB.comparer(emis, recu, false);
+
+        long nbErreurs = 0, nbRafales = 0, max = 0, courante = 0;
+        for (int i = 0; i < n; i++) {
+            if (emis.getBit(i) != recu.getBit(i)) {
+                nbErreurs++;
+                if (courante++ == 0) {
+                    nbRafales++;
+                }
+                max = Math.max(max, courante);
+            } else {
+                courante = 0;
+            }
+        }
+        assertEquals(nbErreurs, resultat.getNbErreurs());
+        assertEquals(nbRafales, resultat.getNbRafales());
+        assertEquals(max, resultat.getLongueurMaxRafale());
+        assertNull(resultat.getPositions());
+    }
+
+    /**
+     * Test that missing received bits count as errors.
+     */
+    @Test
+    public void testMessageRecuPlusCourt() {
+        ResultatTEB resultat = ResultatTEB.comparer(bits("1010"), bits("10"), true);
+        assertEquals(2, resultat.getNbErreurs());
+        assertArrayEquals(new int[]{2, 3}, resultat.getPositions());
+    }
+
+    /**
+     * Test the Wilson confidence interval and the convergence criterion.
+     */
+    @Test
+    public void testIntervalleConfiance() {
+        BitInformation emis = new BitInformation(new boolean[100000]);
+        BitInformation recu = new BitInformation(100000);
+        for (int i = 0; i < 100000; i++) {
+            recu.addBit(i % 100 == 0);
+        }
+        ResultatTEB resultat = ResultatTEB.comparer(emis, recu, false);
+        double[] intervalle = resultat.intervalleConfiance(ResultatTEB.Z_95);
+        assertTrue(intervalle[0] < 0.01 && 0.01 < intervalle[1]);
+        assertEquals(0.00940, intervalle[0], 0.00005);
+        assertEquals(0.01063, intervalle[1], 0.00005);
+        assertTrue(resultat.aConverge(0.25));
+        assertFalse(resultat.aConverge(0.05));
+
+        ResultatTEB sansErreur = ResultatTEB.comparer(emis, emis, false);
+        assertEquals(0.0, sansErreur.intervalleConfiance(ResultatTEB.Z_95)[0], 0.0);
+        assertTrue(sansErreur.intervalleConfiance(ResultatTEB.Z_95)[1] > 0);
+        assertFalse(sansErreur.aConverge(0.5));
+    }
+}
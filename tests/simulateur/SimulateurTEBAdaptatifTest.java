@@ -0,0 +1,90 @@
+package simulateur;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SimulateurTEBAdaptatifTest {
+
+    private static ResultatTEB bloc(long nbBits, long nbErreurs) {
+        return new ResultatTEB(nbBits, nbErreurs, nbErreurs, nbErreurs > 0 ? 1 : 0, null);
+    }
+
+    /**
+     * Test that blocks finished out of order are merged in order, and that the point stops
+     * at the block which reaches the target number of errors.
+     */
+    @Test
+    public void testIntegrationDansLOrdre() {
+        SimulateurTEB.PointTEB point = new SimulateurTEB.PointTEB(0.0, false, 100, 10, 100000);
+        point.nbBlocsSoumis = 4;
+        assertFalse(point.integrer(1, bloc(100, 4)));
+        assertNull(point.total);
+        assertFalse(point.integrer(0, bloc(100, 3)));
+        assertEquals(200, point.total.getNbBits());
+        assertEquals(7, point.total.getNbErreurs());
+        assertTrue(point.integrer(2, bloc(100, 5)));
+        assertEquals(12, point.total.getNbErreurs());
+        // Blocks arriving after the stop are ignored
+        assertFalse(point.integrer(3, bloc(100, 50)));
+        assertEquals(300, point.total.getNbBits());
+        assertEquals(0, point.blocsAnticipes());
+    }
+
+    /**
+     * Test the number of blocks requested ahead: one to start, then the estimate from the
+     * errors seen so far, capped by the bit budget.
+     */
+    @Test
+    public void testBlocsAnticipes() {
+        SimulateurTEB.PointTEB point = new SimulateurTEB.PointTEB(0.0, false, 100, 10, 1000);
+        assertEquals(1, point.blocsAnticipes());
+        point.nbBlocsSoumis = 1;
+        assertEquals(0, point.blocsAnticipes());
+        point.integrer(0, bloc(100, 4));
+        // 6 errors still missing at 4 errors per block
+        assertEquals(2, point.blocsAnticipes());
+
+        SimulateurTEB.PointTEB sansErreur = new SimulateurTEB.PointTEB(0.0, true, 100, 10, 250);
+        sansErreur.nbBlocsSoumis = 1;
+        sansErreur.integrer(0, bloc(100, 0));
+        // No error yet: the rest of the 250-bit budget
+        assertEquals(2, sansErreur.blocsAnticipes());
+        sansErreur.nbBlocsSoumis = 3;
+        assertFalse(sansErreur.integrer(1, bloc(100, 0)));
+        assertTrue(sansErreur.integrer(2, bloc(100, 0)));
+        assertEquals(300, sansErreur.total.getNbBits());
+    }
+
+    /**
+     * Test a small adaptive sweep: stop rule, confidence interval columns and reproducibility.
+     */
+    @Test
+    public void testCourbeAdaptative() throws Exception {
+        String csvFilePath = "test_results_adaptatif_court.csv";
+        SimulateurTEB simulateur = new SimulateurTEB("NRZ", 1);
+        simulateur.genererCourbeTEBAdaptative(-6.0, 0.0, 6.0, csvFilePath, 500, 20, 5000);
+
+        List<String> lignes = Files.readAllLines(new File(csvFilePath).toPath());
+        assertEquals(3, lignes.size());
+        for (String ligne : lignes.subList(1, lignes.size())) {
+            String[] colonnes = ligne.split(",");
+            for (int c = 0; c < 2; c++) {
+                double teb = Double.parseDouble(colonnes[2 + c]);
+                long bits = Long.parseLong(colonnes[8 + c]);
+                assertTrue(bits % 500 == 0 && bits <= 5000);
+                assertTrue(bits == 5000 || Math.round(teb * bits) >= 20);
+                assertTrue(Double.parseDouble(colonnes[4 + 2 * c]) <= teb);
+                assertTrue(teb <= Double.parseDouble(colonnes[5 + 2 * c]));
+            }
+        }
+
+        simulateur.genererCourbeTEBAdaptative(-6.0, 0.0, 6.0, csvFilePath, 500, 20, 5000);
+        assertEquals(lignes, Files.readAllLines(new File(csvFilePath).toPath()));
+        new File(csvFilePath).delete();
+    }
+}
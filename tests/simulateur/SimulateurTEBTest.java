@@ -3,6 +3,8 @@ package simulateur;
 import org.junit.Before;
 import org.junit.Test;
 import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
 import static org.junit.Assert.*;
 
 public class SimulateurTEBTest {
@@ -112,6 +114,33 @@ public class SimulateurTEBTest {
         csvFile.delete();
     }
 
+    @Test
+    public void testGenererCourbeTEBAdaptative() throws Exception {
+        String csvFilePath = "test_results_adaptatif.csv";
+
+        // Stop after 20 errors or 20 000 bits per point
+        simTEBNRZ.genererCourbeTEBAdaptative(0.0, 10.0, 5.0, csvFilePath, 1000, 20, 20000);
+
+        List<String> lignes = Files.readAllLines(new File(csvFilePath).toPath());
+        assertEquals(4, lignes.size());
+        assertTrue(lignes.get(0).startsWith("Modulation,SNR(dB),TEB Without Codeur,TEB With Codeur,"));
+        for (String ligne : lignes.subList(1, lignes.size())) {
+            String[] colonnes = ligne.split(",");
+            double teb = Double.parseDouble(colonnes[2]);
+            long bits = Long.parseLong(colonnes[8]);
+            assertTrue(bits >= 1000 && bits <= 20000);
+            // Either the budget was used or enough errors were seen
+            assertTrue(bits == 20000 || Math.round(teb * bits) >= 20);
+            assertTrue(Double.parseDouble(colonnes[4]) <= teb && teb <= Double.parseDouble(colonnes[5]));
+        }
+
+        // Blocks are merged in order, so the curve does not depend on thread timing
+        simTEBNRZ.genererCourbeTEBAdaptative(0.0, 10.0, 5.0, csvFilePath, 1000, 20, 20000);
+        assertEquals(lignes, Files.readAllLines(new File(csvFilePath).toPath()));
+
+        new File(csvFilePath).delete();
+    }
+
     @Test
     public void testEdgeCases() throws Exception {
         String csvFilePath = "test_results_edge_cases.csv";
@@ -4,6 +4,7 @@ import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import sources.SourceFixe;
+import information.Information;
 
 public class SimulateurTest {
 
@@ -253,6 +254,87 @@ public class SimulateurTest {
         assertNotNull(simulateur.getDestination().getInformationRecue());
     }
 
+    /**
+     * Test that the block-streamed chain delivers the same message as the whole-message chain.
+     */
+    @Test
+    public void testSimulationExecutionParBlocs() throws Exception {
+        String[] args = {"-mess", "1000", "-seed", "3", "-form", "NRZT", "-nbEch", "9", "-ti", "13", "0.4", "-codeur"};
+        Simulateur complet = new Simulateur(args);
+        complet.execute();
+
+        String[] argsBlocs = {"-mess", "1000", "-seed", "3", "-form", "NRZT", "-nbEch", "9", "-ti", "13", "0.4", "-codeur", "-bloc", "37"};
+        simulateur = new Simulateur(argsBlocs);
+        simulateur.execute();
+
+        assertEquals(complet.getDestination().getInformationRecue(), simulateur.getDestination().getInformationRecue());
+        assertEquals(complet.calculTauxErreurBinaire(), simulateur.calculTauxErreurBinaire(), 0.0f);
+    }
+
+    /**
+     * Test that a noisy streamed chain receives the same bits for the same seed whatever the block size.
+     */
+    @Test
+    public void testSimulationParBlocsIndependanteDeLaTaille() throws Exception {
+        Information<Boolean> reference = null;
+        for (String tailleBloc : new String[]{"1000", "777", "4096"}) {
+            String[] args = {"-mess", "20000", "-seed", "4", "-form", "NRZ", "-nbEch", "8", "-ampl", "0.0", "1.0",
+                    "-snrpb", "2", "-bloc", tailleBloc};
+            simulateur = new Simulateur(args);
+            simulateur.execute();
+            Information<Boolean> recus = simulateur.getDestination().getInformationRecue();
+            assertEquals(20000, recus.nbElements());
+            if (reference == null) {
+                reference = recus;
+            } else {
+                assertEquals("-bloc " + tailleBloc, reference, recus);
+            }
+        }
+    }
+
+    /**
+     * Test that the PRBS destination counts the same errors as a comparison with the emitted message,
+     * and that it measures the BER of a stream without keeping it.
+     */
+    @Test
+    public void testSimulationPRBS() throws Exception {
+        String[] args = {"-mess", "20000", "-seed", "4", "-form", "NRZ", "-nbEch", "8", "-snrpb", "2", "-prbs", "15"};
+        Simulateur complet = new Simulateur(args);
+        complet.execute();
+        ResultatTEB attendu = ResultatTEB.comparer(complet.getSource().getInformationEmise(),
+                complet.getDestination().getInformationRecue(), false);
+        ResultatTEB resultat = complet.calculResultatTEB(false);
+        assertTrue(attendu.getNbErreurs() > 0);
+        assertEquals(attendu.getNbErreurs(), resultat.getNbErreurs());
+        assertEquals(attendu.getNbRafales(), resultat.getNbRafales());
+
+        String[] argsBlocs = {"-mess", "20000", "-seed", "4", "-form", "NRZ", "-nbEch", "8", "-snrpb", "2", "-prbs", "15", "-bloc", "1000"};
+        simulateur = new Simulateur(argsBlocs);
+        simulateur.execute();
+        assertNull(simulateur.getDestination().getInformationRecue());
+        // En flux, la puissance du bruit est mesurée sur le début du flux : même TEB aux fluctuations près
+        ResultatTEB resultatBlocs = simulateur.calculResultatTEB(false);
+        assertEquals(20000, resultatBlocs.getNbBits());
+        assertEquals(attendu.getTeb(), resultatBlocs.getTeb(), 0.01);
+    }
+
+    /**
+     * Test that an invalid PRBS order and a PRBS with an imposed message are rejected.
+     */
+    @Test
+    public void testInvalidPRBSArguments() {
+        assertThrows(ArgumentsException.class, () -> new Simulateur(new String[]{"-mess", "100", "-prbs", "9"}));
+        assertThrows(ArgumentsException.class, () -> new Simulateur(new String[]{"-mess", "0101011", "-prbs", "7"}));
+    }
+
+    /**
+     * Test that an invalid block size is rejected.
+     */
+    @Test(expected = ArgumentsException.class)
+    public void testInvalidBlocArgument() throws ArgumentsException {
+        new Simulateur(new String[]{"-mess", "100", "-bloc", "0"});
+    }
+
     /**
      * Test execution with invalid multi-path arguments.
      */
@@ -337,12 +419,14 @@ public class SimulateurTest {
     }
 
     /**
-     * Test simulation with multi-path (multi-trajet) exceeding the maximum allowed paths.
+     * Test simulation with more than 5 multi-path (multi-trajet) arguments, no longer limited.
      */
-    @Test(expected = ArgumentsException.class)
-    public void testTooManyMultiPathArguments() throws ArgumentsException {
+    @Test
+    public void testManyMultiPathArguments() throws Exception {
         String[] args = {"-mess", "101", "-form", "RZ", "-nbEch", "30", "-ampl", "0.0", "1.0", "-ti", "1", "0.5", "2", "0.5", "3", "0.5", "4", "0.5", "5", "0.5", "6", "0.5"};
-        new Simulateur(args);  // Should throw ArgumentsException
+        simulateur = new Simulateur(args);
+        simulateur.execute();
+        assertEquals(101, simulateur.getDestination().getInformationRecue().nbElements());
     }
 
     /**
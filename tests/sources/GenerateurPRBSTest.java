@@ -0,0 +1,87 @@
+package sources;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GenerateurPRBSTest {
+
+    /**
+     * Reference bit-serial LFSR: b[k] = b[k - n] xor b[k - m], register initialised from the seed.
+     */
+    private static boolean[] sequence(int n, int m, long germe, int nombre) {
+        boolean[] bits = new boolean[n + nombre];
+        for (int j = 0; j < n; j++) {
+            bits[j] = (germe >>> j & 1) != 0;
+        }
+        for (int k = n; k < n + nombre; k++) {
+            bits[k] = bits[k - n] ^ bits[k - m];
+        }
+        boolean[] sortie = new boolean[nombre];
+        System.arraycopy(bits, n, sortie, 0, nombre);
+        return sortie;
+    }
+
+    /**
+     * Test that the leap-forward generator matches a bit-serial LFSR for every order, whatever the chunk sizes.
+     */
+    @Test
+    public void testCommeRegistreSerie() {
+        int[][] polynomes = {{7, 6}, {15, 14}, {23, 18}, {31, 28}};
+        int[] tailles = {64, 1, 13, 64, 28, 63, 5};
+        for (int[] polynome : polynomes) {
+            long germe = 0x5A5A5A5AL & ((1L << polynome[0]) - 1);
+            boolean[] attendus = sequence(polynome[0], polynome[1], germe, 3000);
+            GenerateurPRBS generateur = new GenerateurPRBS(polynome[0], germe);
+            int position = 0;
+            for (int t = 0; position < 2900; t++) {
+                int nombre = tailles[t % tailles.length];
+                long bits = generateur.suivants(nombre);
+                for (int j = 0; j < nombre; j++) {
+                    assertEquals(attendus[position + j], (bits >>> j & 1) != 0);
+                }
+                if (nombre < 64) {
+                    assertEquals(0, bits >>> nombre);
+                }
+                position += nombre;
+                assertEquals(position, generateur.getPosition());
+            }
+        }
+    }
+
+    /**
+     * Test the period of PRBS-7 and PRBS-15 and the number of ones per period.
+     */
+    @Test
+    public void testPeriode() {
+        for (int ordre : new int[]{7, 15}) {
+            GenerateurPRBS generateur = new GenerateurPRBS(ordre);
+            int periode = (int) generateur.getPeriode();
+            boolean[] bits = new boolean[2 * periode];
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] = generateur.suivants(1) == 1;
+            }
+            int nbUns = 0;
+            for (int i = 0; i < periode; i++) {
+                assertEquals(bits[i], bits[i + periode]);
+                nbUns += bits[i] ? 1 : 0;
+            }
+            assertEquals(1 << (ordre - 1), nbUns);
+        }
+    }
+
+    /**
+     * Test that reinitialising restarts the sequence and that a null register seed gives the all-ones register.
+     */
+    @Test
+    public void testReinitialisation() {
+        GenerateurPRBS generateur = new GenerateurPRBS(23, 1L << 40);
+        long premier = generateur.suivants(64);
+        generateur.suivants(17);
+        generateur.reinitialiser();
+        assertEquals(0, generateur.getPosition());
+        assertEquals(premier, generateur.suivants(64));
+        assertEquals(premier, new GenerateurPRBS(23).suivants(64));
+        assertThrows(IllegalArgumentException.class, () -> new GenerateurPRBS(9));
+    }
+}
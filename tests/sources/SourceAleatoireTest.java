@@ -3,8 +3,12 @@ package sources;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
+import destinations.DestinationFinale;
+import information.BitInformation;
 import information.Information;
 
+import java.util.SplittableRandom;
+
 public class SourceAleatoireTest {
 
     /**
@@ -51,6 +55,53 @@ public class SourceAleatoireTest {
         }
     }
 
+    /**
+     * Test that regenerating a source gives the same message as a new source with the same seed.
+     */
+    @Test
+    public void testRegenerer() {
+        SourceAleatoire sourceAleatoire = new SourceAleatoire(5, 1);
+        sourceAleatoire.regenerer(200, 1234L);
+        Information<Boolean> attendue = new SourceAleatoire(200, 1234).getInformationGeneree();
+        assertEquals(200, sourceAleatoire.getInformationGeneree().nbElements());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(attendue.iemeElement(i), sourceAleatoire.getInformationGeneree().iemeElement(i));
+        }
+    }
+
+    /**
+     * Test that each 64-bit word of the message is the matching nextLong() of a SplittableRandom.
+     */
+    @Test
+    public void testMotsSplittableRandom() {
+        SourceAleatoire sourceAleatoire = new SourceAleatoire(1000, 99L);
+        long[] mots = ((BitInformation) sourceAleatoire.getInformationGeneree()).getMots();
+        SplittableRandom random = new SplittableRandom(99L);
+        for (int m = 0; m < 15; m++) {
+            assertEquals(random.nextLong(), mots[m]);
+        }
+        // Dernier mot : seuls les 1000 - 15 * 64 premiers bits sont conservés
+        assertEquals(random.nextLong() & ((1L << 40) - 1), mots[15]);
+    }
+
+    /**
+     * Test that lazy generation emits, block by block, the same message as eager generation.
+     */
+    @Test
+    public void testGenerationParesseuse() throws Exception {
+        Information<Boolean> attendue = new SourceAleatoire(1000, 7L).getInformationGeneree();
+        for (int tailleBloc : new int[]{64, 100, 1000, 37}) {
+            SourceAleatoire sourceAleatoire = new SourceAleatoire(0, 7L);
+            sourceAleatoire.setGenerationParesseuse(true);
+            sourceAleatoire.regenerer(1000, 7L);
+            DestinationFinale destination = new DestinationFinale();
+            sourceAleatoire.connecter(destination);
+            sourceAleatoire.emettreParBlocs(tailleBloc);
+            assertEquals(attendue, destination.getInformationRecue());
+            assertEquals(attendue, sourceAleatoire.getInformationEmise());
+        }
+    }
+
     /**
      * Test the constructor with null seed.
      */
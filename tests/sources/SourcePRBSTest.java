@@ -0,0 +1,44 @@
+package sources;
+
+import destinations.DestinationFinale;
+import information.Information;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SourcePRBSTest {
+
+    /**
+     * Test that the generated message is the start of the PRBS sequence.
+     */
+    @Test
+    public void testMessage() {
+        Information<Boolean> message = new SourcePRBS(7, 300, 3).getInformationGeneree();
+        GenerateurPRBS generateur = new GenerateurPRBS(7, 3);
+        assertEquals(300, message.nbElements());
+        for (int i = 0; i < 300; i++) {
+            assertEquals(generateur.suivants(1) == 1, message.iemeElement(i));
+        }
+    }
+
+    /**
+     * Test that emitting by blocks gives the same message as emitting it whole.
+     */
+    @Test
+    public void testEmissionParBlocs() throws Exception {
+        Information<Boolean> attendu = new SourcePRBS(31, 5000).getInformationGeneree();
+        for (int tailleBloc : new int[]{64, 100, 5000, 7}) {
+            SourcePRBS source = new SourcePRBS(31, 5000);
+            DestinationFinale destination = new DestinationFinale();
+            source.connecter(destination);
+            source.emettreParBlocs(tailleBloc);
+            assertEquals(attendu, destination.getInformationRecue());
+            assertEquals(attendu, source.getInformationEmise());
+            // Une seconde émission reprend la séquence au début
+            destination = new DestinationFinale();
+            source.connecter(destination);
+            source.emettreParBlocs(tailleBloc);
+            assertEquals(attendu, destination.getInformationRecue());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package transmetteurs;
+
+import information.BitInformation;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CodecRepetitionTest {
+
+    /**
+     * Test that encoding matches the 1 -> 101, 0 -> 010 rule for lengths around word boundaries.
+     */
+    @Test
+    public void testCoderBitABit() {
+        Random random = new Random(3);
+        for (int n : new int[]{0, 1, 7, 8, 21, 22, 63, 64, 65, 200}) {
+            boolean[] bits = new boolean[n];
+            BitInformation attendu = new BitInformation(3 * n);
+            for (int i = 0; i < n; i++) {
+                bits[i] = random.nextBoolean();
+                attendu.addBit(bits[i]);
+                attendu.addBit(!bits[i]);
+                attendu.addBit(bits[i]);
+            }
+            assertEquals("n = " + n, attendu, CodecRepetition.coder(new BitInformation(bits)));
+        }
+    }
+
+    /**
+     * Test that decoding matches the automate for random received bits.
+     */
+    @Test
+    public void testDecoderCommeAutomate() {
+        Random random = new Random(4);
+        boolean[] paquet = new boolean[3];
+        for (int n : new int[]{0, 1, 3, 4, 5, 21, 22, 64, 65, 300}) {
+            BitInformation recus = new BitInformation(3 * n);
+            for (int i = 0; i < 3 * n; i++) {
+                recus.addBit(random.nextBoolean());
+            }
+            BitInformation decodes = CodecRepetition.decoder(recus, 3 * n);
+            assertEquals(n, decodes.nbElements());
+            for (int i = 0; i < n; i++) {
+                paquet[0] = recus.getBit(3 * i);
+                paquet[1] = recus.getBit(3 * i + 1);
+                paquet[2] = recus.getBit(3 * i + 2);
+                assertEquals("n = " + n + ", i = " + i, DecodageReception.automate(paquet), decodes.getBit(i));
+            }
+        }
+    }
+
+    /**
+     * Test that decoding an encoded message gives it back.
+     */
+    @Test
+    public void testAllerRetour() {
+        Random random = new Random(5);
+        boolean[] bits = new boolean[1000];
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = random.nextBoolean();
+        }
+        BitInformation message = new BitInformation(bits);
+        assertEquals(message, CodecRepetition.decoder(CodecRepetition.coder(message), 3 * bits.length));
+    }
+}
@@ -90,6 +90,19 @@ public class DecodageReceptionTest {
         decodageReception.recevoir(information); // Devrait lever une exception
     }
 
+    @Test
+    public void testFluxPaquetsACheval() throws InformationNonConformeException {
+        // Paquets "101", "010", "001" envoyés par blocs de 2 bits
+        Information<Boolean> information = new Information<>(new Boolean[]{true, false, true, false, true, false, false, false, true});
+        for (int debut = 0; debut < information.nbElements(); debut += 2) {
+            decodageReception.recevoirBloc(information.extraire(debut, Math.min(2, information.nbElements() - debut)));
+        }
+        decodageReception.terminerFlux();
+
+        Information<Boolean> resultatAttendu = new Information<>(new Boolean[]{true, false, true});
+        assertEquals(resultatAttendu, mockDestination.getInformationRecue());
+    }
+
     // Test de la methode main
     @Test
     public void testMain() {
@@ -123,6 +123,30 @@ public class EmetteurTest {
         assertNotNull(mockDestination.getInformationRecue());
     }
 
+    /**
+     * Test that NRZT emitted by blocks (neighbour bits carried across block
+     * boundaries) is identical to the whole-message emission.
+     */
+    @Test
+    public void testFluxNRZTIdentiqueAuMessageComplet() throws InformationNonConformeException {
+        Information<Boolean> infoLogique = new Information<>(new Boolean[]{true, false, false, true, true, true, false, true, false, false});
+
+        MockDestination<Float> complet = new MockDestination<>();
+        emetteurNRZT.connecter(complet);
+        emetteurNRZT.recevoir(infoLogique);
+
+        for (int tailleBloc : new int[]{1, 3, 4, 10}) {
+            Emetteur emetteurFlux = new Emetteur(0.0f, 1.0f, 30, "NRZT");
+            MockDestination<Float> flux = new MockDestination<>();
+            emetteurFlux.connecter(flux);
+            for (int debut = 0; debut < infoLogique.nbElements(); debut += tailleBloc) {
+                emetteurFlux.recevoirBloc(infoLogique.extraire(debut, Math.min(tailleBloc, infoLogique.nbElements() - debut)));
+            }
+            emetteurFlux.terminerFlux();
+            assertEquals("Blocs de " + tailleBloc + " bits", complet.getInformationRecue(), flux.getInformationRecue());
+        }
+    }
+
     /**
      * Test unknown modulation type.
      */
@@ -0,0 +1,122 @@
+package transmetteurs;
+
+import information.BitInformation;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class FiltreAdapteTest {
+
+    private static final int NB_ECH = 30;
+
+    /**
+     * Emits a message with the Emetteur and returns its samples.
+     */
+    private float[] moduler(boolean[] bits, float amin, float amax, String typeModulation) throws Exception {
+        Emetteur emetteur = new Emetteur(amin, amax, NB_ECH, typeModulation);
+        emetteur.recevoir(new BitInformation(bits));
+        float[] signal = new float[bits.length * NB_ECH];
+        for (int i = 0; i < signal.length; i++) {
+            signal[i] = emetteur.getInformationEmise().iemeElement(i);
+        }
+        return signal;
+    }
+
+    /**
+     * Test that every modulation recovers the emitted message without noise.
+     */
+    @Test
+    public void testDemodulationSansBruit() throws Exception {
+        boolean[] bits = {true, false, false, true, true, true, false, true, false, false};
+        for (String typeModulation : new String[]{"NRZ", "NRZT", "RZ"}) {
+            float[] signal = moduler(bits, -1.0f, 1.0f, typeModulation);
+            BitInformation recu = new BitInformation();
+            FiltreAdapte.pour(-1.0f, 1.0f, NB_ECH, typeModulation).demoduler(signal, 0, signal.length, recu);
+            assertEquals(typeModulation, new BitInformation(bits), recu);
+        }
+    }
+
+    /**
+     * Test that the amplitudes may be given in either order.
+     */
+    @Test
+    public void testAmplitudesInversees() throws Exception {
+        boolean[] bits = {true, false, true, true, false};
+        float[] signal = moduler(bits, 0.0f, 1.0f, "RZ");
+        BitInformation recu = new BitInformation();
+        FiltreAdapte.pour(1.0f, 0.0f, NB_ECH, "RZ").demoduler(signal, 0, signal.length, recu);
+        assertEquals(new BitInformation(bits), recu);
+    }
+
+    /**
+     * Test that the NRZT filter makes no more errors than a plain NRZ mean on a noisy NRZT signal.
+     */
+    @Test
+    public void testNRZTMeilleurQueMoyenne() throws Exception {
+        Random random = new Random(7);
+        boolean[] bits = new boolean[5000];
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = random.nextBoolean();
+        }
+        float[] signal = moduler(bits, -1.0f, 1.0f, "NRZT");
+        for (int i = 0; i < signal.length; i++) {
+            signal[i] += (float) (4.0 * random.nextGaussian());
+        }
+        BitInformation attendu = new BitInformation(bits);
+        BitInformation adapte = new BitInformation();
+        BitInformation moyenne = new BitInformation();
+        FiltreAdapte.pour(-1.0f, 1.0f, NB_ECH, "NRZT").demoduler(signal, 0, signal.length, adapte);
+        FiltreAdapte.pour(-1.0f, 1.0f, NB_ECH, "NRZ").demoduler(signal, 0, signal.length, moyenne);
+        assertTrue(erreurs(attendu, adapte) <= erreurs(attendu, moyenne));
+    }
+
+    /**
+     * Test that an incomplete last bit is still decided.
+     */
+    @Test
+    public void testBitIncomplet() {
+        float[] signal = new float[NB_ECH + 5];
+        java.util.Arrays.fill(signal, 1.0f);
+        BitInformation recu = new BitInformation();
+        FiltreAdapte.pour(0.0f, 1.0f, NB_ECH, "NRZ").demoduler(signal, 0, signal.length, recu);
+        assertEquals(new BitInformation(new boolean[]{true, true}), recu);
+    }
+
+    /**
+     * Test that the correlation (vectorized when the Vector API is loaded) matches the scalar loop,
+     * for window lengths that do and do not fill whole vectors.
+     */
+    @Test
+    public void testCorrelationConformeAuScalaire() {
+        Random random = new Random(3);
+        for (int nbEch = 1; nbEch <= 70; nbEch++) {
+            FiltreAdapte filtre = FiltreAdapte.pour(-1.0f, 1.0f, nbEch, "NRZT");
+            float[] signal = new float[nbEch + 5];
+            for (int i = 0; i < signal.length; i++) {
+                signal[i] = (float) random.nextGaussian();
+            }
+            float attendu = FiltreAdapte.produitScalaireScalaire(signal, 5, filtre.getReference(), nbEch);
+            assertEquals("nbEch " + nbEch, attendu, filtre.correler(signal, 5), 1e-4f * nbEch);
+        }
+    }
+
+    /**
+     * Test that an unknown modulation type has no filter.
+     */
+    @Test
+    public void testModulationInconnue() {
+        assertNull(FiltreAdapte.pour(0.0f, 1.0f, NB_ECH, "UNKNOWN"));
+    }
+
+    private static int erreurs(BitInformation a, BitInformation b) {
+        int n = 0;
+        for (int i = 0; i < a.nbElements(); i++) {
+            if (a.getBit(i) != b.getBit(i)) {
+                n++;
+            }
+        }
+        return n;
+    }
+}
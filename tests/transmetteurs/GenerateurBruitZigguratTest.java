@@ -0,0 +1,62 @@
+package transmetteurs;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GenerateurBruitZigguratTest {
+
+    private static final int N = 1_000_000;
+
+    /**
+     * Test that the generated values have a standard normal mean, variance and tails.
+     */
+    @Test
+    public void testMoments() {
+        GenerateurBruitZiggurat generateur = new GenerateurBruitZiggurat(42);
+        double somme = 0;
+        double sommeCarres = 0;
+        double sommeQuatre = 0;
+        int queue = 0;
+        for (int i = 0; i < N; i++) {
+            double x = generateur.gaussienne();
+            somme += x;
+            sommeCarres += x * x;
+            sommeQuatre += x * x * x * x;
+            if (Math.abs(x) > 3) {
+                queue++;
+            }
+        }
+        assertEquals(0.0, somme / N, 0.005);
+        assertEquals(1.0, sommeCarres / N, 0.01);
+        assertEquals(3.0, sommeQuatre / N, 0.05);
+        // P(|X| > 3) = 0.0027
+        assertEquals(0.0027, (double) queue / N, 0.0003);
+    }
+
+    /**
+     * Test that the same seed gives the same noise and that sigma scales it.
+     */
+    @Test
+    public void testRemplirAvecGerme() {
+        float[] bruit1 = new float[1000];
+        float[] bruit2 = new float[1000];
+        new GenerateurBruitZiggurat(7).remplir(bruit1, 0, 1000, 1.0);
+        new GenerateurBruitZiggurat(7).remplir(bruit2, 0, 1000, 2.0);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(2 * bruit1[i], bruit2[i], 1e-5);
+        }
+    }
+
+    /**
+     * Test that a zero sigma gives exactly no noise.
+     */
+    @Test
+    public void testSigmaNul() {
+        float[] bruit = new float[100];
+        new GenerateurBruitZiggurat().remplir(bruit, 10, 80, 0.0);
+        for (float b : bruit) {
+            assertEquals(0.0f, b, 0.0f);
+        }
+    }
+}
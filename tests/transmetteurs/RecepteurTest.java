@@ -157,6 +157,34 @@ public class RecepteurTest {
         // Verify the output
         assertEquals(expectedInformation, mockDestination.getInformationRecue());
     }
+    /**
+     * Test that blocks whose size is not a multiple of the samples per bit
+     * are demodulated like the whole signal.
+     */
+    @Test
+    public void testFluxBlocsNonAlignes() throws InformationNonConformeException {
+        Information<Float> infoAnalogique = new Information<>();
+        boolean[] bits = {true, false, false, true, false};
+        for (boolean bit : bits) {
+            for (int i = 0; i < nbEchantillonsParBit; i++) {
+                infoAnalogique.add(bit ? Amax : Amin);
+            }
+        }
+
+        MockDestination<Boolean> mockDestination = new MockDestination<>();
+        recepteur.connecter(mockDestination);
+        for (int debut = 0; debut < infoAnalogique.nbElements(); debut += 7) {
+            recepteur.recevoirBloc(infoAnalogique.extraire(debut, Math.min(7, infoAnalogique.nbElements() - debut)));
+        }
+        recepteur.terminerFlux();
+
+        Information<Boolean> received = mockDestination.getInformationRecue();
+        assertEquals(bits.length, received.nbElements());
+        for (int i = 0; i < bits.length; i++) {
+            assertEquals(bits[i], received.iemeElement(i));
+        }
+    }
+
 	/**
 	 * Test main method.
 	 */
@@ -0,0 +1,85 @@
+package transmetteurs;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ReponseImpulsionnelleTest {
+
+    /**
+     * Builds a response with many random taps.
+     */
+    private ReponseImpulsionnelle reponseDense(int nbCoefficients, int retardMax, long germe) {
+        Random random = new Random(germe);
+        int[] retards = new int[nbCoefficients];
+        float[] gains = new float[nbCoefficients];
+        gains[0] = 1.0f;
+        for (int k = 1; k < nbCoefficients; k++) {
+            retards[k] = random.nextInt(retardMax + 1);
+            gains[k] = random.nextFloat() * 0.1f;
+        }
+        return new ReponseImpulsionnelle(retards, gains);
+    }
+
+    private float[] signalAleatoire(int n, long germe) {
+        Random random = new Random(germe);
+        float[] signal = new float[n];
+        for (int i = 0; i < n; i++) {
+            signal[i] = (float) random.nextGaussian();
+        }
+        return signal;
+    }
+
+    /**
+     * Test that the FFT overlap-add and the direct convolution agree, with and without past samples.
+     */
+    @Test
+    public void testFFTIdentiqueADirect() {
+        ReponseImpulsionnelle reponse = reponseDense(200, 700, 1);
+        float[] signal = signalAleatoire(10000, 2);
+        for (int debut : new int[]{0, 300, 5000}) {
+            float[] direct = reponse.convoluerDirect(signal, debut, 4000);
+            float[] fft = reponse.convoluerFFT(signal, debut, 4000);
+            for (int i = 0; i < direct.length; i++) {
+                assertEquals(direct[i], fft[i], 1e-4);
+            }
+        }
+    }
+
+    /**
+     * Test the automatic choice between direct and FFT convolution.
+     */
+    @Test
+    public void testChoixFFT() {
+        List<float[]> trajets = new ArrayList<>();
+        trajets.add(new float[]{3, 0.5f});
+        trajets.add(new float[]{5000, 0.2f});
+        assertFalse(ReponseImpulsionnelle.depuisTrajets(trajets).utiliseFFT());
+        assertTrue(reponseDense(500, 1000, 3).utiliseFFT());
+    }
+
+    /**
+     * Test the response built from multi-path trajectories.
+     */
+    @Test
+    public void testDepuisTrajets() {
+        List<float[]> trajets = new ArrayList<>();
+        trajets.add(new float[]{2, 0.5f});
+        ReponseImpulsionnelle reponse = ReponseImpulsionnelle.depuisTrajets(trajets);
+        assertEquals(2, reponse.getNbCoefficients());
+        assertEquals(2, reponse.getRetardMax());
+        assertArrayEquals(new float[]{1, 2, 3.5f, 5}, reponse.convoluer(new float[]{1, 2, 3, 4}, 0, 4), 0.0f);
+    }
+
+    /**
+     * Test that a negative delay is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRetardNegatif() {
+        new ReponseImpulsionnelle(new int[]{0, -1}, new float[]{1, 0.5f});
+    }
+}
@@ -0,0 +1,82 @@
+package transmetteurs;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class StatistiquesBruitTest {
+
+    /**
+     * Test mean, variance, extremes and histogram counts on a small known set.
+     */
+    @Test
+    public void testValeursConnues() {
+        StatistiquesBruit statistiques = new StatistiquesBruit(0.0, 4.0, 4);
+        statistiques.ajouter(new float[]{1, 2, 3, 4, -1}, 0, 5);
+        assertEquals(5, statistiques.getNombre());
+        assertEquals(1.8, statistiques.getMoyenne(), 1e-12);
+        assertEquals(3.7, statistiques.getVariance(), 1e-12);
+        assertEquals(-1.0, statistiques.getMin(), 0.0);
+        assertEquals(4.0, statistiques.getMax(), 0.0);
+        assertArrayEquals(new long[]{0, 1, 1, 1}, statistiques.getHistogramme());
+        assertEquals(2, statistiques.getHorsHistogramme());
+        assertEquals(2.0, statistiques.getQuantile(0.5), 0.0);
+    }
+
+    /**
+     * Test that the quantile estimates follow a normal distribution.
+     */
+    @Test
+    public void testQuantilesGaussiens() {
+        StatistiquesBruit statistiques = new StatistiquesBruit(-4.0, 4.0, 80);
+        Random random = new Random(1);
+        for (int i = 0; i < 200_000; i++) {
+            statistiques.ajouter(random.nextGaussian());
+        }
+        assertEquals(0.0, statistiques.getQuantile(0.5), 0.02);
+        assertEquals(-0.6745, statistiques.getQuantile(0.25), 0.02);
+        assertEquals(1.6449, statistiques.getQuantile(0.95), 0.03);
+        assertEquals(2.3263, statistiques.getQuantile(0.99), 0.05);
+        long total = 0;
+        for (long effectif : statistiques.getHistogramme()) {
+            total += effectif;
+        }
+        assertEquals(statistiques.getNombre(), total + statistiques.getHorsHistogramme());
+    }
+
+    /**
+     * Test the CSV export of the histogram and of the summary.
+     */
+    @Test
+    public void testExportCSV() throws Exception {
+        StatistiquesBruit statistiques = new StatistiquesBruit(-1.0, 1.0, 10);
+        statistiques.ajouter(new float[]{-0.95f, 0.05f, 0.15f}, 0, 3);
+        File histogramme = File.createTempFile("bruit_histogramme", ".csv");
+        File resume = File.createTempFile("bruit_resume", ".csv");
+        try {
+            statistiques.exporterHistogrammeCSV(histogramme.getPath());
+            statistiques.exporterResumeCSV(resume.getPath());
+            List<String> lignes = Files.readAllLines(histogramme.toPath());
+            assertEquals(11, lignes.size());
+            assertEquals("Borne inf,Borne sup,Effectif", lignes.get(0));
+            assertTrue(lignes.get(1).endsWith(",1"));
+            assertTrue(Files.readAllLines(resume.toPath()).contains("Nombre,3"));
+        } finally {
+            histogramme.delete();
+            resume.delete();
+        }
+    }
+
+    /**
+     * Test that an unknown quantile is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testQuantileNonSuivi() {
+        new StatistiquesBruit(-1.0, 1.0, 10).getQuantile(0.3);
+    }
+}
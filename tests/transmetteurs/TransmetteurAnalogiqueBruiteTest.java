@@ -4,6 +4,9 @@ import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import information.*;
+import destinations.MockDestination;
+
+import java.util.Random;
 
 public class TransmetteurAnalogiqueBruiteTest {
 
@@ -221,6 +224,161 @@ public class TransmetteurAnalogiqueBruiteTest {
                     signalBruit1.iemeElement(i), signalBruit2.iemeElement(i), 0.0001);
         }
     }
+    /**
+     * Test that two transmitters with the same seed add the same noise.
+     */
+    @Test
+    public void testNoiseWithSeed() throws Exception {
+        TransmetteurAnalogiqueBruite transmetteur1 = new TransmetteurAnalogiqueBruite(snr, nbEchantillonsParBit, 5);
+        TransmetteurAnalogiqueBruite transmetteur2 = new TransmetteurAnalogiqueBruite(snr, nbEchantillonsParBit, 5);
+        transmetteur1.recevoir(signalOriginal);
+        transmetteur2.recevoir(signalOriginal);
+        assertEquals(transmetteur1.getInformationEmise(), transmetteur2.getInformationEmise());
+    }
+    /**
+     * Test that reseeding, changing the SNR and reusing the output buffer behave like a new transmitter.
+     */
+    @Test
+    public void testReinitialisation() throws Exception {
+        TransmetteurAnalogiqueBruite reutilise = new TransmetteurAnalogiqueBruite(0.0, nbEchantillonsParBit, 1);
+        reutilise.setReutilisationTampon(true);
+        reutilise.recevoir(signalOriginal);
+        reutilise.setSnr(snr);
+        reutilise.setGerme(5L);
+        reutilise.recevoir(signalOriginal);
+        assertEquals(snr, reutilise.getSnr());
+
+        TransmetteurAnalogiqueBruite nouveau = new TransmetteurAnalogiqueBruite(snr, nbEchantillonsParBit, 5);
+        nouveau.recevoir(signalOriginal);
+        assertEquals(nouveau.getInformationEmise(), reutilise.getInformationEmise());
+    }
+    /**
+     * Test that noise statistics are only collected when enabled.
+     */
+    @Test
+    public void testStatistiquesBruit() throws Exception {
+        assertNull(transmetteur.getStatistiquesBruit());
+        StatistiquesBruit statistiques = new StatistiquesBruit(-1.0, 1.0, 50);
+        transmetteur.setStatistiquesBruit(statistiques);
+        transmetteur.recevoir(signalOriginal);
+        assertEquals(signalOriginal.nbElements(), statistiques.getNombre());
+        double puissanceBruit = transmetteur.calculerPuissanceBruit(signalOriginal, transmetteur.getInformationEmise());
+        assertEquals(puissanceBruit, statistiques.getVariance() + statistiques.getMoyenne() * statistiques.getMoyenne(), 0.01);
+    }
+    /**
+     * Test that the measured powers and SNR match the signal, the added noise and the target SNR.
+     */
+    @Test
+    public void testMesureCanal() throws Exception {
+        assertNull(transmetteur.getMesure());
+        transmetteur.recevoir(signalOriginal);
+        MesureCanal mesure = transmetteur.getMesure();
+        assertEquals(signalOriginal.nbElements(), mesure.getNbEchantillons());
+        assertEquals(1.0, mesure.getPuissanceSignal(), 1e-9);
+        assertEquals(transmetteur.calculerPuissanceBruit(signalOriginal, transmetteur.getInformationEmise()),
+                mesure.getPuissanceBruit(), 1e-4);
+        assertEquals(Math.sqrt(0.1), mesure.getSigma(), 1e-9);
+        assertEquals(snr, mesure.getSnrCible(), 0.0);
+        assertEquals(snr, mesure.getSnrMesure(), 1.5);
+        assertEquals(mesure.getSnrMesure() + 10 * Math.log10(nbEchantillonsParBit / 2.0), mesure.getEbN0Mesure(), 1e-9);
+    }
+
+    /**
+     * Test that a stream shorter than the measurement window is held back until its end,
+     * noised like the whole message, and that the measures cover the whole stream.
+     */
+    @Test
+    public void testMesureCanalFlux() throws Exception {
+        transmetteur.setGerme(6L);
+        Information<Float> attendu = transmetteur.ajouterBruit(signalOriginal);
+        MesureCanal mesureComplet = transmetteur.getMesure();
+        transmetteur.setGerme(6L);
+        MockDestination<Float> destination = new MockDestination<>();
+        transmetteur.connecter(destination);
+        transmetteur.recevoirBloc(signalOriginal.extraire(0, 100));
+        transmetteur.recevoirBloc(signalOriginal.extraire(100, 200));
+        // Nothing is noised nor measured before the end of the stream
+        assertSame(mesureComplet, transmetteur.getMesure());
+        transmetteur.terminerFlux();
+        assertEquals(signalOriginal.nbElements(), transmetteur.getMesure().getNbEchantillons());
+        assertEquals(1.0, transmetteur.getMesure().getPuissanceSignal(), 1e-9);
+        assertEquals(attendu, destination.getInformationRecue());
+    }
+
+    /**
+     * Test that the noise of a stream longer than the measurement window does not depend
+     * on the block size, even when the signal power changes along the stream.
+     */
+    @Test
+    public void testFluxIndependantDesBlocs() throws Exception {
+        Random random = new Random(8);
+        float[] echantillons = new float[150000];
+        for (int i = 0; i < echantillons.length; i++) {
+            echantillons[i] = (float) random.nextGaussian() * (1 + i / 50000);
+        }
+        Information<Float> signal = new SampleInformation(echantillons, echantillons.length);
+        Information<Float> reference = null;
+        for (int tailleBloc : new int[]{1000, 777, 4096, 150000}) {
+            TransmetteurAnalogiqueBruite bruite = new TransmetteurAnalogiqueBruite(snr, nbEchantillonsParBit);
+            bruite.setGerme(9L);
+            MockDestination<Float> destination = new MockDestination<>();
+            bruite.connecter(destination);
+            for (int debut = 0; debut < echantillons.length; debut += tailleBloc) {
+                bruite.recevoirBloc(signal.extraire(debut, Math.min(tailleBloc, echantillons.length - debut)));
+            }
+            bruite.terminerFlux();
+            assertEquals(echantillons.length, bruite.getMesure().getNbEchantillons());
+            if (reference == null) {
+                reference = destination.getInformationRecue();
+            } else {
+                assertEquals("bloc " + tailleBloc, reference, destination.getInformationRecue());
+            }
+        }
+    }
+    /**
+     * Test importance sampling: without shift the noise and weights are unchanged, with a
+     * shift to the threshold about half of the bits are wrong and the weights are below 1.
+     */
+    @Test
+    public void testEchantillonnageImportance() throws Exception {
+        Information<Float> signal = new Information<>();
+        for (int i = 0; i < 30 * 1000; i++) {
+            signal.add(1.0f);
+        }
+        FiltreAdapte filtre = FiltreAdapte.pour(-1.0f, 1.0f, 30, "NRZ");
+
+        transmetteur.setGerme(5L);
+        Information<Float> attendu = transmetteur.ajouterBruit(signal);
+        assertNull(transmetteur.getPoids());
+        transmetteur.setGerme(5L);
+        transmetteur.setEchantillonnageImportance(filtre, 0.0);
+        Information<Float> sansDecalage = transmetteur.ajouterBruit(signal);
+        for (int i = 0; i < signal.nbElements(); i++) {
+            assertEquals(attendu.iemeElement(i), sansDecalage.iemeElement(i), 1e-6f);
+        }
+        for (double poids : transmetteur.getPoids()) {
+            assertEquals(1.0, poids, 0.0);
+        }
+
+        transmetteur.setEchantillonnageImportance(filtre, 1.0);
+        float[] bruite = SampleInformation.depuis(transmetteur.ajouterBruit(signal)).getEchantillons();
+        double[] poids = transmetteur.getPoids();
+        assertEquals(1000, poids.length);
+        int nbErreurs = 0;
+        for (int b = 0; b < 1000; b++) {
+            if (filtre.correler(bruite, 30 * b) < filtre.getSeuil()) {
+                nbErreurs++;
+                assertTrue(poids[b] < 1.0);
+            }
+        }
+        assertEquals(500, nbErreurs, 60);
+
+        assertThrows(IllegalArgumentException.class, () -> transmetteur.setEchantillonnageImportance(filtre, -1.0));
+        assertThrows(IllegalStateException.class, () -> transmetteur.recevoirBloc(signal.extraire(0, 300)));
+        transmetteur.setEchantillonnageImportance(null, 0.0);
+        assertNull(transmetteur.getPoids());
+    }
+
 	/**
 	 * Test the main method of the class.
 	 */
@@ -213,20 +213,33 @@ public class TransmetteurAnalogiqueMultiTrajetTest {
     }
 
     /**
-     * Test with more than the maximum allowed number of multi-path trajectories (6).
-     * @throws IllegalArgumentException
+     * Test with hundreds of multi-path trajectories, compared with a naive convolution.
      */
-    @Test(expected = IllegalArgumentException.class)
-    public void testMoreThanMaximumTrajectories() throws InformationNonConformeException {
-        List<float[]> trajetsMax = new ArrayList<>();
-        trajetsMax.add(new float[]{1, 0.5f});
-        trajetsMax.add(new float[]{2, 0.3f});
-        trajetsMax.add(new float[]{3, 0.2f});
-        trajetsMax.add(new float[]{4, 0.1f});
-        trajetsMax.add(new float[]{5, 0.05f});
-        trajetsMax.add(new float[]{6, 0.01f});  // More than the maximum allowed
+    @Test
+    public void testManyTrajectories() throws InformationNonConformeException {
+        List<float[]> trajets = new ArrayList<>();
+        for (int k = 1; k <= 300; k++) {
+            trajets.add(new float[]{2 * k, 0.5f / k});
+        }
+        transmetteur = new TransmetteurAnalogiqueMultiTrajet(trajets);
 
-        new TransmetteurAnalogiqueMultiTrajet(trajetsMax);  // Should throw exception
+        Information<Float> informationAnalogique = new Information<>();
+        for (int i = 0; i < 5000; i++) {
+            informationAnalogique.add((float) Math.sin(i * 0.01));
+        }
+        transmetteur.recevoir(informationAnalogique);
+        Information<Float> actualSignal = transmetteur.getInformationEmise();
+
+        for (int i = 0; i < informationAnalogique.nbElements(); i++) {
+            double attendu = informationAnalogique.iemeElement(i);
+            for (float[] trajet : trajets) {
+                int dt = (int) trajet[0];
+                if (i >= dt) {
+                    attendu += trajet[1] * informationAnalogique.iemeElement(i - dt);
+                }
+            }
+            assertEquals(attendu, actualSignal.iemeElement(i), 1e-4);
+        }
     }
 
 
@@ -325,6 +338,32 @@ public class TransmetteurAnalogiqueMultiTrajetTest {
         assertEquals(informationAnalogique, mockDestination.getInformationRecue());
     }
 
+    /**
+     * Test que le traitement par blocs (ligne à retard conservée entre les blocs)
+     * donne le même signal que le traitement du signal complet
+     */
+    @Test
+    public void testFluxIdentiqueAuSignalComplet() throws InformationNonConformeException {
+        Information<Float> signal = new Information<>();
+        for (int i = 0; i < 23; i++) {
+            signal.add((float) Math.sin(i));
+        }
+        Information<Float> attendu = transmetteur.ajouterTrajetsMultiples(signal);
+
+        MockDestination<Float> mockDestination = new MockDestination<>();
+        transmetteur.connecter(mockDestination);
+        for (int debut = 0; debut < signal.nbElements(); debut += 2) {
+            transmetteur.recevoirBloc(signal.extraire(debut, Math.min(2, signal.nbElements() - debut)));
+        }
+        transmetteur.terminerFlux();
+
+        Information<Float> actualSignal = mockDestination.getInformationRecue();
+        assertEquals(attendu.nbElements(), actualSignal.nbElements());
+        for (int i = 0; i < attendu.nbElements(); i++) {
+            assertEquals(attendu.iemeElement(i), actualSignal.iemeElement(i), 0.0f);
+        }
+    }
+
     /**
      * Test with invalid parameters (negative dt).
      */
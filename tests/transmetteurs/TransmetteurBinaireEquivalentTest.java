@@ -0,0 +1,84 @@
+package transmetteurs;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import destinations.DestinationFinale;
+import information.*;
+import simulateur.EvaluateurTEB;
+
+import java.util.Random;
+
+public class TransmetteurBinaireEquivalentTest {
+
+    private static BitInformation bitsAleatoires(int nbBits, long germe) {
+        Random random = new Random(germe);
+        Information<Boolean> bits = new Information<>();
+        for (int i = 0; i < nbBits; i++) {
+            bits.add(random.nextBoolean());
+        }
+        return BitInformation.depuis(bits);
+    }
+
+    private static int compterErreurs(Information<Boolean> emis, Information<Boolean> recus) {
+        int erreurs = 0;
+        for (int i = 0; i < emis.nbElements(); i++) {
+            if (!emis.iemeElement(i).equals(recus.iemeElement(i))) {
+                erreurs++;
+            }
+        }
+        return erreurs;
+    }
+
+    /**
+     * Test that the bit error rate matches the analytic BER of the sampled chain, for NRZ and RZ.
+     */
+    @Test
+    public void testTebConformeAuModeleAnalytique() throws Exception {
+        int nbBits = 200000;
+        BitInformation bits = bitsAleatoires(nbBits, 1L);
+        for (String type : new String[]{"NRZ", "RZ"}) {
+            double snr = -8.0; // SNR par échantillon
+            TransmetteurBinaireEquivalent transmetteur = new TransmetteurBinaireEquivalent(-1.0f, 1.0f, 30, type, snr);
+            transmetteur.setGerme(2L);
+            DestinationFinale destination = new DestinationFinale();
+            transmetteur.connecter(destination);
+            transmetteur.recevoir(bits);
+
+            double teb = new EvaluateurTEB(type, -1.0f, 1.0f, 30, false).tebSnr(snr);
+            double ecartType = Math.sqrt(teb * (1 - teb) / nbBits);
+            double tebMesure = compterErreurs(bits, destination.getInformationRecue()) / (double) nbBits;
+            assertEquals(type, teb, tebMesure, 5 * ecartType);
+        }
+    }
+
+    /**
+     * Test that the same seed gives the same bits, and that the noiseless limit is error-free.
+     */
+    @Test
+    public void testReproductibiliteEtSansBruit() throws Exception {
+        BitInformation bits = bitsAleatoires(10000, 3L);
+        TransmetteurBinaireEquivalent transmetteur = new TransmetteurBinaireEquivalent(0.0f, 1.0f, 10, "NRZ", 0.0);
+        DestinationFinale destination = new DestinationFinale();
+        transmetteur.connecter(destination);
+        transmetteur.setGerme(4L);
+        transmetteur.recevoir(bits);
+        Information<Boolean> premiers = destination.getInformationRecue();
+        transmetteur.setGerme(4L);
+        transmetteur.recevoir(bits);
+        assertEquals(premiers, destination.getInformationRecue());
+        assertTrue(compterErreurs(bits, premiers) > 0);
+
+        transmetteur.setSnr(200.0);
+        transmetteur.recevoir(bits);
+        assertEquals(0, compterErreurs(bits, destination.getInformationRecue()));
+    }
+
+    /**
+     * Test that modulations whose waveform depends on neighbouring bits are rejected.
+     */
+    @Test
+    public void testNRZTRefuse() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TransmetteurBinaireEquivalent(-1.0f, 1.0f, 30, "NRZT", 0.0));
+    }
+}
@@ -0,0 +1,143 @@
+package transmetteurs;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import destinations.DestinationFinale;
+import information.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class TransmetteurFusionneTest {
+
+    private static BitInformation bitsAleatoires(int nbBits, long germe) {
+        Random random = new Random(germe);
+        Information<Boolean> bits = new Information<>();
+        for (int i = 0; i < nbBits; i++) {
+            bits.add(random.nextBoolean());
+        }
+        return BitInformation.depuis(bits);
+    }
+
+    /**
+     * Transmits the bits through the separate Emetteur, multipath, noise and Recepteur stages.
+     */
+    private static Information<Boolean> transmettreSepare(BitInformation bits, String type, int nbEch,
+                                                          List<float[]> trajets, Double snr, long germe) throws Exception {
+        Emetteur emetteur = new Emetteur(-1.0f, 1.0f, nbEch, type);
+        Recepteur recepteur = new Recepteur(-1.0f, 1.0f, nbEch, type);
+        DestinationFinale destination = new DestinationFinale();
+        List<Transmetteur<Float, Float>> canal = new ArrayList<>();
+        if (!trajets.isEmpty()) {
+            canal.add(new TransmetteurAnalogiqueMultiTrajet(trajets));
+        }
+        if (snr != null) {
+            TransmetteurAnalogiqueBruite bruite = new TransmetteurAnalogiqueBruite(snr, nbEch);
+            bruite.setGerme(germe);
+            canal.add(bruite);
+        }
+        if (canal.isEmpty()) {
+            emetteur.connecter(recepteur);
+        } else {
+            emetteur.connecter(canal.get(0));
+            for (int i = 1; i < canal.size(); i++) {
+                canal.get(i - 1).connecter(canal.get(i));
+            }
+            canal.get(canal.size() - 1).connecter(recepteur);
+        }
+        recepteur.connecter(destination);
+        emetteur.recevoir(bits);
+        return destination.getInformationRecue();
+    }
+
+    private static Information<Boolean> transmettreFusionne(BitInformation bits, String type, int nbEch,
+                                                            List<float[]> trajets, Double snr, long germe) throws Exception {
+        TransmetteurFusionne fusionne = new TransmetteurFusionne(-1.0f, 1.0f, nbEch, type,
+                trajets.isEmpty() ? null : ReponseImpulsionnelle.depuisTrajets(trajets), snr);
+        fusionne.setGerme(germe);
+        DestinationFinale destination = new DestinationFinale();
+        fusionne.connecter(destination);
+        fusionne.recevoir(bits);
+        return destination.getInformationRecue();
+    }
+
+    /**
+     * Test that the fused chain decides exactly the same bits as the separate stages,
+     * including multipath delays longer than a block and messages ending in a partial block.
+     */
+    @Test
+    public void testMemesBitsQueLesEtagesSepares() throws Exception {
+        List<float[]> sansTrajet = new ArrayList<>();
+        List<float[]> trajets = new ArrayList<>();
+        trajets.add(new float[]{7, 0.5f});
+        trajets.add(new float[]{45, 0.3f});
+        List<float[]> trajetLong = new ArrayList<>();
+        trajetLong.add(new float[]{700, 0.8f});
+
+        BitInformation bits = bitsAleatoires(1000, 1L);
+        for (String type : new String[]{"NRZ", "NRZT", "RZ"}) {
+            for (List<float[]> t : List.of(sansTrajet, trajets, trajetLong)) {
+                for (Double snr : new Double[]{null, 3.0, -5.0}) {
+                    Information<Boolean> attendu = transmettreSepare(bits, type, 5, t, snr, 9L);
+                    assertEquals(type + " " + t.size() + " " + snr, attendu, transmettreFusionne(bits, type, 5, t, snr, 9L));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that the correlations of one noise realization give, at each SNR, the error rate of
+     * the fused chain, with errors only disappearing as the SNR grows (common random numbers).
+     */
+    @Test
+    public void testCorrelationsGrille() throws Exception {
+        BitInformation bits = bitsAleatoires(50000, 2L);
+        TransmetteurFusionne fusionne = new TransmetteurFusionne(-1.0f, 1.0f, 10, "NRZ", null, null);
+        fusionne.setGerme(3L);
+        CorrelationsCanal correlations = fusionne.correler(bits);
+        assertEquals(50000, correlations.getNbBits());
+        assertEquals(1.0, correlations.getPuissanceSignal(), 1e-9);
+
+        BitInformation precedents = null;
+        for (double snr = -12.0; snr <= 0.0; snr += 3.0) {
+            BitInformation recus = correlations.decider(snr);
+            int erreurs = 0;
+            for (int i = 0; i < bits.nbElements(); i++) {
+                boolean erreur = bits.getBit(i) != recus.getBit(i);
+                if (erreur) {
+                    erreurs++;
+                    // Une erreur à un SNR l'est aussi à tous les SNR plus faibles
+                    assertTrue(precedents == null || bits.getBit(i) != precedents.getBit(i));
+                }
+            }
+            double teb = new simulateur.EvaluateurTEB("NRZ", -1.0f, 1.0f, 10, false).tebSnr(snr);
+            assertEquals(teb, erreurs / 50000.0, 5 * Math.sqrt(teb * (1 - teb) / 50000));
+            precedents = recus;
+        }
+        assertThrows(InformationNonConformeException.class, () -> fusionne.correler(new BitInformation(1)));
+    }
+
+    /**
+     * Test that the fused chain is reusable across messages and rejects streaming and unknown modulations.
+     */
+    @Test
+    public void testReutilisationEtRefus() throws Exception {
+        List<float[]> trajets = new ArrayList<>();
+        trajets.add(new float[]{12, 0.4f});
+        TransmetteurFusionne fusionne = new TransmetteurFusionne(-1.0f, 1.0f, 10, "NRZT",
+                ReponseImpulsionnelle.depuisTrajets(trajets), 2.0);
+        DestinationFinale destination = new DestinationFinale();
+        fusionne.connecter(destination);
+        for (int nbBits : new int[]{300, 17, 300}) {
+            BitInformation bits = bitsAleatoires(nbBits, nbBits);
+            fusionne.setGerme(4L);
+            fusionne.recevoir(bits);
+            assertEquals(transmettreSepare(bits, "NRZT", 10, trajets, 2.0, 4L), destination.getInformationRecue());
+        }
+        assertThrows(IllegalStateException.class, () -> fusionne.recevoirBloc(bitsAleatoires(10, 1L)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TransmetteurFusionne(-1.0f, 1.0f, 10, "AMI", null, 2.0));
+        assertThrows(InformationNonConformeException.class, () -> fusionne.recevoir(null));
+    }
+}